@@ -69,6 +69,7 @@ dependencies {
     implementation ("org.springframework.boot:spring-boot-starter-data-redis")
     implementation ("org.springframework.boot:spring-boot-starter-cache")
     implementation ("io.lettuce:lettuce-core")
+    implementation ("com.github.ben-manes.caffeine:caffeine")
 
     //configuration
     annotationProcessor ("org.springframework.boot:spring-boot-configuration-processor")
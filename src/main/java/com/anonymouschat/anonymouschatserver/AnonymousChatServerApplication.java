@@ -1,6 +1,12 @@
 package com.anonymouschat.anonymouschatserver;
 
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.MessageWriteBehindProperties;
 import com.anonymouschat.anonymouschatserver.infra.config.OAuthTokenProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketHeartbeatProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketOutboundProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketRateLimitProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketReadReceiptProperties;
 import com.anonymouschat.anonymouschatserver.infra.security.jwt.JwtProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
@@ -9,7 +15,13 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 @SpringBootApplication
 @EnableConfigurationProperties({
 		JwtProperties.class,
-		OAuthTokenProperties.class
+		OAuthTokenProperties.class,
+		MessageWriteBehindProperties.class,
+		ClusterProperties.class,
+		WebSocketOutboundProperties.class,
+		WebSocketHeartbeatProperties.class,
+		WebSocketRateLimitProperties.class,
+		WebSocketReadReceiptProperties.class
 })
 public class AnonymousChatServerApplication {
 
@@ -0,0 +1,110 @@
+package com.anonymouschat.anonymouschatserver.application.cache;
+
+import com.anonymouschat.anonymouschatserver.common.util.ConcurrentLongSet;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 차단 관계(내가 차단한 ID / 나를 차단한 ID)를 {@link ConcurrentLongSet}으로 보관하는 캐시입니다.
+ * 한 사용자의 항목만으로 양방향 차단 여부를 판정할 수 있어 채팅 전송/방 생성 경로에서 DB를 거치지 않습니다.
+ * 항목은 조회 시 지연 적재되고, 차단/해제가 커밋되면 적재된 항목에 바로 반영됩니다.
+ * 상한에 도달하면 가장 오래 조회되지 않은 사용자부터 제거합니다.
+ */
+@Component
+public class BlockGraphCache {
+	static final int MAX_USERS = 50_000;
+
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong clock = new AtomicLong();
+	// 차단 관계가 바뀔 때마다 증가. 변경 이전에 읽은 적재 결과가 나중에 덮어쓰지 못하게 합니다.
+	private final AtomicLong generation = new AtomicLong();
+
+	/**
+	 * 적재된 항목이 있으면 양방향 차단 여부를, 없으면 null 을 반환합니다.
+	 */
+	public Boolean isBlocked(Long userId, Long otherId) {
+		Entry entry = entries.get(userId);
+		if (entry == null) {
+			return null;
+		}
+		entry.lastAccess = clock.incrementAndGet();
+		long other = otherId;
+		return entry.blocked.contains(other) || entry.blockedBy.contains(other);
+	}
+
+	/**
+	 * 적재를 시작하기 전에 호출해 현재 세대를 얻습니다.
+	 */
+	public long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * DB에서 읽은 차단 관계를 적재합니다. 읽는 동안 차단 관계가 바뀌었다면 적재하지 않습니다.
+	 */
+	public void put(Long userId, long[] blockedIds, long[] blockedByIds, long loadedGeneration) {
+		if (generation.get() != loadedGeneration) {
+			return;
+		}
+		if (entries.size() >= MAX_USERS && !entries.containsKey(userId)) {
+			evictColdest();
+		}
+		Entry entry = new Entry(blockedIds, blockedByIds);
+		entry.lastAccess = clock.incrementAndGet();
+		entries.put(userId, entry);
+	}
+
+	/**
+	 * 차단/해제를 적재된 양쪽 사용자 항목에 반영합니다.
+	 */
+	public void apply(Long blockerId, Long blockedId, boolean blocked) {
+		generation.incrementAndGet();
+		Entry blockerEntry = entries.get(blockerId);
+		if (blockerEntry != null) {
+			if (blocked) blockerEntry.blocked.add(blockedId.longValue());
+			else blockerEntry.blocked.remove(blockedId.longValue());
+		}
+		Entry blockedEntry = entries.get(blockedId);
+		if (blockedEntry != null) {
+			if (blocked) blockedEntry.blockedBy.add(blockerId.longValue());
+			else blockedEntry.blockedBy.remove(blockerId.longValue());
+		}
+	}
+
+	/**
+	 * 다른 노드에서 바뀐 차단 관계처럼 내용을 알 수 없는 변경은 양쪽 항목을 제거해 다시 적재되게 합니다.
+	 */
+	public void evict(Long blockerId, Long blockedId) {
+		generation.incrementAndGet();
+		entries.remove(blockerId);
+		entries.remove(blockedId);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	// 마지막 조회 시각 기준으로 가장 오래된 1/8 을 비웁니다. 비워진 사용자는 다음 조회 때 한 번만 다시 적재됩니다.
+	private void evictColdest() {
+		long[] accessed = entries.values().stream().mapToLong(entry -> entry.lastAccess).sorted().toArray();
+		if (accessed.length == 0) {
+			return;
+		}
+		long threshold = accessed[Math.min(accessed.length - 1, Math.max(1, MAX_USERS / 8) - 1)];
+		entries.values().removeIf(entry -> entry.lastAccess <= threshold);
+	}
+
+	private static final class Entry {
+		final ConcurrentLongSet blocked = new ConcurrentLongSet();
+		final ConcurrentLongSet blockedBy = new ConcurrentLongSet();
+		volatile long lastAccess;
+
+		Entry(long[] blockedIds, long[] blockedByIds) {
+			for (long id : blockedIds) blocked.add(id);
+			for (long id : blockedByIds) blockedBy.add(id);
+		}
+	}
+}
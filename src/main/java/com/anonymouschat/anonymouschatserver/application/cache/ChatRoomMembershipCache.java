@@ -0,0 +1,49 @@
+package com.anonymouschat.anonymouschatserver.application.cache;
+
+import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅방 참여자 쌍을 메모리에 보관하는 멤버십 캐시입니다.
+ * 참여자(user1/user2)는 방 생성 이후 바뀌지 않으므로 만료 없이 보관하고, 방이 완전히 종료(archive)될 때만 제거합니다.
+ * 재연결이나 탭 전환마다 반복되는 ENTER 요청이 DB를 거치지 않고 판정됩니다.
+ */
+@Component
+public class ChatRoomMembershipCache {
+	static final int MAX_ENTRIES = 100_000;
+
+	private final Map<Long, ChatRoomServiceDto.ParticipantPair> pairs = new ConcurrentHashMap<>();
+
+	public ChatRoomServiceDto.ParticipantPair get(Long roomId) {
+		return pairs.get(roomId);
+	}
+
+	public void put(ChatRoomServiceDto.ParticipantPair pair) {
+		if (pairs.size() >= MAX_ENTRIES && !pairs.containsKey(pair.roomId())) {
+			trim();
+		}
+		pairs.put(pair.roomId(), pair);
+	}
+
+	public void evict(Long roomId) {
+		pairs.remove(roomId);
+	}
+
+	public int size() {
+		return pairs.size();
+	}
+
+	// 상한에 도달하면 일부(1/8)를 비웁니다. 비워진 방은 다음 ENTER 때 한 번만 다시 조회됩니다.
+	private void trim() {
+		int toRemove = Math.max(1, MAX_ENTRIES / 8);
+		Iterator<Long> it = pairs.keySet().iterator();
+		while (it.hasNext() && toRemove-- > 0) {
+			it.next();
+			it.remove();
+		}
+	}
+}
@@ -19,4 +19,24 @@ public class ChatRoomServiceDto {
 		@QueryProjection
 		public SummaryResult {}
 	}
+
+	/**
+	 * 채팅방 참여자 쌍입니다. 참여자는 방 생성 이후 바뀌지 않으므로 멤버십 캐시에 그대로 보관합니다.
+	 */
+	public record ParticipantPair(
+			Long roomId,
+			Long leftId,
+			Long rightId
+	) {
+		@QueryProjection
+		public ParticipantPair {}
+
+		public boolean contains(Long userId) {
+			return leftId.equals(userId) || rightId.equals(userId);
+		}
+
+		public Long opponentOf(Long userId) {
+			return leftId.equals(userId) ? rightId : leftId;
+		}
+	}
 }
@@ -1,7 +1,5 @@
 package com.anonymouschat.anonymouschatserver.application.dto;
 
-import com.anonymouschat.anonymouschatserver.domain.entity.User;
-import com.anonymouschat.anonymouschatserver.domain.entity.UserProfileImage;
 import lombok.Builder;
 
 import java.time.Instant;
@@ -35,18 +33,14 @@ public class ChatRoomUseCaseDto {
 					       .build();
 		}
 
-		public static SummaryResponse from(Long roomId, LocalDateTime lastMessageTime, User opponent) {
+		public static SummaryResponse from(Long roomId, LocalDateTime lastMessageTime, ProfileReadModel opponent) {
 			return SummaryResponse.builder()
 					       .roomId(roomId)
-					       .opponentId(opponent.getId())
-					       .opponentNickname(opponent.getNickname())
-					       .opponentAge(opponent.getAge())
-					       .opponentRegion(opponent.getRegion().name())
-					       .opponentProfileImageUrl(opponent.getProfileImages().stream()
-							                                .filter(UserProfileImage::isRepresentative)
-							                                .findFirst()
-							                                .map(UserProfileImage::getImageUrl)
-							                                .orElse(null))
+					       .opponentId(opponent.id())
+					       .opponentNickname(opponent.nickname())
+					       .opponentAge(opponent.age())
+					       .opponentRegion(opponent.region().name())
+					       .opponentProfileImageUrl(opponent.representativeImageUrl())
 					       .lastMessageTime(lastMessageTime.toInstant(ZoneOffset.UTC))
 					       .lastMessageContent("")
 					       .unreadCnt(0L)
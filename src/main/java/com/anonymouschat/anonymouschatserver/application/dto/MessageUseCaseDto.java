@@ -4,7 +4,9 @@ import com.anonymouschat.anonymouschatserver.domain.entity.Message;
 import lombok.Builder;
 
 import java.time.Instant;
+import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
 public class MessageUseCaseDto {
 	@Builder
@@ -36,15 +38,24 @@ public class MessageUseCaseDto {
 
 	@Builder
 	public record SendMessageRequest(
+			Long messageId, // null 이면 저장 시점에 발급
 			Long roomId,
 			Long senderId,
-			String content
+			String content,
+			LocalDateTime sentAt // null 이면 저장 시점으로 기록
+	) {}
+
+	@Builder
+	public record SendMessageBatchRequest(
+			Long roomId,
+			List<SendMessageRequest> messages // 같은 채팅방의 메시지, 전송 순서대로
 	) {}
 
 	@Builder
 	public record MarkMessagesAsReadRequest(
 			Long roomId,
-			Long userId
+			Long userId,
+			Long readUpToMessageId // nullable: 수신자에게 전송했지만 아직 저장되지 않았을 수 있는 메시지 ID
 	) {}
 
 	@Builder
@@ -0,0 +1,53 @@
+package com.anonymouschat.anonymouschatserver.application.dto;
+
+import com.anonymouschat.anonymouschatserver.domain.entity.User;
+import com.anonymouschat.anonymouschatserver.domain.entity.UserProfileImage;
+import com.anonymouschat.anonymouschatserver.domain.type.Gender;
+import com.anonymouschat.anonymouschatserver.domain.type.Region;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 프로필 화면과 채팅방 헤더에 필요한 사용자 정보만 담은 조회 모델입니다.
+ * userId 기준으로 캐시되며 엔티티 대신 이 모델을 읽으므로 캐시가 채워져 있으면 DB 조회가 없습니다.
+ *
+ * @param profileImages 삭제되지 않은 이미지, 업로드 순
+ */
+public record ProfileReadModel(
+		Long id,
+		String nickname,
+		Gender gender,
+		int age,
+		Region region,
+		String bio,
+		LocalDateTime createdAt,
+		LocalDateTime lastActiveAt,
+		List<UserProfileImageDto> profileImages
+) {
+	public static ProfileReadModel of(User user, List<UserProfileImage> images) {
+		// 캐시 직렬화(JSON + 타입 정보) 시 불변 리스트 타입은 역직렬화할 수 없으므로 ArrayList 로 보관
+		List<UserProfileImageDto> imageDtos = new ArrayList<>(images.size());
+		images.forEach(image -> imageDtos.add(UserProfileImageDto.from(image)));
+		return new ProfileReadModel(
+				user.getId(),
+				user.getNickname(),
+				user.getGender(),
+				user.getAge(),
+				user.getRegion(),
+				user.getBio(),
+				user.getCreatedAt(),
+				user.getLastActiveAt(),
+				imageDtos
+		);
+	}
+
+	public String representativeImageUrl() {
+		return profileImages.stream()
+				       .filter(UserProfileImageDto::isRepresentative)
+				       .findFirst()
+				       .map(UserProfileImageDto::imageUrl)
+				       .orElse(null);
+	}
+}
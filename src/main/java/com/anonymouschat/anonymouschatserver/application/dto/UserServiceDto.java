@@ -1,13 +1,16 @@
 package com.anonymouschat.anonymouschatserver.application.dto;
 
-import com.anonymouschat.anonymouschatserver.domain.entity.User;
-import com.anonymouschat.anonymouschatserver.domain.entity.UserProfileImage;
+import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
+import com.anonymouschat.anonymouschatserver.common.exception.BadRequestException;
 import com.anonymouschat.anonymouschatserver.domain.type.Gender;
 import com.anonymouschat.anonymouschatserver.domain.type.Region;
 import com.querydsl.core.annotations.QueryProjection;
 import lombok.Builder;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
 
 public class UserServiceDto {
@@ -58,17 +61,15 @@ public class UserServiceDto {
 			Gender gender,
 			Integer minAge,
 			Integer maxAge,
-			Region region,
-			List<Long> blockedUserIds
+			Region region
 	) {
-		public static SearchCommand from(UserUseCaseDto.SearchConditionRequest dto, List<Long> blockedUserIds) {
+		public static SearchCommand from(UserUseCaseDto.SearchConditionRequest dto) {
 			return SearchCommand.builder()
 					       .id(dto.id())
 					       .gender(dto.gender())
 					       .minAge(dto.minAge())
 					       .maxAge(dto.maxAge())
 					       .region(dto.region())
-					       .blockedUserIds(blockedUserIds)
 					       .build();
 		}
 	}
@@ -85,17 +86,17 @@ public class UserServiceDto {
 			LocalDateTime lastActiveAt,
 			List<UserProfileImageDto> profileImages
 	) {
-		public static ProfileResult from(User user, List<UserProfileImage> images) {
+		public static ProfileResult from(ProfileReadModel profile) {
 			return ProfileResult.builder()
-					       .id(user.getId())
-					       .nickname(user.getNickname())
-					       .gender(user.getGender())
-					       .age(user.getAge())
-					       .region(user.getRegion())
-					       .bio(user.getBio())
-					       .createdAt(user.getCreatedAt())
-					       .lastActiveAt(user.getLastActiveAt())
-					       .profileImages(images.stream().map(UserProfileImageDto::from).toList())
+					       .id(profile.id())
+					       .nickname(profile.nickname())
+					       .gender(profile.gender())
+					       .age(profile.age())
+					       .region(profile.region())
+					       .bio(profile.bio())
+					       .createdAt(profile.createdAt())
+					       .lastActiveAt(profile.lastActiveAt())
+					       .profileImages(profile.profileImages())
 					       .build();
 		}
 	}
@@ -113,4 +114,56 @@ public class UserServiceDto {
 		@QueryProjection
 		public SearchResult {}
 	}
+
+	/**
+	 * 유저 검색 keyset 커서입니다. 마지막으로 내려준 유저의 (lastActiveAt, id) 를 담고,
+	 * 클라이언트에는 내부 구조를 드러내지 않는 불투명 토큰으로 전달합니다.
+	 */
+	public record SearchCursor(
+			LocalDateTime lastActiveAt,
+			Long userId
+	) {
+		private static final String DELIMITER = "|";
+
+		public static SearchCursor from(SearchResult result) {
+			return new SearchCursor(result.lastActiveAt(), result.userId());
+		}
+
+		public String encode() {
+			String raw = lastActiveAt + DELIMITER + userId;
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+		}
+
+		/**
+		 * 토큰을 커서로 복원합니다. 비어 있으면 첫 페이지를 의미하므로 null 을 반환합니다.
+		 */
+		public static SearchCursor decode(String token) {
+			if (token == null || token.isBlank()) {
+				return null;
+			}
+			try {
+				String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+				int delimiter = raw.lastIndexOf(DELIMITER);
+				return new SearchCursor(
+						LocalDateTime.parse(raw.substring(0, delimiter)),
+						Long.parseLong(raw.substring(delimiter + 1)));
+			} catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+				throw new BadRequestException(ErrorCode.INVALID_SEARCH_CURSOR);
+			}
+		}
+	}
+
+	/**
+	 * 커서 기반 유저 검색 결과입니다.
+	 *
+	 * @param nextCursor 다음 페이지 커서 토큰, 마지막 페이지면 null
+	 */
+	public record SearchScrollResult(
+			List<SearchResult> results,
+			String nextCursor
+	) {
+		public boolean hasNext() {
+			return nextCursor != null;
+		}
+	}
 }
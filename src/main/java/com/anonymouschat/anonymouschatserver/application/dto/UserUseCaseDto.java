@@ -150,4 +150,19 @@ public class UserUseCaseDto {
 					       .build();
 		}
 	}
+
+	@Builder
+	public record SearchScrollResponse(
+			List<SearchResponse> content,
+			String nextCursor,
+			boolean hasNext
+	) {
+		public static SearchScrollResponse from(UserServiceDto.SearchScrollResult result) {
+			return SearchScrollResponse.builder()
+					       .content(result.results().stream().map(SearchResponse::from).toList())
+					       .nextCursor(result.nextCursor())
+					       .hasNext(result.hasNext())
+					       .build();
+		}
+	}
 }
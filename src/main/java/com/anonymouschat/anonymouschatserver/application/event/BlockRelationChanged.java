@@ -0,0 +1,13 @@
+package com.anonymouschat.anonymouschatserver.application.event;
+
+/**
+ * 유저 차단 또는 차단 해제가 일어났을 때 발행되는 이벤트
+ * 커밋 이후 차단 관계 캐시 갱신과 다른 노드로의 무효화 전파에 사용됩니다.
+ *
+ * @param blocked true 면 차단, false 면 차단 해제
+ */
+public record BlockRelationChanged(
+		Long blockerId,
+		Long blockedId,
+		boolean blocked
+) {}
@@ -10,6 +10,7 @@ import java.time.Instant;
  */
 @Builder
 public record MessageStoreFailure(
+		Long messageId, // 브로드캐스트 시 클라이언트에게 전달된 ID (재시도 시에도 동일하게 사용)
 		Long roomId,
 		Long senderId,
 		String content,
@@ -21,7 +22,11 @@ public record MessageStoreFailure(
 	 * 첫 번째 실패 시 사용하는 생성자
 	 */
 	public MessageStoreFailure(Long roomId, Long senderId, String content) {
-		this(roomId, senderId, content, null, Instant.now(), 0);
+		this(null, roomId, senderId, content);
+	}
+
+	public MessageStoreFailure(Long messageId, Long roomId, Long senderId, String content) {
+		this(messageId, roomId, senderId, content, null, Instant.now(), 0);
 	}
 
 	/**
@@ -29,6 +34,7 @@ public record MessageStoreFailure(
 	 */
 	public MessageStoreFailure withRetry(String errorMessage) {
 		return MessageStoreFailure.builder()
+				       .messageId(this.messageId)
 				       .roomId(this.roomId)
 				       .senderId(this.senderId)
 				       .content(this.content)
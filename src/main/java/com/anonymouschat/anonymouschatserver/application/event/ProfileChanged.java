@@ -0,0 +1,9 @@
+package com.anonymouschat.anonymouschatserver.application.event;
+
+/**
+ * 회원 등록, 정보 수정, 탈퇴로 프로필이 바뀌었을 때 발행되는 이벤트
+ * 커밋 이후 프로필 조회 모델 캐시를 무효화하는 데 사용됩니다.
+ */
+public record ProfileChanged(
+		Long userId
+) {}
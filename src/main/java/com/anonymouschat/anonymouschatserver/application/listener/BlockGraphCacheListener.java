@@ -0,0 +1,31 @@
+package com.anonymouschat.anonymouschatserver.application.listener;
+
+import com.anonymouschat.anonymouschatserver.application.cache.BlockGraphCache;
+import com.anonymouschat.anonymouschatserver.application.event.BlockRelationChanged;
+import com.anonymouschat.anonymouschatserver.application.port.BlockGraphInvalidationPort;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 차단 관계 변경 이벤트를 처리하는 리스너입니다.
+ * 커밋된 변경만 현재 노드의 {@link BlockGraphCache}에 반영하고 다른 노드에 무효화를 전파합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlockGraphCacheListener {
+	private final BlockGraphCache blockGraphCache;
+	private final BlockGraphInvalidationPort invalidationPort;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleBlockRelationChanged(BlockRelationChanged event) {
+		blockGraphCache.apply(event.blockerId(), event.blockedId(), event.blocked());
+		invalidationPort.publish(event.blockerId(), event.blockedId());
+		log.debug("{}차단 관계 캐시 반영 - blockerId={}, blockedId={}, blocked={}",
+				LogTag.BLOCK, event.blockerId(), event.blockedId(), event.blocked());
+	}
+}
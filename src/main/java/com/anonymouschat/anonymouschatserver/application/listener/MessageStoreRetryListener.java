@@ -49,6 +49,7 @@ public class MessageStoreRetryListener {
 			Thread.sleep(delay);
 
 			Long messageId = messageUseCase.sendMessage(MessageUseCaseDto.SendMessageRequest.builder()
+					                                            .messageId(event.messageId())
 					                                            .roomId(event.roomId())
 					                                            .senderId(event.senderId())
 					                                            .content(event.content())
@@ -0,0 +1,27 @@
+package com.anonymouschat.anonymouschatserver.application.listener;
+
+import com.anonymouschat.anonymouschatserver.application.event.ProfileChanged;
+import com.anonymouschat.anonymouschatserver.application.service.ProfileReadService;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 프로필 변경 이벤트를 처리하는 리스너입니다.
+ * 커밋 이후에 캐시를 비워, 커밋 전 다른 요청이 이전 프로필을 다시 캐시하더라도 남지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileCacheListener {
+	private final ProfileReadService profileReadService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleProfileChanged(ProfileChanged event) {
+		profileReadService.evict(event.userId());
+		log.debug("{}프로필 캐시 무효화 - userId={}", LogTag.USER, event.userId());
+	}
+}
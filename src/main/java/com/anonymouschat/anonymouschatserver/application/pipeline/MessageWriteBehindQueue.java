@@ -0,0 +1,204 @@
+package com.anonymouschat.anonymouschatserver.application.pipeline;
+
+import com.anonymouschat.anonymouschatserver.application.dto.MessageUseCaseDto;
+import com.anonymouschat.anonymouschatserver.application.event.MessageStoreFailure;
+import com.anonymouschat.anonymouschatserver.application.event.PushNotificationRequired;
+import com.anonymouschat.anonymouschatserver.application.usecase.MessageUseCase;
+import com.anonymouschat.anonymouschatserver.infra.config.MessageWriteBehindProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지를 write-behind 방식으로 저장하는 파이프라인입니다.
+ * 핸들러는 브로드캐스트 직후 메시지를 큐에 넣기만 하고, 전용 워커 스레드가 큐를 비우면서
+ * 채팅방 단위로 묶어 {@link MessageUseCase#sendMessages}로 한 번에 저장합니다.
+ * 같은 채팅방의 메시지는 항상 같은 워커로 라우팅되므로 방 안의 저장 순서가 유지됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageWriteBehindQueue {
+	private final MessageUseCase messageUseCase;
+	private final ApplicationEventPublisher publisher;
+	private final MessageWriteBehindProperties properties;
+
+	private final List<BlockingQueue<PendingMessage>> shards = new ArrayList<>();
+	private final List<Thread> workers = new ArrayList<>();
+	private volatile boolean running;
+
+	/**
+	 * 저장 대기 중인 메시지입니다.
+	 *
+	 * @param messageId 브로드캐스트 시점에 미리 발급한 메시지 ID
+	 * @param noOnlineReceivers 브로드캐스트 시점에 현재 노드 전송도, 다른 노드 릴레이도 없었는지 여부 (푸시 알림 대상)
+	 */
+	public record PendingMessage(
+			Long messageId,
+			Long roomId,
+			Long senderId,
+			String content,
+			Instant sentAt,
+			boolean noOnlineReceivers
+	) {}
+
+	@PostConstruct
+	void start() {
+		int workerCount = Math.max(1, properties.getWorkers());
+		int shardCapacity = Math.max(1, properties.getQueueCapacity() / workerCount);
+
+		for (int i = 0; i < workerCount; i++) {
+			BlockingQueue<PendingMessage> shard = new ArrayBlockingQueue<>(shardCapacity);
+			shards.add(shard);
+			workers.add(Thread.ofPlatform()
+					            .name("message-writer-" + i)
+					            .unstarted(() -> drain(shard)));
+		}
+
+		running = true;
+		workers.forEach(Thread::start);
+		log.info("{}write-behind started: workers={} shardCapacity={} batchSize={}",
+				LogTag.MESSAGE, workerCount, shardCapacity, properties.getBatchSize());
+	}
+
+	/**
+	 * 종료 시 새 메시지 수신을 멈추고, 이미 큐에 들어간 메시지를 모두 저장한 뒤 워커를 정리합니다.
+	 */
+	@PreDestroy
+	void stop() {
+		running = false;
+		long deadline = System.currentTimeMillis() + properties.getShutdownTimeoutMs();
+		for (Thread worker : workers) {
+			try {
+				worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+		}
+
+		int remaining = shards.stream().mapToInt(BlockingQueue::size).sum();
+		if (remaining > 0) {
+			log.error("{}write-behind stopped with unsaved messages: remaining={}", LogTag.MESSAGE, remaining);
+		}
+	}
+
+	/**
+	 * 메시지를 저장 큐에 넣습니다.
+	 * 큐가 가득 차서 제한 시간 내에 넣지 못하면 호출 스레드에서 바로 저장합니다(caller-runs).
+	 * 이로써 메시지를 버리지 않으면서 과부하가 생산자 쪽으로 전달됩니다.
+	 */
+	public void enqueue(PendingMessage message) {
+		BlockingQueue<PendingMessage> shard = shardOf(message.roomId());
+		try {
+			if (running && shard.offer(message, properties.getEnqueueTimeoutMs(), TimeUnit.MILLISECONDS)) {
+				return;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		log.warn("{}write-behind queue unavailable, saving on caller thread: roomId={} senderId={} depth={}",
+				LogTag.MESSAGE, message.roomId(), message.senderId(), shard.size());
+		flush(List.of(message));
+	}
+
+	/**
+	 * 현재 대기 중인 메시지 수를 반환합니다.
+	 */
+	public int depth() {
+		return shards.stream().mapToInt(BlockingQueue::size).sum();
+	}
+
+	private BlockingQueue<PendingMessage> shardOf(Long roomId) {
+		return shards.get(Math.floorMod(Long.hashCode(roomId), shards.size()));
+	}
+
+	private void drain(BlockingQueue<PendingMessage> shard) {
+		int batchSize = Math.max(1, properties.getBatchSize());
+		List<PendingMessage> batch = new ArrayList<>(batchSize);
+
+		while (running || !shard.isEmpty()) {
+			try {
+				PendingMessage first = shard.poll(properties.getPollTimeoutMs(), TimeUnit.MILLISECONDS);
+				if (first == null) continue;
+
+				batch.add(first);
+				shard.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				log.warn("{}write-behind worker interrupted: remaining={}", LogTag.MESSAGE, shard.size());
+				return;
+			} catch (Exception e) {
+				log.error("{}write-behind worker error: {}", LogTag.MESSAGE, e.getMessage(), e);
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * 꺼낸 메시지들을 채팅방별로 묶어 저장합니다.
+	 * 저장 성공 시: 온라인 수신자가 없던 메시지에 대해 푸시 알림 이벤트 발행
+	 * 저장 실패 시: 해당 채팅방 묶음의 메시지마다 재시도를 위한 실패 이벤트 발행
+	 */
+	void flush(List<PendingMessage> batch) {
+		Map<Long, List<PendingMessage>> byRoom = new LinkedHashMap<>();
+		for (PendingMessage message : batch) {
+			byRoom.computeIfAbsent(message.roomId(), id -> new ArrayList<>()).add(message);
+		}
+		byRoom.forEach(this::flushRoom);
+	}
+
+	private void flushRoom(Long roomId, List<PendingMessage> messages) {
+		try {
+			List<Long> messageIds = messageUseCase.sendMessages(MessageUseCaseDto.SendMessageBatchRequest.builder()
+					                                                    .roomId(roomId)
+					                                                    .messages(messages.stream().map(this::toRequest).toList())
+					                                                    .build());
+
+			log.debug("{}message batch saved: roomId={} count={}", LogTag.CHAT, roomId, messageIds.size());
+
+			// FCM 전송이 필요한 경우에만 이벤트 발행
+			for (int i = 0; i < messages.size(); i++) {
+				PendingMessage message = messages.get(i);
+				if (message.noOnlineReceivers()) {
+					publisher.publishEvent(PushNotificationRequired.of(roomId, message.senderId(), messageIds.get(i), message.content()));
+				}
+			}
+		} catch (Exception e) {
+			log.error("{}message batch save failed: roomId={} count={} error={}",
+					LogTag.CHAT, roomId, messages.size(), e.getMessage());
+
+			// 저장 실패 이벤트 발행 (재시도 또는 알림용)
+			messages.forEach(message ->
+					publisher.publishEvent(new MessageStoreFailure(message.messageId(), roomId, message.senderId(), message.content())));
+		}
+	}
+
+	private MessageUseCaseDto.SendMessageRequest toRequest(PendingMessage message) {
+		return MessageUseCaseDto.SendMessageRequest.builder()
+				       .messageId(message.messageId())
+				       .roomId(message.roomId())
+				       .senderId(message.senderId())
+				       .content(message.content())
+				       .sentAt(LocalDateTime.ofInstant(message.sentAt(), ZoneId.systemDefault()))
+				       .build();
+	}
+}
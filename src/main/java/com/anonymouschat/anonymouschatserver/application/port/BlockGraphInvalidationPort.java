@@ -0,0 +1,9 @@
+package com.anonymouschat.anonymouschatserver.application.port;
+
+public interface BlockGraphInvalidationPort {
+
+	/**
+	 * 다른 노드에 차단 관계 변경을 알려 해당 사용자들의 캐시 항목을 무효화하게 합니다.
+	 */
+	void publish(Long blockerId, Long blockedId);
+}
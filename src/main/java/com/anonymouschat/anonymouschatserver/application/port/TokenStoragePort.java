@@ -14,6 +14,10 @@ public interface TokenStoragePort {
 
 	void blacklistToken(String tokenHash, int ttlSeconds);
 	boolean isTokenBlacklisted(String tokenHash);
+	// 이전 버전 노드가 쓴 blacklist:<hashCode> 키 확인. 이전 노드는 전파하지 않으므로 near-cache 없이 Redis 를 직접 조회
+	boolean isLegacyTokenBlacklisted(String legacyHash);
+	// refresh 토큰 삭제와 access 토큰 블랙리스트 등록을 한 번에 처리 (로그아웃)
+	void revokeSession(Long userId, String tokenHash, int ttlSeconds);
 
 	void deleteAllUserTokens(Long userId);
 	boolean isAvailable();
@@ -10,10 +10,15 @@ import com.anonymouschat.anonymouschatserver.domain.type.OAuthProvider;
 import com.anonymouschat.anonymouschatserver.domain.type.Role;
 import com.anonymouschat.anonymouschatserver.infra.security.jwt.JwtTokenProvider;
 import com.anonymouschat.anonymouschatserver.infra.security.jwt.JwtValidator;
+import com.anonymouschat.anonymouschatserver.infra.security.jwt.TokenDigest;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -22,6 +27,18 @@ public class AuthService {
 	private final JwtTokenProvider jwtProvider;
 	private final JwtValidator jwtValidator;
 	private final TokenStoragePort tokenStorage;
+	private final Clock clock;
+
+	@Value("${jwt.access-token-expiration}")
+	private long accessTokenValidityInSeconds;
+
+	// 지문 키 도입 이전 hashCode 키로 등록된 블랙리스트를 함께 확인하는 기한 (기동 후 access 토큰 최대 수명)
+	private long legacyBlacklistUntilMillis;
+
+	@PostConstruct
+	void init() {
+		this.legacyBlacklistUntilMillis = clock.millis() + accessTokenValidityInSeconds * 1000;
+	}
 
 	public String createAccessToken(OAuthProvider provider, String providerId) {
 		return jwtProvider.createAccessTokenForOAuthLogin(provider, providerId);
@@ -39,7 +56,7 @@ public class AuthService {
 		jwtValidator.validate(token);
 
 		String tokenHash = hashToken(token);
-		if (tokenStorage.isTokenBlacklisted(tokenHash)) {
+		if (tokenStorage.isTokenBlacklisted(tokenHash) || isLegacyBlacklisted(token)) {
 			throw new InvalidTokenException(ErrorCode.INVALID_TOKEN);
 		}
 	}
@@ -71,6 +88,17 @@ public class AuthService {
 		tokenStorage.blacklistToken(tokenHash, ttl);
 	}
 
+	public void revokeSession(Long userId, String accessToken) {
+		if (isTokenExpired(accessToken)) {
+			tokenStorage.deleteRefreshToken(userId);
+			return;
+		}
+
+		String tokenHash = hashToken(accessToken);
+		int ttl = (int) (jwtProvider.getExpirationMillis(accessToken) / 1000);
+		tokenStorage.revokeSession(userId, tokenHash, ttl);
+	}
+
 	public void revokeAllUserTokens(Long userId) {
 		tokenStorage.deleteAllUserTokens(userId);
 	}
@@ -106,7 +134,18 @@ public class AuthService {
 	}
 
 	private String hashToken(String token) {
-		return String.valueOf(token.hashCode());
+		return TokenDigest.fingerprint(token);
+	}
+
+	/**
+	 * 배포 전에 로그아웃된 토큰은 {@code blacklist:<hashCode>} 키로만 남아 있으므로, 남은 수명 동안 이전 키도 확인합니다.
+	 * 롤링 배포 중 이전 버전 노드가 추가한 키는 전파되지 않으므로 near-cache 를 거치지 않고 Redis 로 확인합니다.
+	 */
+	private boolean isLegacyBlacklisted(String token) {
+		if (clock.millis() >= legacyBlacklistUntilMillis) {
+			return false;
+		}
+		return tokenStorage.isLegacyTokenBlacklisted(String.valueOf(token.hashCode()));
 	}
 
 	private boolean isTokenExpired(String token) {
@@ -1,5 +1,7 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
+import com.anonymouschat.anonymouschatserver.application.cache.BlockGraphCache;
+import com.anonymouschat.anonymouschatserver.application.event.BlockRelationChanged;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
 import com.anonymouschat.anonymouschatserver.common.exception.user.CannotBlockSelfException;
@@ -9,6 +11,7 @@ import com.anonymouschat.anonymouschatserver.domain.entity.User;
 import com.anonymouschat.anonymouschatserver.domain.repository.BlockRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -20,6 +23,8 @@ import java.util.Optional;
 @Slf4j
 public class BlockService {
 	private final BlockRepository blockRepository;
+	private final BlockGraphCache blockGraphCache;
+	private final ApplicationEventPublisher publisher;
 
 	public void block(User blocker, User blocked) {
 		if (Objects.equals(blocker.getId(), blocked.getId())) {
@@ -32,6 +37,7 @@ public class BlockService {
 			Block block = existingBlock.get();
 			if (!block.isActive()) {
 				block.reactivate();
+				publisher.publishEvent(new BlockRelationChanged(blocker.getId(), blocked.getId(), true));
 				log.info("{}차단 재활성화 - blockerId={}, blockedId={}", LogTag.BLOCK, blocker.getId(), blocked.getId());
 			} else {
 				log.info("{}이미 차단된 상태 - blockerId={}, blockedId={}", LogTag.BLOCK, blocker.getId(), blocked.getId());
@@ -42,6 +48,7 @@ public class BlockService {
 					              .blocked(blocked)
 					              .build();
 			blockRepository.save(block);
+			publisher.publishEvent(new BlockRelationChanged(blocker.getId(), blocked.getId(), true));
 			log.info("{}새 유저 차단 등록 - blockerId={}, blockedId={}", LogTag.BLOCK, blocker.getId(), blocked.getId());
 		}
 	}
@@ -49,11 +56,36 @@ public class BlockService {
 	public void unblock(Long blockerId, Long blockedId) {
 		Block block = findBlockByBlockerIdAndBlockedId(blockerId, blockedId);
 		block.deactivate();
+		publisher.publishEvent(new BlockRelationChanged(blockerId, blockedId, false));
 		log.info("{}유저 차단 해제 완료 - blockerId={}, blockedId={}", LogTag.BLOCK, blockerId, blockedId);
 	}
 
-	public List<Long> getBlockedUserIds(Long blockerId) {
-		return blockRepository.findAllBlockedUserIdsByBlockerId(blockerId);
+	/**
+	 * 두 사용자 중 한쪽이라도 상대를 차단했는지 확인합니다.
+	 * {@link BlockGraphCache}에 userId 의 차단 관계가 없으면 한 번 적재한 뒤 판정합니다.
+	 */
+	public boolean isBlocked(Long userId, Long otherId) {
+		Boolean cached = blockGraphCache.isBlocked(userId, otherId);
+		if (cached != null) {
+			return cached;
+		}
+
+		long generation = blockGraphCache.generation();
+		long[] blockedIds = toArray(blockRepository.findAllBlockedUserIdsByBlockerId(userId));
+		long[] blockedByIds = toArray(blockRepository.findAllBlockerIdsByBlockedId(userId));
+		blockGraphCache.put(userId, blockedIds, blockedByIds, generation);
+		return contains(blockedIds, otherId) || contains(blockedByIds, otherId);
+	}
+
+	private static long[] toArray(List<Long> ids) {
+		return ids.stream().mapToLong(Long::longValue).toArray();
+	}
+
+	private static boolean contains(long[] ids, long id) {
+		for (long candidate : ids) {
+			if (candidate == id) return true;
+		}
+		return false;
 	}
 
 	private Block findBlockByBlockerIdAndBlockedId(Long blockerId, Long blockedId) {
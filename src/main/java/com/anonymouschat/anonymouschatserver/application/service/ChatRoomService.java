@@ -1,12 +1,15 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
+import com.anonymouschat.anonymouschatserver.application.cache.ChatRoomMembershipCache;
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.ConflictException;
+import com.anonymouschat.anonymouschatserver.common.exception.ForbiddenException;
 import com.anonymouschat.anonymouschatserver.common.exception.InternalServerException;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
 import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
 import com.anonymouschat.anonymouschatserver.domain.entity.ChatRoom;
+import com.anonymouschat.anonymouschatserver.domain.entity.Message;
 import com.anonymouschat.anonymouschatserver.domain.entity.User;
 import com.anonymouschat.anonymouschatserver.domain.repository.ChatRoomRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,11 +25,18 @@ import java.util.Optional;
 @Slf4j
 public class ChatRoomService {
 	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomMembershipCache membershipCache;
+	private final BlockService blockService;
 
 	public ChatRoom createOrFind(User initiator, User recipient) {
 		long a = initiator.getId(), b = recipient.getId();
 		long left = Math.min(a, b), right = Math.max(a, b);
 
+		if (blockService.isBlocked(a, b)) {
+			log.info("{}차단 관계로 채팅방 생성 거부 - initiatorId={}, recipientId={}", LogTag.CHAT, a, b);
+			throw new ForbiddenException(ErrorCode.BLOCKED_USER);
+		}
+
 		Optional<ChatRoom> existing = chatRoomRepository.findLatestValidChatRoomByPair(left, right);
 		if (existing.isPresent()) {
 			ChatRoom chatRoom = existing.get();
@@ -63,6 +73,9 @@ public class ChatRoomService {
 
 	public void exit(Long userId, ChatRoom chatRoom) {
 		chatRoom.exitBy(userId);
+		if (chatRoom.isArchived()) {
+			membershipCache.evict(chatRoom.getId());
+		}
 		log.info("{}채팅방 나가기 처리 완료 - userId={}, roomId={}", LogTag.CHAT, userId, chatRoom.getId());
 	}
 
@@ -83,8 +96,84 @@ public class ChatRoomService {
 		log.info("{}채팅방 복귀 처리 완료 - userId={}, roomId={}", LogTag.CHAT, userId, chatRoom.getId());
 	}
 
+	/**
+	 * 저장된 메시지를 채팅방 목록용 비정규화 컬럼(마지막 메시지, 참여자별 안읽음 수)에 반영합니다.
+	 * 목록 조회가 메시지 테이블을 다시 집계하지 않도록 메시지 저장과 같은 트랜잭션에서 호출합니다.
+	 * write-behind 로 저장이 늦어지는 동안 수신자가 이미 읽음 처리한 메시지(워터마크 이하)는 안읽음 수에 더하지 않습니다.
+	 * 워터마크는 행 잠금으로 읽으므로 같은 채팅방의 읽음 처리와 순서가 보장됩니다.
+	 */
+	public void recordMessages(ChatRoom chatRoom, List<Message> messages) {
+		if (messages.isEmpty()) {
+			return;
+		}
+
+		ChatRoomRepository.ReadWatermarks watermarks = chatRoomRepository.lockReadWatermarks(chatRoom.getId());
+		long user1ReadUpTo = watermarks == null ? 0 : valueOrZero(watermarks.getUser1LastReadMessageId());
+		long user2ReadUpTo = watermarks == null ? 0 : valueOrZero(watermarks.getUser2LastReadMessageId());
+
+		Long user1Id = chatRoom.getUser1().getId();
+		long user1Delta = 0, user2Delta = 0;
+		Message last = messages.get(0);
+		for (Message message : messages) {
+			if (message.isSentBy(user1Id)) {
+				if (message.getId() > user2ReadUpTo) user2Delta++;
+			} else if (message.getId() > user1ReadUpTo) {
+				user1Delta++;
+			}
+			if (message.getId() > last.getId()) last = message;
+		}
+
+		chatRoomRepository.applyNewMessages(chatRoom.getId(), last.getId(), ChatRoom.previewOf(last.getContent()),
+				last.getSentAt(), user1Delta, user2Delta);
+	}
+
+	/**
+	 * 채팅방의 마지막 메시지까지 읽음 처리합니다. 메시지 행은 건드리지 않고 참여자의 읽음 워터마크만 올립니다.
+	 * readUpToMessageId 가 있으면 아직 저장되지 않은 그 메시지까지 워터마크를 올려, 나중에 저장되어도 안읽음으로 세지 않습니다.
+	 *
+	 * @param readUpToMessageId 수신자에게 이미 전송한 마지막 메시지 ID (nullable)
+	 * @return 새 읽음 워터마크, 새로 읽을 메시지가 없었으면 null
+	 */
+	public Long markAsRead(Long roomId, Long userId, Long readUpToMessageId) {
+		if (chatRoomRepository.advanceReadWatermark(roomId, userId, valueOrZero(readUpToMessageId)) == 0) {
+			return null;
+		}
+		Long lastReadMessageId = chatRoomRepository.findLastReadMessageId(roomId, userId);
+		log.info("{}메시지 읽음 처리 완료 - roomId={}, userId={}, lastReadMessageId={}", LogTag.MESSAGE, roomId, userId, lastReadMessageId);
+		return lastReadMessageId;
+	}
+
+	private static long valueOrZero(Long value) {
+		return value == null ? 0 : value;
+	}
+
+	/**
+	 * 채팅방 멤버 여부를 확인합니다. 참여자 쌍은 캐시에서 먼저 찾고, 없을 때만 DB에서 한 번 조회해 채웁니다.
+	 */
 	public boolean isMember(Long roomId, Long userId) {
-		return chatRoomRepository.existsByIdAndParticipantId(roomId, userId);
+		return findParticipantPair(roomId)
+				       .map(pair -> pair.contains(userId))
+				       .orElse(false);
+	}
+
+	/**
+	 * 채팅방 상대방과 차단 관계인지 확인합니다. 참여자 쌍과 차단 관계 모두 캐시에서 판정합니다.
+	 */
+	public boolean isBlockedWithOpponent(Long roomId, Long userId) {
+		return findParticipantPair(roomId)
+				       .filter(pair -> pair.contains(userId))
+				       .map(pair -> blockService.isBlocked(userId, pair.opponentOf(userId)))
+				       .orElse(false);
+	}
+
+	private Optional<ChatRoomServiceDto.ParticipantPair> findParticipantPair(Long roomId) {
+		ChatRoomServiceDto.ParticipantPair pair = membershipCache.get(roomId);
+		if (pair != null) {
+			return Optional.of(pair);
+		}
+		Optional<ChatRoomServiceDto.ParticipantPair> loaded = chatRoomRepository.findParticipantPair(roomId);
+		loaded.ifPresent(membershipCache::put);
+		return loaded;
 	}
 
 	private ChatRoom findChatRoomById(Long roomId) {
@@ -22,7 +22,12 @@ public class MessageService {
 	private final MessageRepository messageRepository;
 
 	public Message saveMessage(ChatRoom chatRoom, User sender, String content) {
+		return saveMessage(chatRoom, sender, content, null);
+	}
+
+	public Message saveMessage(ChatRoom chatRoom, User sender, String content, Long messageId) {
 		Message message = Message.builder()
+				                  .id(messageId)
 				                  .chatRoom(chatRoom)
 				                  .sender(sender)
 				                  .content(content)
@@ -32,22 +37,18 @@ public class MessageService {
 		return saved;
 	}
 
+	public List<Message> saveMessages(ChatRoom chatRoom, List<Message> messages) {
+		List<Message> saved = messageRepository.saveAll(messages);
+		log.info("{}메시지 일괄 저장 완료 - roomId={}, count={}", LogTag.MESSAGE, chatRoom.getId(), saved.size());
+		return saved;
+	}
+
 	public List<Message> getMessages(ChatRoom chatRoom, LocalDateTime lastExitedAt, Long lastMessageId, int limit) {
 		List<Message> messages = new ArrayList<>(messageRepository.findMessagesAfterExitTimeWithCursor(chatRoom.getId(), lastExitedAt, lastMessageId, limit));
 		messages.sort(Comparator.comparing(Message::getId));
 		log.info("{}메시지 목록 조회 완료 - roomId={}, laseExitedAt={}, lastMessageId={}", LogTag.MESSAGE, chatRoom.getId(), lastExitedAt, lastMessageId);
 		return messages;
 	}
-
-	public Long markMessagesAsRead(Long roomId, Long userId) {
-		Long count = messageRepository.updateMessagesAsRead(roomId, userId);
-		log.info("{}메시지 읽음 처리 완료 - roomId={}, userId={}, updatedCount={}", LogTag.MESSAGE, roomId, userId, count);
-		return count;
-	}
-
-	public Long findLastReadMessageIdByReceiver(Long roomId, Long senderId) {
-		return messageRepository.findMaxReadMessageId(roomId, senderId);
-	}
 }
 
 
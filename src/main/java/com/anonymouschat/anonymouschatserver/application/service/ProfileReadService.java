@@ -0,0 +1,45 @@
+package com.anonymouschat.anonymouschatserver.application.service;
+
+import com.anonymouschat.anonymouschatserver.application.dto.ProfileReadModel;
+import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
+import com.anonymouschat.anonymouschatserver.common.exception.user.UserNotFoundException;
+import com.anonymouschat.anonymouschatserver.domain.entity.User;
+import com.anonymouschat.anonymouschatserver.domain.entity.UserProfileImage;
+import com.anonymouschat.anonymouschatserver.domain.repository.UserProfileImageRepository;
+import com.anonymouschat.anonymouschatserver.domain.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 프로필 조회 모델({@link ProfileReadModel})을 userId 기준으로 캐시해 제공합니다.
+ * 변경은 {@code ProfileChanged} 이벤트로 커밋 이후 무효화됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfileReadService {
+	public static final String CACHE_NAME = "profile";
+
+	private static final Sort UPLOAD_ORDER = Sort.sort(UserProfileImage.class).by(UserProfileImage::getUploadedAt).ascending();
+
+	private final UserRepository userRepository;
+	private final UserProfileImageRepository userProfileImageRepository;
+
+	@Cacheable(cacheNames = CACHE_NAME, key = "#userId", sync = true)
+	@Transactional(readOnly = true)
+	public ProfileReadModel getProfile(Long userId) {
+		User user = userRepository.findById(userId)
+				            .orElseThrow(() -> new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
+		List<UserProfileImage> images = userProfileImageRepository.findAllByUserIdAndDeletedIsFalse(userId, UPLOAD_ORDER);
+		return ProfileReadModel.of(user, images);
+	}
+
+	@CacheEvict(cacheNames = CACHE_NAME, key = "#userId")
+	public void evict(Long userId) {
+	}
+}
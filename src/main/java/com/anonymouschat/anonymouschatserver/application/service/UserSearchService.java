@@ -9,10 +9,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserSearchService {
+	static final int MAX_SCROLL_SIZE = 100;
+
 	private final UserRepository userRepository;
 
 	public Slice<UserServiceDto.SearchResult> getUsersByCondition(UserServiceDto.SearchCommand command, Pageable pageable) {
@@ -27,4 +31,22 @@ public class UserSearchService {
 
 		return userRepository.findUsersByCondition(command, pageable);
 	}
+
+	/**
+	 * 커서 다음의 유저를 최대 size 명 조회합니다. 한 명을 더 읽어 다음 페이지 존재 여부를 판단합니다.
+	 */
+	public UserServiceDto.SearchScrollResult getUsersByCursor(UserServiceDto.SearchCommand command, String cursorToken, int size) {
+		int limit = Math.clamp(size, 1, MAX_SCROLL_SIZE);
+		UserServiceDto.SearchCursor cursor = UserServiceDto.SearchCursor.decode(cursorToken);
+		log.info("{}유저 커서 검색 - 요청자 ID={}, 성별={}, 나이범위={}~{}, 지역={}, cursor={}",
+				LogTag.USER, command.id(), command.gender(), command.minAge(), command.maxAge(), command.region(), cursor);
+
+		List<UserServiceDto.SearchResult> results = userRepository.findUsersByConditionAfter(command, cursor, limit + 1);
+		if (results.size() <= limit) {
+			return new UserServiceDto.SearchScrollResult(results, null);
+		}
+
+		List<UserServiceDto.SearchResult> page = results.subList(0, limit);
+		return new UserServiceDto.SearchScrollResult(page, UserServiceDto.SearchCursor.from(page.getLast()).encode());
+	}
 }
@@ -1,6 +1,7 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
 import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
+import com.anonymouschat.anonymouschatserver.application.event.ProfileChanged;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.BadRequestException;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
@@ -20,7 +21,7 @@ import com.anonymouschat.anonymouschatserver.infra.file.FileStorage;
 import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -39,6 +40,8 @@ public class UserService {
 	private final UserProfileImageRepository userProfileImageRepository;
 	private final FileStorage fileStorage;
 	private final ImageValidator imageValidator;
+	private final ProfileReadService profileReadService;
+	private final ApplicationEventPublisher publisher;
 
 	public User register(UserServiceDto.RegisterCommand command, List<MultipartFile> images) {
 		log.info("{}회원 등록 시작 - userId={}", LogTag.USER, command.userId());
@@ -63,18 +66,14 @@ public class UserService {
 			throw new FileUploadException(ErrorCode.FILE_UPLOAD_FAILED);
 		}
 		profileImages.forEach(user::addProfileImage);
+		publisher.publishEvent(new ProfileChanged(user.getId()));
 
 		log.info("{}회원 등록 완료 - userId={}", LogTag.USER, user.getId());
 		return user;
 	}
 
 	public UserServiceDto.ProfileResult getProfile(Long userId) {
-		User user = findUser(userId);
-		List<UserProfileImage> images = userProfileImageRepository.findAllByUserIdAndDeletedIsFalse(
-				user.getId(),
-				Sort.sort(UserProfileImage.class).by(UserProfileImage::getUploadedAt).ascending()
-		);
-		return UserServiceDto.ProfileResult.from(user, images);
+		return UserServiceDto.ProfileResult.from(profileReadService.getProfile(userId));
 	}
 
 	@Transactional(noRollbackFor = FileUploadException.class)
@@ -89,6 +88,8 @@ public class UserService {
 		}
 
 		user.updateProfile(command.nickname(), command.gender(), command.age(), command.region(), command.bio());
+		// 커밋 이후 처리되므로 업로드 실패(noRollbackFor)로 끝나도 캐시가 무효화됨
+		publisher.publishEvent(new ProfileChanged(user.getId()));
 
 		//images == null 이면 `이미지 변경 없음` 상태
 		if (images != null) {
@@ -109,6 +110,7 @@ public class UserService {
 	public void withdraw(Long userId) {
 		log.info("{}회원 탈퇴 처리 시작 - userId={}", LogTag.USER, userId);
 		findUser(userId).markWithDraw();
+		publisher.publishEvent(new ProfileChanged(userId));
 		log.info("{}회원 탈퇴 처리 완료 - userId={}", LogTag.USER, userId);
 	}
 
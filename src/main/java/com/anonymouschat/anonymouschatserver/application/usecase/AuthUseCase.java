@@ -32,12 +32,11 @@ public class AuthUseCase {
 
 		authService.validateToken(storedTokenInfo.token());
 
-		authService.invalidateRefreshToken(userId);
-
 		User user = userService.findUser(userId);
 		String newAccessToken = authService.createAccessToken(user.getId(), user.getRole());
 		String newRefreshToken = authService.createRefreshToken(user.getId(), user.getRole());
 
+		// 같은 키에 SET 하므로 이전 refresh 토큰 삭제와 새 토큰 저장이 한 번의 왕복으로 원자적으로 교체됨
 		authService.saveRefreshToken(userId, newRefreshToken, userAgent, ipAddress);
 
 		// 클라이언트에는 AccessToken만 반환
@@ -48,8 +47,7 @@ public class AuthUseCase {
 
 	@Transactional
 	public void logout(Long userId, String accessToken) {
-		authService.invalidateRefreshToken(userId);
-		authService.blacklistAccessToken(accessToken);
+		authService.revokeSession(userId, accessToken);
 	}
 
 	@Transactional
@@ -2,7 +2,9 @@ package com.anonymouschat.anonymouschatserver.application.usecase;
 
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomUseCaseDto;
+import com.anonymouschat.anonymouschatserver.application.dto.ProfileReadModel;
 import com.anonymouschat.anonymouschatserver.application.service.ChatRoomService;
+import com.anonymouschat.anonymouschatserver.application.service.ProfileReadService;
 import com.anonymouschat.anonymouschatserver.application.service.UserService;
 import com.anonymouschat.anonymouschatserver.common.annotation.UseCase;
 import com.anonymouschat.anonymouschatserver.domain.entity.ChatRoom;
@@ -19,6 +21,7 @@ import java.util.List;
 public class ChatRoomUseCase {
 	private final ChatRoomService chatRoomService;
 	private final UserService userService;
+	private final ProfileReadService profileReadService;
 
 	@Transactional
 	public Long createOrFind(Long initiatorId, Long recipientId) {
@@ -33,7 +36,8 @@ public class ChatRoomUseCase {
 
 		room.validateUsable();
 
-		User opponent = !room.getUser1().getId().equals(userId) ? room.getUser1() : room.getUser2();
+		// 상대 User 프록시를 초기화하지 않고 캐시된 프로필 조회 모델을 사용
+		ProfileReadModel opponent = profileReadService.getProfile(room.getOpponentId(userId));
 
 		return ChatRoomUseCaseDto.SummaryResponse.from(room.getId(), room.getUpdatedAt(), opponent);
 	}
@@ -14,7 +14,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @UseCase
 @RequiredArgsConstructor
@@ -36,12 +38,60 @@ public class MessageUseCase {
 		chatRoomService.returnBy(chatRoom, request.senderId());
 
 		User sender = userService.findUser(request.senderId());
-		Long messageId = messageService.saveMessage(chatRoom, sender, request.content()).getId();
+		Message message = messageService.saveMessage(chatRoom, sender, request.content(), request.messageId());
+		chatRoomService.recordMessages(chatRoom, List.of(message));
+		Long messageId = message.getId();
 
 		log.info("{}메시지 전송 완료 - messageId={}", LogTag.MESSAGE, messageId);
 		return messageId;
 	}
 
+	/**
+	 * 같은 채팅방으로 향하는 여러 메시지를 하나의 트랜잭션으로 저장합니다.
+	 * 채팅방 조회, 활성화, 복귀 처리는 배치당 한 번(발신자별 한 번)만 수행하고,
+	 * 메시지는 saveAll 로 묶어서 저장하여 JDBC 배치 insert 가 적용되도록 합니다.
+	 *
+	 * @return 저장된 메시지 ID 목록 (요청 순서와 동일)
+	 */
+	@Transactional
+	public List<Long> sendMessages(MessageUseCaseDto.SendMessageBatchRequest request) {
+		List<MessageUseCaseDto.SendMessageRequest> messages = request.messages();
+		log.info("{}메시지 일괄 전송 요청 - roomId={}, count={}", LogTag.MESSAGE, request.roomId(), messages.size());
+
+		ChatRoom chatRoom = chatRoomService.getVerifiedChatRoomOrThrow(
+				messages.get(0).senderId(), request.roomId());
+
+		Map<Long, User> senders = new LinkedHashMap<>();
+		for (MessageUseCaseDto.SendMessageRequest message : messages) {
+			senders.computeIfAbsent(message.senderId(), senderId -> {
+				chatRoom.validateParticipant(senderId);
+				return userService.findUser(senderId);
+			});
+		}
+
+		chatRoomService.markActiveIfInactive(chatRoom);
+		senders.keySet().forEach(senderId -> chatRoomService.returnBy(chatRoom, senderId));
+
+		List<Message> entities = messages.stream()
+				                         .map(message -> Message.builder()
+						                                         .id(message.messageId())
+						                                         .chatRoom(chatRoom)
+						                                         .sender(senders.get(message.senderId()))
+						                                         .content(message.content())
+						                                         .sentAt(message.sentAt())
+						                                         .build())
+				                         .toList();
+
+		List<Message> saved = messageService.saveMessages(chatRoom, entities);
+		chatRoomService.recordMessages(chatRoom, saved);
+		List<Long> messageIds = saved.stream()
+				                        .map(Message::getId)
+				                        .toList();
+
+		log.info("{}메시지 일괄 전송 완료 - roomId={}, count={}", LogTag.MESSAGE, request.roomId(), messageIds.size());
+		return messageIds;
+	}
+
 	@Transactional(readOnly = true)
 	public List<MessageUseCaseDto.MessageResponse> getMessages(MessageUseCaseDto.GetMessagesRequest request) {
 		ChatRoom chatRoom = chatRoomService.getVerifiedChatRoomOrThrow(request.userId(), request.roomId());
@@ -57,12 +107,12 @@ public class MessageUseCase {
 	@Transactional
 	public Long markMessagesAsRead(MessageUseCaseDto.MarkMessagesAsReadRequest request) {
 		chatRoomService.getVerifiedChatRoomOrThrow(request.userId(), request.roomId());
-		return messageService.markMessagesAsRead(request.roomId(), request.userId());
+		return chatRoomService.markAsRead(request.roomId(), request.userId(), request.readUpToMessageId());
 	}
 
 	@Transactional(readOnly = true)
 	public Long getLastReadMessageIdByOpponent(MessageUseCaseDto.GetLastReadMessageRequest request) {
-		chatRoomService.getVerifiedChatRoomOrThrow(request.userId(), request.roomId());
-		return messageService.findLastReadMessageIdByReceiver(request.roomId(), request.userId());
+		ChatRoom chatRoom = chatRoomService.getVerifiedChatRoomOrThrow(request.userId(), request.roomId());
+		return chatRoom.getLastReadMessageId(chatRoom.getOpponentId(request.userId()));
 	}
 }
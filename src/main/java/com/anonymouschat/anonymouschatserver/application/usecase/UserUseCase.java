@@ -2,7 +2,6 @@ package com.anonymouschat.anonymouschatserver.application.usecase;
 
 import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
 import com.anonymouschat.anonymouschatserver.application.dto.UserUseCaseDto;
-import com.anonymouschat.anonymouschatserver.application.service.BlockService;
 import com.anonymouschat.anonymouschatserver.application.service.UserSearchService;
 import com.anonymouschat.anonymouschatserver.application.service.UserService;
 import com.anonymouschat.anonymouschatserver.common.annotation.UseCase;
@@ -24,7 +23,6 @@ public class UserUseCase {
 
 	private final UserService userService;
 	private final UserSearchService userSearchService;
-	private final BlockService blockService;
 
 	@Transactional
 	public UserUseCaseDto.RegisterResponse register(UserUseCaseDto.RegisterRequest register, List<MultipartFile> images) {
@@ -56,11 +54,20 @@ public class UserUseCase {
 	@Transactional(readOnly = true)
 	public Slice<UserUseCaseDto.SearchResponse> getUserList(UserUseCaseDto.SearchConditionRequest search, Pageable pageable) {
 		log.info("{}유저 목록 조회 요청 - searcherId={}, condition={}", LogTag.USER, search.id(), search);
-		List<Long> blockedUserIds = blockService.getBlockedUserIds(search.id());
-		UserServiceDto.SearchCommand command = UserServiceDto.SearchCommand.from(search, blockedUserIds);
+		UserServiceDto.SearchCommand command = UserServiceDto.SearchCommand.from(search);
 		Slice<UserUseCaseDto.SearchResponse> result = userSearchService.getUsersByCondition(command, pageable)
 				                                            .map(UserUseCaseDto.SearchResponse::from);
 		log.info("{}유저 목록 조회 완료 - 반환 유저 수={}", LogTag.USER, result.getNumberOfElements());
 		return result;
 	}
+
+	@Transactional(readOnly = true)
+	public UserUseCaseDto.SearchScrollResponse getUserListByCursor(UserUseCaseDto.SearchConditionRequest search, String cursor, int size) {
+		log.info("{}유저 목록 커서 조회 요청 - searcherId={}, condition={}", LogTag.USER, search.id(), search);
+		UserServiceDto.SearchCommand command = UserServiceDto.SearchCommand.from(search);
+		UserUseCaseDto.SearchScrollResponse result = UserUseCaseDto.SearchScrollResponse.from(
+				userSearchService.getUsersByCursor(command, cursor, size));
+		log.info("{}유저 목록 커서 조회 완료 - 반환 유저 수={}, hasNext={}", LogTag.USER, result.content().size(), result.hasNext());
+		return result;
+	}
 }
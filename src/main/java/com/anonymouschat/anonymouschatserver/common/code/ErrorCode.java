@@ -41,6 +41,8 @@ public enum ErrorCode {
 	CANNOT_BLOCK_SELF(HttpStatus.BAD_REQUEST, "자기 자신을 차단할 수 없습니다."),
 	PROFILE_IMAGE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "프로필 이미지는 최대 3장까지만 등록할 수 있습니다."),
 	BLOCK_NOT_FOUND(HttpStatus.NOT_FOUND, "차단 정보를 찾을 수 없습니다."),
+	BLOCKED_USER(HttpStatus.FORBIDDEN, "차단 관계인 사용자입니다."),
+	INVALID_SEARCH_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 검색 커서입니다."),
 
 	// 채팅 관련
 	CHATROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
@@ -0,0 +1,14 @@
+package com.anonymouschat.anonymouschatserver.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.*;
+
+/**
+ * 엔티티 식별자를 {@link SnowflakeIdGenerator}로 발급하도록 지정합니다.
+ */
+@IdGeneratorType(SnowflakeIdentifierGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SnowflakeId {}
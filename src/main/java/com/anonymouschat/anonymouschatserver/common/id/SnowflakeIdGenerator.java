@@ -0,0 +1,102 @@
+package com.anonymouschat.anonymouschatserver.common.id;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순서가 보장되는 Snowflake 방식의 ID 생성기입니다.
+ * DB insert 이전에 ID를 확정할 수 있어 IDENTITY 전략과 달리 JDBC 배치 insert가 가능하고,
+ * 브로드캐스트 시점에 실제 messageId를 클라이언트에게 전달할 수 있습니다.
+ *
+ * <pre>
+ * | 41bit timestamp(ms, EPOCH 기준) | 5bit nodeId | 7bit sequence |
+ * </pre>
+ * 전체 53bit 이므로 JavaScript Number 로도 정밀도 손실 없이 다룰 수 있습니다.
+ * 노드당 밀리초마다 128개(초당 128,000개)까지 발급하며, 초과 시 다음 밀리초를 미리 사용합니다.
+ */
+public final class SnowflakeIdGenerator {
+	public static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+	static final int NODE_BITS = 5;
+	static final int SEQUENCE_BITS = 7;
+	public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+	private static volatile SnowflakeIdGenerator shared = new SnowflakeIdGenerator(0, Clock.systemUTC());
+
+	private final long nodeId;
+	private final Clock clock;
+	private final long epochMillis = EPOCH.toEpochMilli();
+
+	// (timestamp << SEQUENCE_BITS) | sequence
+	private final AtomicLong state = new AtomicLong();
+
+	public SnowflakeIdGenerator(int nodeId, Clock clock) {
+		if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+			throw new IllegalArgumentException("nodeId 는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+		}
+		this.nodeId = nodeId;
+		this.clock = clock;
+	}
+
+	/**
+	 * Hibernate 등 Spring 컨텍스트 밖에서 사용하는 공용 인스턴스를 반환합니다.
+	 */
+	public static SnowflakeIdGenerator shared() {
+		return shared;
+	}
+
+	/**
+	 * 공용 인스턴스의 nodeId를 설정합니다. 같은 nodeId면 기존 인스턴스를 그대로 사용합니다.
+	 */
+	public static synchronized SnowflakeIdGenerator configure(int nodeId) {
+		if (shared.nodeId != nodeId) {
+			shared = new SnowflakeIdGenerator(nodeId, Clock.systemUTC());
+		}
+		return shared;
+	}
+
+	/**
+	 * 새로운 ID를 발급합니다. 시계가 뒤로 가더라도 마지막 timestamp 를 이어서 사용하므로 항상 단조 증가합니다.
+	 */
+	public long nextId() {
+		while (true) {
+			long prev = state.get();
+			long prevTimestamp = prev >>> SEQUENCE_BITS;
+			long now = clock.millis() - epochMillis;
+
+			long timestamp;
+			long sequence;
+			if (now > prevTimestamp) {
+				timestamp = now;
+				sequence = 0;
+			} else {
+				sequence = (prev & SEQUENCE_MASK) + 1;
+				timestamp = prevTimestamp;
+				if (sequence > SEQUENCE_MASK) {
+					timestamp++;
+					sequence = 0;
+				}
+			}
+
+			if (state.compareAndSet(prev, (timestamp << SEQUENCE_BITS) | sequence)) {
+				return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+			}
+		}
+	}
+
+	/**
+	 * ID에 기록된 발급 시각을 반환합니다.
+	 */
+	public static Instant timestampOf(long id) {
+		return EPOCH.plusMillis(id >>> (NODE_BITS + SEQUENCE_BITS));
+	}
+
+	/**
+	 * ID를 발급한 노드 번호를 반환합니다.
+	 */
+	public static int nodeIdOf(long id) {
+		return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+	}
+}
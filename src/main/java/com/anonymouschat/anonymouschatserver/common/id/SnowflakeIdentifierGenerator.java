@@ -0,0 +1,33 @@
+package com.anonymouschat.anonymouschatserver.common.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.util.EnumSet;
+
+/**
+ * {@link SnowflakeId}가 붙은 식별자에 대해 insert 전에 ID를 발급하는 Hibernate 생성기입니다.
+ * 애플리케이션에서 미리 할당한 ID가 있으면 그대로 사용합니다.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+		if (currentValue != null) {
+			return currentValue;
+		}
+		return SnowflakeIdGenerator.shared().nextId();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+
+	@Override
+	public boolean allowAssignedIdentifiers() {
+		return true;
+	}
+}
@@ -0,0 +1,65 @@
+package com.anonymouschat.anonymouschatserver.common.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 동시성 Bloom 필터입니다.
+ * {@link #mightContain}이 false 면 한 번도 추가되지 않은 키임이 확실하고, true 면 설정한 오탐률 안에서 추가되었을 수 있습니다.
+ * 비트는 {@link AtomicLongArray}에 CAS 로 설정하므로 추가와 조회 모두 락 없이 수행됩니다. 제거는 지원하지 않습니다.
+ */
+public final class BloomFilter {
+	private final AtomicLongArray words;
+	private final long bitSize;
+	private final int hashCount;
+
+	public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+		long bits = (long) Math.ceil(-Math.max(1, expectedInsertions) * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int wordCount = (int) Math.max(1, (bits + 63) / 64);
+		this.words = new AtomicLongArray(wordCount);
+		this.bitSize = (long) wordCount * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / Math.max(1, expectedInsertions) * Math.log(2)));
+	}
+
+	public void put(String key) {
+		long h1 = fnv1a(key);
+		long h2 = mix(h1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitSize);
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long word;
+			do {
+				word = words.get(index);
+				if ((word & mask) != 0) break;
+			} while (!words.compareAndSet(index, word, word | mask));
+		}
+	}
+
+	public boolean mightContain(String key) {
+		long h1 = fnv1a(key);
+		long h2 = mix(h1) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitSize);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static long fnv1a(String key) {
+		long hash = 0xcbf29ce484222325L;
+		for (int i = 0; i < key.length(); i++) {
+			hash ^= key.charAt(i);
+			hash *= 0x100000001b3L;
+		}
+		return hash;
+	}
+
+	// splitmix64 finalizer: 두 번째 해시를 첫 번째와 독립적으로 분산시킵니다.
+	private static long mix(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+}
@@ -0,0 +1,119 @@
+package com.anonymouschat.anonymouschatserver.common.util;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * {@code long} 값을 박싱 없이 보관하는 동시성 Set 입니다.
+ * 정렬된 {@code long[]}을 copy-on-write 방식으로 교체하므로 읽기(contains/순회)는 락 없이 수행되고,
+ * 쓰기는 인스턴스 단위로 직렬화됩니다.
+ * 대부분 2~수십 명인 채팅방 참여자처럼 원소가 적고 읽기가 잦은 경우를 위한 구조이며,
+ * {@code CopyOnWriteArraySet<Long>} 대비 원소당 Long 객체와 참조 배열 오버헤드가 없습니다.
+ * 기존 API 호환을 위해 {@link java.util.Set}{@code <Long>} 뷰도 제공합니다.
+ */
+public final class ConcurrentLongSet extends AbstractSet<Long> {
+	private static final long[] EMPTY = new long[0];
+
+	private volatile long[] elements = EMPTY;
+
+	public boolean add(long value) {
+		synchronized (this) {
+			long[] current = elements;
+			int index = Arrays.binarySearch(current, value);
+			if (index >= 0) return false;
+
+			int insertAt = -index - 1;
+			long[] next = new long[current.length + 1];
+			System.arraycopy(current, 0, next, 0, insertAt);
+			next[insertAt] = value;
+			System.arraycopy(current, insertAt, next, insertAt + 1, current.length - insertAt);
+			elements = next;
+			return true;
+		}
+	}
+
+	public boolean remove(long value) {
+		synchronized (this) {
+			long[] current = elements;
+			int index = Arrays.binarySearch(current, value);
+			if (index < 0) return false;
+
+			if (current.length == 1) {
+				elements = EMPTY;
+				return true;
+			}
+			long[] next = new long[current.length - 1];
+			System.arraycopy(current, 0, next, 0, index);
+			System.arraycopy(current, index + 1, next, index, current.length - index - 1);
+			elements = next;
+			return true;
+		}
+	}
+
+	public boolean contains(long value) {
+		return Arrays.binarySearch(elements, value) >= 0;
+	}
+
+	/**
+	 * 현재 시점의 스냅샷을 순회합니다. 순회 중 변경은 반영되지 않습니다.
+	 */
+	public void forEachLong(LongConsumer action) {
+		for (long value : elements) {
+			action.accept(value);
+		}
+	}
+
+	/**
+	 * 현재 시점의 원소를 오름차순 배열로 복사해 반환합니다.
+	 */
+	public long[] toLongArray() {
+		return elements.clone();
+	}
+
+	@Override
+	public int size() {
+		return elements.length;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return elements.length == 0;
+	}
+
+	@Override
+	public boolean add(Long value) {
+		return add(value.longValue());
+	}
+
+	@Override
+	public boolean remove(Object value) {
+		return value instanceof Long l && remove(l.longValue());
+	}
+
+	@Override
+	public boolean contains(Object value) {
+		return value instanceof Long l && contains(l.longValue());
+	}
+
+	@Override
+	public Iterator<Long> iterator() {
+		long[] snapshot = elements;
+		return new Iterator<>() {
+			private int cursor;
+
+			@Override
+			public boolean hasNext() {
+				return cursor < snapshot.length;
+			}
+
+			@Override
+			public Long next() {
+				if (cursor >= snapshot.length) throw new NoSuchElementException();
+				return snapshot[cursor++];
+			}
+		};
+	}
+}
@@ -10,7 +10,14 @@ import java.util.Objects;
 
 @Entity
 @NoArgsConstructor
-@Table(name = "block")
+@Table(
+		name = "block",
+		indexes = {
+				// 내가 차단한 유저 / 나를 차단한 유저 anti-join 을 각각 인덱스 조회로 처리
+				@Index(name = "idx_block_blocker_blocked_active", columnList = "blocker_id, blocked_id, active"),
+				@Index(name = "idx_block_blocked_blocker_active", columnList = "blocked_id, blocker_id, active")
+		}
+)
 public class Block {
 
 	@Id
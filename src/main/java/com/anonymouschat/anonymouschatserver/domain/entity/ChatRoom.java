@@ -8,11 +8,13 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 
 @Entity
 @NoArgsConstructor
+@DynamicUpdate
 @Table(
 		name = "chat_room",
 		indexes = {
@@ -22,6 +24,7 @@ import java.time.LocalDateTime;
 		}
 )
 public class ChatRoom {
+	public static final int LAST_MESSAGE_PREVIEW_LENGTH = 100;
 
 	@Getter
 	@Id
@@ -55,6 +58,36 @@ public class ChatRoom {
 	@Getter
 	private ChatRoomExit exit;
 
+	// 채팅방 목록 조회용 비정규화 컬럼: 메시지 저장/읽음 처리 시 원자적 update 로 갱신한다.
+	@Getter
+	@Column(name = "last_message_id")
+	private Long lastMessageId;
+
+	@Getter
+	@Column(name = "last_message_preview", length = LAST_MESSAGE_PREVIEW_LENGTH * 2)
+	private String lastMessagePreview;
+
+	@Getter
+	@Column(name = "last_message_at")
+	private LocalDateTime lastMessageAt;
+
+	@Getter
+	@Column(name = "user1_unread_count", nullable = false)
+	private long user1UnreadCount;
+
+	@Getter
+	@Column(name = "user2_unread_count", nullable = false)
+	private long user2UnreadCount;
+
+	// 읽음 워터마크: 참여자가 읽은 마지막 메시지 ID. 이 값 이하의 메시지는 모두 읽은 것으로 본다.
+	@Getter
+	@Column(name = "user1_last_read_message_id")
+	private Long user1LastReadMessageId;
+
+	@Getter
+	@Column(name = "user2_last_read_message_id")
+	private Long user2LastReadMessageId;
+
 	@Column(name = "created_at", nullable = false)
 	@Getter
 	private LocalDateTime createdAt;
@@ -104,6 +137,16 @@ public class ChatRoom {
 		return this.exit.getExitTime(userId, user1.getId(), user2.getId());
 	}
 
+	public Long getLastReadMessageId(Long userId) {
+		validateParticipant(userId);
+		return user1.getId().equals(userId) ? user1LastReadMessageId : user2LastReadMessageId;
+	}
+
+	public Long getOpponentId(Long userId) {
+		validateParticipant(userId);
+		return user1.getId().equals(userId) ? user2.getId() : user1.getId();
+	}
+
 	public void activate() {
 		if (!this.isActive) {
 			this.isActive = true;
@@ -117,6 +160,14 @@ public class ChatRoom {
 		}
 	}
 
+	/** 채팅방 목록에 보여줄 마지막 메시지 미리보기 (코드포인트 기준으로 자름) */
+	public static String previewOf(String content) {
+		if (content.codePointCount(0, content.length()) <= LAST_MESSAGE_PREVIEW_LENGTH) {
+			return content;
+		}
+		return content.substring(0, content.offsetByCodePoints(0, LAST_MESSAGE_PREVIEW_LENGTH));
+	}
+
 	public boolean isArchived() {
 		return !this.isActive && this.exit.bothExited(); // 과거 대화 완전 종료된 방
 	}
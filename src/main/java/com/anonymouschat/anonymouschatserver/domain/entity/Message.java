@@ -1,7 +1,9 @@
 package com.anonymouschat.anonymouschatserver.domain.entity;
 
+import com.anonymouschat.anonymouschatserver.common.id.SnowflakeId;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -10,11 +12,14 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 @AllArgsConstructor
+// 채팅방 메시지 커서 조회는 chat_room_id 외래 키 인덱스를 사용한다.
+// InnoDB 보조 인덱스는 기본 키(id)를 포함하므로 이 인덱스가 이미 (chat_room_id, id) 순서로 정렬되어 있다.
 @Table(name = "message")
-public class Message {
+public class Message implements Persistable<Long> {
 
+	// 시간 순서 ID: insert 전에 발급되므로 배치 insert 가 가능하고, 미리 할당한 ID도 그대로 사용된다.
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@SnowflakeId
 	@Column(name = "id", nullable = false)
 	private Long id;
 
@@ -29,16 +34,30 @@ public class Message {
 	@Column(name = "content", nullable = false, columnDefinition = "TEXT")
 	private String content;
 
-	@Builder.Default
-	@Column(name = "is_read", nullable = false)
-	private boolean isRead = false;
-
 	@Column(name = "sent_at", nullable = false)
 	private LocalDateTime sentAt;
 
+	// ID를 미리 할당해도 merge(select) 대신 persist 되도록 신규 여부를 직접 관리한다.
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private boolean persisted;
+
 	@PrePersist
 	private void initSentAt() {
-		this.sentAt = LocalDateTime.now();
+		if (this.sentAt == null) {
+			this.sentAt = LocalDateTime.now();
+		}
+	}
+
+	@PostPersist
+	@PostLoad
+	private void markPersisted() {
+		this.persisted = true;
+	}
+
+	@Override
+	public boolean isNew() {
+		return !persisted;
 	}
 
 	public boolean isSentBy(Long userId) {
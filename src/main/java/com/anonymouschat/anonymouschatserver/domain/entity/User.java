@@ -22,6 +22,9 @@ import java.util.Objects;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "`user`", uniqueConstraints = {
 		@UniqueConstraint(columnNames = {"provider", "provider_id"})
+}, indexes = {
+		// 유저 검색: 조건 컬럼 뒤에 (last_active_at, id) keyset 을 두어 커서 조회를 인덱스 범위로 처리
+		@Index(name = "idx_user_search", columnList = "gender, region, age, last_active_at, id")
 })
 public class User {
 	@Id
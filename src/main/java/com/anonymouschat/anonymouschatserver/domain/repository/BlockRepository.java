@@ -13,4 +13,7 @@ public interface BlockRepository extends JpaRepository<Block, Long> {
 
 	@Query("SELECT b.blocked.id FROM Block b WHERE b.blocker.id = :blockerId AND b.active = true")
 	List<Long> findAllBlockedUserIdsByBlockerId(@Param("blockerId") Long blockerId);
+
+	@Query("SELECT b.blocker.id FROM Block b WHERE b.blocked.id = :blockedId AND b.active = true")
+	List<Long> findAllBlockerIdsByBlockedId(@Param("blockedId") Long blockedId);
 }
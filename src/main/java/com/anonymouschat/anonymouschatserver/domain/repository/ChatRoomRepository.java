@@ -2,9 +2,11 @@ package com.anonymouschat.anonymouschatserver.domain.repository;
 
 import com.anonymouschat.anonymouschatserver.domain.entity.ChatRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatRoomRepositoryCustom {
@@ -15,12 +17,72 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long>, ChatR
         """)
 	Optional<ChatRoom> findLatestValidChatRoomByPair(@Param("left") long left, @Param("right") long right);
 
+	/**
+	 * 새 메시지를 채팅방 목록용 컬럼에 반영합니다.
+	 * 안읽음 카운터는 증가분만 더하고, 마지막 메시지는 기존보다 ID가 큰 경우에만 교체하므로 재시도로 늦게 저장된 메시지가 덮어쓰지 않습니다.
+	 */
+	@Modifying
 	@Query("""
-        select (count(cr) > 0)
+        update ChatRoom cr
+        set cr.user1UnreadCount = cr.user1UnreadCount + :user1Delta,
+            cr.user2UnreadCount = cr.user2UnreadCount + :user2Delta,
+            cr.lastMessagePreview = case when cr.lastMessageId is null or cr.lastMessageId < :messageId then :preview else cr.lastMessagePreview end,
+            cr.lastMessageAt = case when cr.lastMessageId is null or cr.lastMessageId < :messageId then :sentAt else cr.lastMessageAt end,
+            cr.lastMessageId = case when cr.lastMessageId is null or cr.lastMessageId < :messageId then :messageId else cr.lastMessageId end
+        where cr.id = :roomId
+        """)
+	int applyNewMessages(@Param("roomId") Long roomId,
+	                     @Param("messageId") Long messageId,
+	                     @Param("preview") String preview,
+	                     @Param("sentAt") LocalDateTime sentAt,
+	                     @Param("user1Delta") long user1Delta,
+	                     @Param("user2Delta") long user2Delta);
+
+	/**
+	 * 참여자의 읽음 워터마크를 올리고 안읽음 수를 0으로 만듭니다.
+	 * 워터마크는 채팅방의 마지막 메시지, 기존 워터마크, readUpTo 중 가장 큰 값이 되므로 뒤로 가지 않습니다.
+	 * readUpTo 는 전송은 되었지만 write-behind 로 아직 저장되지 않은 메시지까지 읽음으로 표시하기 위한 값입니다. (없으면 0)
+	 * 안읽음 메시지가 없고 워터마크도 이미 readUpTo 이상이면 아무것도 갱신하지 않으며 0을 반환합니다.
+	 */
+	@Modifying
+	@Query("""
+        update ChatRoom cr
+        set cr.user1LastReadMessageId = case when cr.user1.id = :userId
+                then greatest(coalesce(cr.lastMessageId, 0), coalesce(cr.user1LastReadMessageId, 0), :readUpTo)
+                else cr.user1LastReadMessageId end,
+            cr.user2LastReadMessageId = case when cr.user2.id = :userId
+                then greatest(coalesce(cr.lastMessageId, 0), coalesce(cr.user2LastReadMessageId, 0), :readUpTo)
+                else cr.user2LastReadMessageId end,
+            cr.user1UnreadCount = case when cr.user1.id = :userId then 0 else cr.user1UnreadCount end,
+            cr.user2UnreadCount = case when cr.user2.id = :userId then 0 else cr.user2UnreadCount end
+        where cr.id = :roomId
+          and ((cr.user1.id = :userId and (cr.user1UnreadCount > 0 or coalesce(cr.user1LastReadMessageId, 0) < :readUpTo))
+            or (cr.user2.id = :userId and (cr.user2UnreadCount > 0 or coalesce(cr.user2LastReadMessageId, 0) < :readUpTo)))
+        """)
+	int advanceReadWatermark(@Param("roomId") Long roomId, @Param("userId") Long userId, @Param("readUpTo") long readUpTo);
+
+	/**
+	 * 참여자별 읽음 워터마크를 행 잠금(FOR UPDATE)과 함께 조회합니다.
+	 * 메시지 배치 반영 중에 들어온 읽음 처리가 안읽음 수 계산 사이에 끼어들지 않도록 같은 트랜잭션에서 사용합니다.
+	 */
+	@Query(value = """
+        select user1_last_read_message_id as user1LastReadMessageId,
+               user2_last_read_message_id as user2LastReadMessageId
+        from chat_room
+        where id = :roomId
+        for update
+        """, nativeQuery = true)
+	ReadWatermarks lockReadWatermarks(@Param("roomId") Long roomId);
+
+	interface ReadWatermarks {
+		Long getUser1LastReadMessageId();
+		Long getUser2LastReadMessageId();
+	}
+
+	@Query("""
+        select case when cr.user1.id = :userId then cr.user1LastReadMessageId else cr.user2LastReadMessageId end
         from ChatRoom cr
         where cr.id = :roomId
-          and (cr.user1.id = :participantId or cr.user2.id = :participantId)
         """)
-	boolean existsByIdAndParticipantId(@Param("roomId") Long roomId,
-	                                            @Param("participantId") Long participantId);
+	Long findLastReadMessageId(@Param("roomId") Long roomId, @Param("userId") Long userId);
 }
@@ -3,7 +3,10 @@ package com.anonymouschat.anonymouschatserver.domain.repository;
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface ChatRoomRepositoryCustom {
 	List<ChatRoomServiceDto.SummaryResult> findActiveChatRoomsByUser(Long userId);
+
+	Optional<ChatRoomServiceDto.ParticipantPair> findParticipantPair(Long roomId);
 }
@@ -1,19 +1,19 @@
 package com.anonymouschat.anonymouschatserver.domain.repository;
 
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
+import com.anonymouschat.anonymouschatserver.application.dto.QChatRoomServiceDto_ParticipantPair;
 import com.anonymouschat.anonymouschatserver.application.dto.QChatRoomServiceDto_SummaryResult;
 import com.anonymouschat.anonymouschatserver.domain.entity.QChatRoom;
-import com.anonymouschat.anonymouschatserver.domain.entity.QMessage;
 import com.anonymouschat.anonymouschatserver.domain.entity.QUserProfileImage;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 @RequiredArgsConstructor
@@ -34,7 +34,7 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom{
 						       selectOpponentRegion(cr, userId),
 						       selectOpponentProfileImageUrl(img),
 						       cr.updatedAt,
-						       selectLastMessageContent(cr),
+						       cr.lastMessagePreview,
 						       selectUnreadCount(cr, userId)
 				       ))
 				       .from(cr)
@@ -51,6 +51,17 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom{
 				       .fetch();
 	}
 
+	@Override
+	public Optional<ChatRoomServiceDto.ParticipantPair> findParticipantPair(Long roomId) {
+		QChatRoom cr = QChatRoom.chatRoom;
+
+		return Optional.ofNullable(queryFactory
+				                           .select(new QChatRoomServiceDto_ParticipantPair(cr.id, cr.pairLeftId, cr.pairRightId))
+				                           .from(cr)
+				                           .where(cr.id.eq(roomId))
+				                           .fetchOne());
+	}
+
 	private BooleanExpression isParticipantStillIn(QChatRoom cr, Long userId) {
 		return cr.user1.id.eq(userId).and(cr.exit.user1Exited.eq(false))
 				       .or(cr.user2.id.eq(userId).and(cr.exit.user2Exited.eq(false)));
@@ -85,32 +96,8 @@ public class ChatRoomRepositoryImpl implements ChatRoomRepositoryCustom{
 	}
 
 	private Expression<Long> selectUnreadCount(QChatRoom cr, Long userId) {
-		QMessage msg = QMessage.message;
-		return JPAExpressions
-				       .select(msg.count())
-				       .from(msg)
-				       .where(
-						       msg.chatRoom.id.eq(cr.id),
-						       msg.sender.id.ne(userId),
-						       msg.isRead.isFalse()
-				       );
-	}
-
-	private Expression<String> selectLastMessageContent(QChatRoom cr) {
-		QMessage msg = QMessage.message;
-		QMessage subMsg = new QMessage("subMsg");
-
-		return JPAExpressions
-				       .select(msg.content)
-				       .from(msg)
-				       .where(
-						       msg.chatRoom.id.eq(cr.id),
-						       msg.sentAt.eq(
-								       JPAExpressions
-										       .select(subMsg.sentAt.max())
-										       .from(subMsg)
-										       .where(subMsg.chatRoom.id.eq(cr.id))
-						       )
-				       );
+		return new CaseBuilder()
+				       .when(cr.user1.id.eq(userId)).then(cr.user1UnreadCount)
+				       .otherwise(cr.user2UnreadCount);
 	}
 }
@@ -7,6 +7,4 @@ import java.util.List;
 
 public interface MessageRepositoryCustom {
 	List<Message> findMessagesAfterExitTimeWithCursor(Long roomId, LocalDateTime lastExitedAt, Long lastMessageId, int limit);
-	Long updateMessagesAsRead(Long roomId, Long userId);
-	Long findMaxReadMessageId(Long roomId, Long senderId);
 }
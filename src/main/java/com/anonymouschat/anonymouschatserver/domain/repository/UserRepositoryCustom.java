@@ -4,6 +4,10 @@ import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 
+import java.util.List;
+
 public interface UserRepositoryCustom {
 	Slice<UserServiceDto.SearchResult> findUsersByCondition(UserServiceDto.SearchCommand command, Pageable pageable);
+
+	List<UserServiceDto.SearchResult> findUsersByConditionAfter(UserServiceDto.SearchCommand command, UserServiceDto.SearchCursor cursor, int limit);
 }
@@ -2,11 +2,14 @@ package com.anonymouschat.anonymouschatserver.domain.repository;
 
 import com.anonymouschat.anonymouschatserver.application.dto.QUserServiceDto_SearchResult;
 import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
+import com.anonymouschat.anonymouschatserver.domain.entity.QBlock;
 import com.anonymouschat.anonymouschatserver.domain.entity.QUser;
 import com.anonymouschat.anonymouschatserver.domain.entity.QUserProfileImage;
 import com.anonymouschat.anonymouschatserver.domain.type.Gender;
 import com.anonymouschat.anonymouschatserver.domain.type.Region;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -23,31 +26,9 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 	@Override
 	public Slice<UserServiceDto.SearchResult> findUsersByCondition(UserServiceDto.SearchCommand cond, Pageable pageable) {
 		QUser user = QUser.user;
-		QUserProfileImage image = QUserProfileImage.userProfileImage;
 
-		List<UserServiceDto.SearchResult> results = queryFactory
-				                                 .select(new QUserServiceDto_SearchResult(
-						                                 user.id,
-						                                 user.nickname,
-						                                 user.gender,
-						                                 user.age,
-						                                 user.region,
-						                                 image.imageUrl,
-						                                 user.lastActiveAt
-				                                 ))
-				                                 .from(user)
-				                                 .leftJoin(image)
-				                                 .on(image.user.id.eq(user.id)
-						                                     .and(image.isRepresentative.isTrue())
-						                                     .and(image.deleted.isFalse()))
-				                                 .where(
-						                                 user.id.notIn(cond.blockedUserIds()),
-						                                 excludeCurrentUser(cond.id()),
-						                                 genderEquals(cond.gender()),
-						                                 ageBetween(cond.minAge(), cond.maxAge()),
-						                                 regionEquals(cond.region())
-				                                 )
-				                                 .orderBy(user.lastActiveAt.desc())
+		List<UserServiceDto.SearchResult> results = searchQuery(cond)
+				                                 .orderBy(user.lastActiveAt.desc(), user.id.desc())
 				                                 .offset(pageable.getOffset())
 				                                 .limit(pageable.getPageSize() + 1)
 				                                 .fetch();
@@ -60,6 +41,96 @@ public class UserRepositoryImpl implements UserRepositoryCustom {
 		return new SliceImpl<>(results, pageable, hasNext);
 	}
 
+	/**
+	 * (lastActiveAt, id) keyset 으로 커서 다음 유저들을 조회합니다.
+	 * 앞 페이지를 건너뛰며 읽지 않으므로 깊은 페이지도 첫 페이지와 같은 비용이 듭니다.
+	 */
+	@Override
+	public List<UserServiceDto.SearchResult> findUsersByConditionAfter(UserServiceDto.SearchCommand cond, UserServiceDto.SearchCursor cursor, int limit) {
+		QUser user = QUser.user;
+
+		return searchQuery(cond)
+				       .where(after(cursor))
+				       .orderBy(user.lastActiveAt.desc(), user.id.desc())
+				       .limit(limit)
+				       .fetch();
+	}
+
+	private JPAQuery<UserServiceDto.SearchResult> searchQuery(UserServiceDto.SearchCommand cond) {
+		QUser user = QUser.user;
+		QUserProfileImage image = QUserProfileImage.userProfileImage;
+
+		return queryFactory
+				       .select(new QUserServiceDto_SearchResult(
+						       user.id,
+						       user.nickname,
+						       user.gender,
+						       user.age,
+						       user.region,
+						       image.imageUrl,
+						       user.lastActiveAt
+				       ))
+				       .from(user)
+				       .leftJoin(image)
+				       .on(image.user.id.eq(user.id)
+						           .and(image.isRepresentative.isTrue())
+						           .and(image.deleted.isFalse()))
+				       .where(
+						       excludeCurrentUser(cond.id()),
+						       excludeUsersBlockedBy(cond.id()),
+						       excludeUsersWhoBlocked(cond.id()),
+						       genderEquals(cond.gender()),
+						       ageBetween(cond.minAge(), cond.maxAge()),
+						       regionEquals(cond.region())
+				       );
+	}
+
+	private BooleanExpression after(UserServiceDto.SearchCursor cursor) {
+		if (cursor == null) {
+			return null;
+		}
+		QUser user = QUser.user;
+		return user.lastActiveAt.lt(cursor.lastActiveAt())
+				       .or(user.lastActiveAt.eq(cursor.lastActiveAt()).and(user.id.lt(cursor.userId())));
+	}
+
+	/**
+	 * 내가 차단한 유저를 NOT EXISTS anti-join 으로 제외합니다. (blocker_id, blocked_id, active) 인덱스 사용
+	 * 차단 목록을 IN 파라미터로 넘기지 않으므로 차단 수와 무관하게 같은 쿼리 계획을 재사용합니다.
+	 */
+	private BooleanExpression excludeUsersBlockedBy(Long currentUserId) {
+		if (currentUserId == null) {
+			return null;
+		}
+		QBlock block = QBlock.block;
+		return JPAExpressions.selectOne()
+				       .from(block)
+				       .where(
+						       block.blocker.id.eq(currentUserId),
+						       block.blocked.id.eq(QUser.user.id),
+						       block.active.isTrue()
+				       )
+				       .notExists();
+	}
+
+	/**
+	 * 나를 차단한 유저를 NOT EXISTS anti-join 으로 제외합니다. (blocked_id, blocker_id, active) 인덱스 사용
+	 */
+	private BooleanExpression excludeUsersWhoBlocked(Long currentUserId) {
+		if (currentUserId == null) {
+			return null;
+		}
+		QBlock block = QBlock.block;
+		return JPAExpressions.selectOne()
+				       .from(block)
+				       .where(
+						       block.blocked.id.eq(currentUserId),
+						       block.blocker.id.eq(QUser.user.id),
+						       block.active.isTrue()
+				       )
+				       .notExists();
+	}
+
 	private BooleanExpression excludeCurrentUser(Long currentUserId) {
 		return currentUserId != null ? QUser.user.id.ne(currentUserId) : null;
 	}
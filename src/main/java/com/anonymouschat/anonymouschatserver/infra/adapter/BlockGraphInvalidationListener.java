@@ -0,0 +1,37 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.application.cache.BlockGraphCache;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 발행한 차단 관계 변경을 받아 현재 노드의 캐시 항목을 제거합니다.
+ * 자신이 발행한 메시지는 이미 커밋 시점에 반영했으므로 무시합니다.
+ * 클러스터 모드에서만 {@code ClusterConfig}가 리스너 컨테이너에 등록합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class BlockGraphInvalidationListener implements MessageListener {
+	private final BlockGraphCache blockGraphCache;
+	private final String nodeName;
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		try {
+			String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+			if (parts.length != 3 || nodeName.equals(parts[0])) return;
+
+			blockGraphCache.evict(Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+			log.debug("{}차단 관계 캐시 무효화 수신 - origin={}, blockerId={}, blockedId={}",
+					LogTag.BLOCK, parts[0], parts[1], parts[2]);
+		} catch (Exception e) {
+			log.warn("{}차단 관계 무효화 수신 실패 - reason={}", LogTag.BLOCK, e.getMessage());
+		}
+	}
+}
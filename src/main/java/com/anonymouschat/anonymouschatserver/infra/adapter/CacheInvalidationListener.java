@@ -0,0 +1,43 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.infra.cache.TwoLevelCacheManager;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Pattern;
+
+/**
+ * 다른 노드에서 발행한 캐시 변경을 받아 현재 노드의 로컬(L1) 항목을 제거합니다.
+ * 자신이 발행한 메시지는 이미 반영했으므로 무시합니다.
+ * 클러스터 모드에서만 {@code ClusterConfig}가 리스너 컨테이너에 등록합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+	private static final Pattern SEPARATOR = Pattern.compile(Pattern.quote(RedisCacheInvalidationPublisher.SEPARATOR));
+
+	private final TwoLevelCacheManager cacheManager;
+	private final String nodeName;
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		try {
+			String[] parts = SEPARATOR.split(new String(message.getBody(), StandardCharsets.UTF_8), 3);
+			if (parts.length < 2 || nodeName.equals(parts[0])) return;
+
+			if (parts.length == 2) {
+				cacheManager.clearLocal(parts[1]);
+			} else {
+				cacheManager.evictLocal(parts[1], parts[2]);
+			}
+			log.debug("{}캐시 무효화 수신 - origin={}, cache={}", LogTag.CACHE, parts[0], parts[1]);
+		} catch (Exception e) {
+			log.warn("{}캐시 무효화 수신 실패 - reason={}", LogTag.CACHE, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.application.port.BlockGraphInvalidationPort;
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 차단 관계 변경을 Redis 채널로 발행해 다른 노드의 차단 관계 캐시를 무효화합니다.
+ * 클러스터 모드가 아니면 현재 노드 캐시만 갱신하면 되므로 발행하지 않습니다.
+ * 메시지 형식: {@code <발행 노드>:<blockerId>:<blockedId>}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBlockGraphInvalidationAdapter implements BlockGraphInvalidationPort {
+	private final StringRedisTemplate redisTemplate;
+	private final ClusterProperties properties;
+
+	@Override
+	public void publish(Long blockerId, Long blockedId) {
+		if (!properties.isEnabled()) return;
+
+		try {
+			redisTemplate.convertAndSend(properties.getBlockInvalidationChannel(),
+					properties.getNodeName() + ":" + blockerId + ":" + blockedId);
+		} catch (Exception e) {
+			log.warn("{}차단 관계 무효화 발행 실패 - blockerId={}, blockedId={}, reason={}",
+					LogTag.BLOCK, blockerId, blockedId, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,43 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.infra.cache.CacheInvalidationPublisher;
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 캐시 변경을 Redis 채널로 발행합니다. 클러스터 모드가 아니면 발행하지 않습니다.
+ * 메시지 형식: {@code <발행 노드>|<캐시 이름>|<키>} (키가 없으면 캐시 전체 비우기)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCacheInvalidationPublisher implements CacheInvalidationPublisher {
+	static final String SEPARATOR = "|";
+
+	private final StringRedisTemplate redisTemplate;
+	private final ClusterProperties properties;
+
+	@Override
+	public void publishEvict(String cacheName, String key) {
+		publish(properties.getNodeName() + SEPARATOR + cacheName + SEPARATOR + key, cacheName);
+	}
+
+	@Override
+	public void publishClear(String cacheName) {
+		publish(properties.getNodeName() + SEPARATOR + cacheName, cacheName);
+	}
+
+	private void publish(String message, String cacheName) {
+		if (!properties.isEnabled()) return;
+
+		try {
+			redisTemplate.convertAndSend(properties.getCacheInvalidationChannel(), message);
+		} catch (Exception e) {
+			log.warn("{}캐시 무효화 발행 실패 - cache={}, reason={}", LogTag.CACHE, cacheName, e.getMessage());
+		}
+	}
+}
@@ -12,29 +12,49 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.util.Base64;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
+/**
+ * 토큰 데이터를 Redis 에 보관합니다.
+ * 값은 ObjectMapper 로 한 번만 직렬화한 JSON 문자열을 {@link StringRedisTemplate} 으로 그대로 저장하므로
+ * 타입 메타데이터가 붙는 이중 인코딩 없이 한 번의 파싱으로 읽힙니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisTokenStorageAdapter implements TokenStoragePort {
 
-	private final RedisTemplate<String, Object> redisTemplate;
+	private final StringRedisTemplate redisTemplate;
 	private final ObjectMapper objectMapper;
+	private final TokenBlacklistNearCache blacklistNearCache;
 	private final SecureRandom secureRandom = new SecureRandom();
 
 	private static final String OAUTH_TEMP_PREFIX = "oauth_temp:";
 	private static final String REFRESH_PREFIX = "refresh:";
 	private static final String BLACKLIST_PREFIX = "blacklist:";
+	// 사용자별 토큰 키 인덱스(Set). 전체 무효화는 keyspace SCAN 없이 이 Set 만 읽는다.
+	private static final String USER_TOKENS_PREFIX = "user_tokens:";
+	private static final int REFRESH_TTL_SECONDS = 604800;
+	private static final String BLACKLISTED = "blacklisted";
+
+	// 인덱스 조회와 삭제를 한 스크립트로 실행해, 그 사이에 저장된 토큰이 살아남지 않게 함
+	// KEYS[1] = 사용자 인덱스, KEYS[2] = 인덱스 도입 이전의 refresh 키
+	private static final RedisScript<Long> REVOKE_ALL = new DefaultRedisScript<>(
+			"local keys = redis.call('smembers', KEYS[1]) " +
+			"keys[#keys + 1] = KEYS[1] " +
+			"keys[#keys + 1] = KEYS[2] " +
+			"return redis.call('unlink', unpack(keys))",
+			Long.class);
 
 	@Override
 	public String storeOAuthTempData(AuthServiceDto.OAuthTempInfo data) {
@@ -48,26 +68,37 @@ public class RedisTokenStorageAdapter implements TokenStoragePort {
 	@Override
 	public Optional<AuthServiceDto.OAuthTempInfo> consumeOAuthTempData(String tempCode) {
 		String key = OAUTH_TEMP_PREFIX + tempCode;
-		Optional<TokenStorageDto.AuthTempData> data = get(key, TokenStorageDto.AuthTempData.class);
-
-		if (data.isPresent()) {
-			try {
-				redisTemplate.delete(key);
-				log.debug("OAuth 임시 토큰 소비 - tempCode: {}", tempCode);
-				return Optional.of(data.get().toServiceDto());
-			} catch (Exception e) {
-				log.error("OAuth 임시 토큰 삭제 실패 - key: {}", key, e);
-				throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
-			}
+		String json;
+		try {
+			// GETDEL: 조회와 삭제를 한 명령으로 처리해 같은 코드가 두 번 소비되지 않게 함
+			json = redisTemplate.opsForValue().getAndDelete(key);
+		} catch (Exception e) {
+			log.error("OAuth 임시 토큰 소비 실패 - key: {}", key, e);
+			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
 		}
-		return Optional.empty();
+		if (json == null) return Optional.empty();
+
+		log.debug("OAuth 임시 토큰 소비 - tempCode: {}", tempCode);
+		return Optional.of(decode(key, json, TokenStorageDto.AuthTempData.class).toServiceDto());
 	}
 
 	@Override
 	public void storeRefreshToken(Long userId, AuthServiceDto.RefreshTokenInfo info) {
 		String key = REFRESH_PREFIX + userId;
-		TokenStorageDto.RefreshTokenData storageData = TokenStorageDto.RefreshTokenData.from(info);
-		store(key, storageData, 604800);
+		String json = encode(key, TokenStorageDto.RefreshTokenData.from(info));
+		try {
+			byte[] indexKey = bytes(USER_TOKENS_PREFIX + userId);
+			// 토큰 저장과 사용자 인덱스 등록을 한 번의 왕복으로 처리. 인덱스는 가장 늦게 만료되는 토큰에 맞춰 연장
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				connection.stringCommands().setEx(bytes(key), REFRESH_TTL_SECONDS, bytes(json));
+				connection.setCommands().sAdd(indexKey, bytes(key));
+				connection.keyCommands().expire(indexKey, REFRESH_TTL_SECONDS);
+				return null;
+			});
+		} catch (Exception e) {
+			log.error("토큰 저장 실패 - key: {}", key, e);
+			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
+		}
 		log.debug("Refresh 토큰 저장 - userId: {}", userId);
 	}
 
@@ -94,7 +125,8 @@ public class RedisTokenStorageAdapter implements TokenStoragePort {
 	public void blacklistToken(String tokenHash, int ttlSeconds) {
 		try {
 			String key = BLACKLIST_PREFIX + tokenHash;
-			redisTemplate.opsForValue().set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
+			redisTemplate.opsForValue().set(key, BLACKLISTED, Duration.ofSeconds(ttlSeconds));
+			blacklistNearCache.record(tokenHash, ttlSeconds);
 			log.debug("Access 토큰 블랙리스트 추가 - hash: {}", tokenHash);
 		} catch (Exception e) {
 			log.error("토큰 블랙리스트 추가 실패 - hash: {}", tokenHash, e);
@@ -102,8 +134,40 @@ public class RedisTokenStorageAdapter implements TokenStoragePort {
 		}
 	}
 
+	@Override
+	public void revokeSession(Long userId, String tokenHash, int ttlSeconds) {
+		try {
+			byte[] refreshKey = bytes(REFRESH_PREFIX + userId);
+			byte[] blacklistKey = bytes(BLACKLIST_PREFIX + tokenHash);
+			// refresh 삭제와 access 블랙리스트 등록을 파이프라인으로 묶어 한 번의 왕복으로 처리
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				connection.keyCommands().del(refreshKey);
+				connection.stringCommands().setEx(blacklistKey, ttlSeconds, bytes(BLACKLISTED));
+				return null;
+			});
+			blacklistNearCache.record(tokenHash, ttlSeconds);
+			log.debug("세션 무효화 - userId: {}, hash: {}", userId, tokenHash);
+		} catch (Exception e) {
+			log.error("세션 무효화 실패 - userId: {}, hash: {}", userId, tokenHash, e);
+			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
+		}
+	}
+
 	@Override
 	public boolean isTokenBlacklisted(String tokenHash) {
+		Boolean local = blacklistNearCache.check(tokenHash);
+		if (local != null) {
+			return local;
+		}
+		return hasBlacklistKey(tokenHash);
+	}
+
+	@Override
+	public boolean isLegacyTokenBlacklisted(String legacyHash) {
+		return hasBlacklistKey(legacyHash);
+	}
+
+	private boolean hasBlacklistKey(String tokenHash) {
 		try {
 			String key = BLACKLIST_PREFIX + tokenHash;
 			return redisTemplate.hasKey(key);
@@ -116,11 +180,8 @@ public class RedisTokenStorageAdapter implements TokenStoragePort {
 	@Override
 	public void deleteAllUserTokens(Long userId) {
 		try {
-			Set<String> keysToDelete = scanKeys(REFRESH_PREFIX + userId + "*");
-			if (!keysToDelete.isEmpty()) {
-				redisTemplate.delete(keysToDelete);
-				log.info("사용자 모든 토큰 무효화 - userId: {}, count: {}", userId, keysToDelete.size());
-			}
+			Long deleted = redisTemplate.execute(REVOKE_ALL, List.of(USER_TOKENS_PREFIX + userId, REFRESH_PREFIX + userId));
+			log.info("사용자 모든 토큰 무효화 - userId: {}, count: {}", userId, deleted);
 		} catch (Exception e) {
 			log.error("사용자 모든 토큰 삭제 실패 - userId: {}", userId, e);
 			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
@@ -142,34 +203,53 @@ public class RedisTokenStorageAdapter implements TokenStoragePort {
 	}
 
 	private <T> void store(String key, T data, int ttlSeconds) {
+		String json = encode(key, data);
 		try {
-			String json = objectMapper.writeValueAsString(data);
 			redisTemplate.opsForValue().set(key, json, Duration.ofSeconds(ttlSeconds));
-		} catch (JsonProcessingException e) {
-			log.error("토큰 데이터 직렬화 실패 - key: {}", key, e);
-			throw new TokenSerializationException(ErrorCode.TOKEN_SERIALIZATION_FAILED, e);
 		} catch (Exception e) {
 			log.error("토큰 저장 실패 - key: {}", key, e);
 			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
 		}
 	}
 
+	private <T> String encode(String key, T data) {
+		try {
+			return objectMapper.writeValueAsString(data);
+		} catch (JsonProcessingException e) {
+			log.error("토큰 데이터 직렬화 실패 - key: {}", key, e);
+			throw new TokenSerializationException(ErrorCode.TOKEN_SERIALIZATION_FAILED, e);
+		}
+	}
+
 	private <T> Optional<T> get(String key, Class<T> clazz) {
+		String json;
 		try {
-			String json = (String) redisTemplate.opsForValue().get(key);
-			if (json == null) return Optional.empty();
+			json = redisTemplate.opsForValue().get(key);
+		} catch (Exception e) {
+			log.error("토큰 조회 실패 - key: {}", key, e);
+			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
+		}
+		if (json == null) return Optional.empty();
+		return Optional.of(decode(key, json, clazz));
+	}
 
-			T data = objectMapper.readValue(json, clazz);
-			return Optional.of(data);
+	private <T> T decode(String key, String json, Class<T> clazz) {
+		try {
+			// 이전 포맷(JSON 문자열을 다시 JSON 으로 감싼 값)은 한 번 풀어서 읽음
+			if (json.startsWith("\"")) {
+				json = objectMapper.readValue(json, String.class);
+			}
+			return objectMapper.readValue(json, clazz);
 		} catch (JsonProcessingException e) {
 			log.error("토큰 데이터 역직렬화 실패 - key: {}", key, e);
 			throw new TokenDeserializationException(ErrorCode.TOKEN_DESERIALIZATION_FAILED, e);
-		} catch (Exception e) {
-			log.error("토큰 조회 실패 - key: {}", key, e);
-			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
 		}
 	}
 
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
 	private String generateSecureCode() {
 		try {
 			byte[] bytes = new byte[32];
@@ -180,18 +260,4 @@ public class RedisTokenStorageAdapter implements TokenStoragePort {
 			throw new TokenStorageException(ErrorCode.TOKEN_STORAGE_ERROR, e);
 		}
 	}
-
-	/**
-	 * Redis KEYS 대신 SCAN 기반 키 검색 (운영환경 안전성 고려)
-	 */
-	private Set<String> scanKeys(String pattern) {
-		return redisTemplate.execute((RedisCallback<Set<String>>) connection -> {
-			Set<String> keys = new HashSet<>();
-			try (var cursor = connection.keyCommands()
-					                  .scan(ScanOptions.scanOptions().match(pattern).count(1000).build())) {
-				cursor.forEachRemaining(item -> keys.add(new String(item)));
-			}
-			return keys;
-		});
-	}
 }
\ No newline at end of file
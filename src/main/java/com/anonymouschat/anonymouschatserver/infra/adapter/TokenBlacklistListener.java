@@ -0,0 +1,32 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 다른 노드에서 블랙리스트에 추가한 토큰을 현재 노드의 {@link TokenBlacklistNearCache}에 반영합니다.
+ * 메시지 형식: {@code <tokenHash>:<ttlSeconds>}
+ * 클러스터 모드에서만 {@code ClusterConfig}가 리스너 컨테이너에 등록합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenBlacklistListener implements MessageListener {
+	private final TokenBlacklistNearCache nearCache;
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		try {
+			String body = new String(message.getBody(), StandardCharsets.UTF_8);
+			int delimiter = body.lastIndexOf(':');
+			nearCache.apply(body.substring(0, delimiter), Integer.parseInt(body.substring(delimiter + 1)));
+		} catch (Exception e) {
+			log.warn("{}블랙리스트 전파 수신 실패 - reason: {}", LogTag.AUTH, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.common.util.BloomFilter;
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.RedisConfig;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Access 토큰 블랙리스트의 로컬 near-cache 입니다.
+ * 블랙리스트에 오른 토큰은 드물기 때문에 대부분의 요청은 Bloom 필터에서 "없음"으로 판정되어 Redis를 거치지 않습니다.
+ * <ul>
+ *     <li>확정 집합: 현재 노드 또는 다른 노드(pub/sub)에서 블랙리스트에 추가된 해시와 만료 시각</li>
+ *     <li>Bloom 필터: 주기적으로 Redis 블랙리스트 키를 SCAN 하여 재구성. 놓친 pub/sub 메시지와 만료된 키도 이때 정리됩니다.</li>
+ * </ul>
+ * 첫 동기화에 성공하기 전이나 Bloom 필터가 "있을 수 있음"으로 판정하면 Redis 로 확인합니다.
+ * <p>
+ * 다른 노드의 추가는 pub/sub 으로만 알 수 있으므로, "없음" 판정은 전파 채널 구독이 살아 있을 때만 신뢰합니다.
+ * 클러스터 모드가 꺼져 있거나 구독이 끊긴 동안에는 매 요청 Redis 로 확인합니다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklistNearCache {
+	static final String BLACKLIST_PREFIX = "blacklist:";
+	static final int EXPECTED_ENTRIES = 100_000;
+	static final double FALSE_POSITIVE_RATE = 0.01;
+	static final int MAX_CONFIRMED = 100_000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final StringRedisTemplate bulkRedisTemplate; // SCAN 재동기화는 요청 경로와 다른 연결을 사용
+	private final ClusterProperties properties;
+	private final Clock clock;
+
+	private final Map<String, Long> confirmed = new ConcurrentHashMap<>();
+	private volatile BloomFilter filter;
+	private volatile BooleanSupplier propagationLive = () -> false;
+
+	public TokenBlacklistNearCache(StringRedisTemplate redisTemplate,
+	                               @Qualifier(RedisConfig.BULK_REDIS_TEMPLATE) StringRedisTemplate bulkRedisTemplate,
+	                               ClusterProperties properties,
+	                               Clock clock) {
+		this.redisTemplate = redisTemplate;
+		this.bulkRedisTemplate = bulkRedisTemplate;
+		this.properties = properties;
+		this.clock = clock;
+	}
+
+	/**
+	 * 블랙리스트 전파 채널 구독 상태를 연결합니다. 클러스터 모드에서 {@code ClusterConfig}가 호출합니다.
+	 */
+	public void bindPropagation(BooleanSupplier live) {
+		this.propagationLive = live;
+	}
+
+	/**
+	 * 로컬에서 판정할 수 있으면 블랙리스트 여부를, Redis 확인이 필요하면 null 을 반환합니다.
+	 */
+	public Boolean check(String tokenHash) {
+		Long expiresAt = confirmed.get(tokenHash);
+		if (expiresAt != null) {
+			if (expiresAt > clock.millis()) {
+				return true;
+			}
+			confirmed.remove(tokenHash, expiresAt);
+		}
+
+		BloomFilter current = filter;
+		if (current == null || !propagationLive.getAsBoolean() || current.mightContain(tokenHash)) {
+			return null;
+		}
+		return false;
+	}
+
+	/**
+	 * 현재 노드에서 블랙리스트에 추가한 토큰을 반영하고, 클러스터 모드면 다른 노드에 전파합니다.
+	 */
+	public void record(String tokenHash, int ttlSeconds) {
+		apply(tokenHash, ttlSeconds);
+		if (!properties.isEnabled()) return;
+
+		try {
+			redisTemplate.convertAndSend(properties.getBlacklistChannel(), tokenHash + ":" + ttlSeconds);
+		} catch (Exception e) {
+			log.warn("{}블랙리스트 전파 실패 - hash: {}, reason: {}", LogTag.AUTH, tokenHash, e.getMessage());
+		}
+	}
+
+	/**
+	 * 블랙리스트 추가를 로컬 확정 집합과 Bloom 필터에 반영합니다.
+	 */
+	public void apply(String tokenHash, int ttlSeconds) {
+		if (confirmed.size() >= MAX_CONFIRMED && !confirmed.containsKey(tokenHash)) {
+			trimConfirmed();
+		}
+		confirmed.put(tokenHash, clock.millis() + ttlSeconds * 1000L);
+		BloomFilter current = filter;
+		if (current != null) {
+			current.put(tokenHash);
+		}
+	}
+
+	/**
+	 * Redis 블랙리스트 키로 Bloom 필터를 다시 만듭니다. 기동 직후 한 번, 이후 주기적으로 실행됩니다.
+	 * 주기는 놓친 pub/sub 메시지가 "없음"으로 판정될 수 있는 최대 시간입니다.
+	 * 재구성 도중 추가된 토큰은 확정 집합에 남아 있으므로 교체 시점에 누락되지 않습니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.cluster.blacklist-resync-interval-ms:60000}")
+	public void resync() {
+		try {
+			BloomFilter rebuilt = new BloomFilter(EXPECTED_ENTRIES, FALSE_POSITIVE_RATE);
+			List<String> hashes = scanBlacklistedHashes();
+			hashes.forEach(rebuilt::put);
+			confirmed.keySet().forEach(rebuilt::put);
+			filter = rebuilt;
+			log.debug("{}블랙리스트 near-cache 동기화 - keys: {}, confirmed: {}", LogTag.AUTH, hashes.size(), confirmed.size());
+		} catch (Exception e) {
+			log.warn("{}블랙리스트 near-cache 동기화 실패, 이전 필터 유지 - reason: {}", LogTag.AUTH, e.getMessage());
+		}
+	}
+
+	private List<String> scanBlacklistedHashes() {
+		return bulkRedisTemplate.execute((RedisCallback<List<String>>) connection -> {
+			List<String> hashes = new ArrayList<>();
+			try (var cursor = connection.keyCommands()
+					                  .scan(ScanOptions.scanOptions().match(BLACKLIST_PREFIX + "*").count(1000).build())) {
+				cursor.forEachRemaining(key ->
+						hashes.add(new String(key, StandardCharsets.UTF_8).substring(BLACKLIST_PREFIX.length())));
+			}
+			return hashes;
+		});
+	}
+
+	// 만료된 항목을 먼저 비우고, 그래도 상한이면 일부(1/8)를 비웁니다. 비워진 해시는 Bloom 필터에 남아 Redis 로 확인됩니다.
+	private void trimConfirmed() {
+		long now = clock.millis();
+		confirmed.values().removeIf(expiresAt -> expiresAt <= now);
+		int toRemove = confirmed.size() >= MAX_CONFIRMED ? Math.max(1, MAX_CONFIRMED / 8) : 0;
+		Iterator<String> it = confirmed.keySet().iterator();
+		while (it.hasNext() && toRemove-- > 0) {
+			it.next();
+			it.remove();
+		}
+	}
+}
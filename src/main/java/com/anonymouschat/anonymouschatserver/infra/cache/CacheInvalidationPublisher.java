@@ -0,0 +1,11 @@
+package com.anonymouschat.anonymouschatserver.infra.cache;
+
+/**
+ * 2단계 캐시의 변경을 다른 노드에 알려 그 노드들의 로컬(L1) 항목을 무효화합니다.
+ */
+public interface CacheInvalidationPublisher {
+
+	void publishEvict(String cacheName, String key);
+
+	void publishClear(String cacheName);
+}
@@ -0,0 +1,152 @@
+package com.anonymouschat.anonymouschatserver.infra.cache;
+
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.lang.NonNull;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 로컬 Caffeine(L1) 뒤에 Redis 캐시(L2)를 두는 2단계 캐시입니다.
+ * <ul>
+ *     <li>조회: L1 → L2 → (없으면) 원본. L2 에서 찾은 값은 L1 에 채웁니다.</li>
+ *     <li>변경(put/evict/clear): L2 에 먼저 반영하고 L1 을 갱신한 뒤, 다른 노드의 L1 을 무효화하도록 발행합니다.</li>
+ * </ul>
+ * L1 키는 L2(Redis) 키와 같은 문자열 표현을 사용하므로 무효화 메시지의 키로 바로 찾을 수 있습니다.
+ * Redis 장애 시에는 L2 를 건너뛰고 L1 과 원본만으로 동작합니다.
+ * {@code @Cacheable(sync = true)} 로 사용하면 조회 미스로 채우는 값은 무효화를 발행하지 않습니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, Object> local;
+	private final org.springframework.cache.Cache remote;
+	private final CacheInvalidationPublisher publisher;
+
+	public TwoLevelCache(String name,
+	                     com.github.benmanes.caffeine.cache.Cache<String, Object> local,
+	                     org.springframework.cache.Cache remote,
+	                     CacheInvalidationPublisher publisher) {
+		super(false);
+		this.name = name;
+		this.local = local;
+		this.remote = remote;
+		this.publisher = publisher;
+	}
+
+	@Override
+	@NonNull
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	@NonNull
+	public Object getNativeCache() {
+		return local;
+	}
+
+	@Override
+	protected Object lookup(@NonNull Object key) {
+		String localKey = localKey(key);
+		Object value = local.getIfPresent(localKey);
+		if (value != null) {
+			return value;
+		}
+
+		value = remoteGet(key);
+		if (value != null) {
+			local.put(localKey, value);
+		}
+		return value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+		return (T) local.get(localKey(key), localKey -> {
+			Object value = remoteGet(key);
+			if (value != null) {
+				return value;
+			}
+			try {
+				value = valueLoader.call();
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+			if (value != null) {
+				remotePut(key, value);
+			}
+			return value;
+		});
+	}
+
+	@Override
+	public void put(@NonNull Object key, Object value) {
+		if (value == null) {
+			evict(key);
+			return;
+		}
+		remotePut(key, value);
+		String localKey = localKey(key);
+		local.put(localKey, value);
+		publisher.publishEvict(name, localKey);
+	}
+
+	@Override
+	public void evict(@NonNull Object key) {
+		try {
+			remote.evict(key);
+		} catch (RuntimeException e) {
+			log.error("{}L2 캐시 삭제 실패 - cache={}, key={}, reason={}", LogTag.CACHE, name, key, e.getMessage());
+		}
+		String localKey = localKey(key);
+		local.invalidate(localKey);
+		publisher.publishEvict(name, localKey);
+	}
+
+	@Override
+	public void clear() {
+		try {
+			remote.clear();
+		} catch (RuntimeException e) {
+			log.error("{}L2 캐시 비우기 실패 - cache={}, reason={}", LogTag.CACHE, name, e.getMessage());
+		}
+		local.invalidateAll();
+		publisher.publishClear(name);
+	}
+
+	/**
+	 * 다른 노드에서 받은 무효화를 L1 에만 반영합니다. L2 는 발행한 노드가 이미 갱신했습니다.
+	 */
+	public void evictLocal(String localKey) {
+		local.invalidate(localKey);
+	}
+
+	public void clearLocal() {
+		local.invalidateAll();
+	}
+
+	static String localKey(Object key) {
+		return String.valueOf(key);
+	}
+
+	private Object remoteGet(Object key) {
+		try {
+			ValueWrapper wrapper = remote.get(key);
+			return wrapper != null ? wrapper.get() : null;
+		} catch (RuntimeException e) {
+			log.warn("{}L2 캐시 조회 실패, 원본 조회로 진행 - cache={}, key={}, reason={}", LogTag.CACHE, name, key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void remotePut(Object key, Object value) {
+		try {
+			remote.put(key, value);
+		} catch (RuntimeException e) {
+			log.warn("{}L2 캐시 저장 실패 - cache={}, key={}, reason={}", LogTag.CACHE, name, key, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,68 @@
+package com.anonymouschat.anonymouschatserver.infra.cache;
+
+import com.anonymouschat.anonymouschatserver.infra.config.TwoLevelCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 캐시 이름마다 {@link TwoLevelCache}(Caffeine L1 + Redis L2)를 만들어 제공합니다.
+ * L1 크기와 TTL 은 {@link TwoLevelCacheProperties} 의 캐시별 설정을 따르고, L2 는 전달받은 Redis 캐시 매니저가 관리합니다.
+ */
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements CacheManager {
+	private final CacheManager remoteCacheManager;
+	private final TwoLevelCacheProperties properties;
+	private final CacheInvalidationPublisher publisher;
+
+	private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+	@Override
+	public Cache getCache(@NonNull String name) {
+		return caches.computeIfAbsent(name, this::create);
+	}
+
+	@Override
+	@NonNull
+	public Collection<String> getCacheNames() {
+		return Collections.unmodifiableSet(caches.keySet());
+	}
+
+	/**
+	 * 다른 노드에서 변경된 항목을 현재 노드의 L1 에서 제거합니다. 아직 사용하지 않은 캐시면 할 일이 없습니다.
+	 */
+	public void evictLocal(String cacheName, String key) {
+		TwoLevelCache cache = caches.get(cacheName);
+		if (cache != null) {
+			cache.evictLocal(key);
+		}
+	}
+
+	public void clearLocal(String cacheName) {
+		TwoLevelCache cache = caches.get(cacheName);
+		if (cache != null) {
+			cache.clearLocal();
+		}
+	}
+
+	private TwoLevelCache create(String name) {
+		TwoLevelCacheProperties.Spec spec = properties.specOf(name);
+		com.github.benmanes.caffeine.cache.Cache<String, Object> local = Caffeine.newBuilder()
+				                                                            .maximumSize(spec.getLocalMaxSize())
+				                                                            .expireAfterWrite(Duration.ofMillis(spec.getLocalTtlMs()))
+				                                                            .build();
+		Cache remote = remoteCacheManager.getCache(name);
+		if (remote == null) {
+			throw new IllegalStateException("L2 cache not available: " + name);
+		}
+		return new TwoLevelCache(name, local, remote, publisher);
+	}
+}
@@ -0,0 +1,50 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import com.anonymouschat.anonymouschatserver.application.cache.BlockGraphCache;
+import com.anonymouschat.anonymouschatserver.infra.adapter.BlockGraphInvalidationListener;
+import com.anonymouschat.anonymouschatserver.infra.adapter.CacheInvalidationListener;
+import com.anonymouschat.anonymouschatserver.infra.adapter.TokenBlacklistListener;
+import com.anonymouschat.anonymouschatserver.infra.adapter.TokenBlacklistNearCache;
+import com.anonymouschat.anonymouschatserver.infra.cache.TwoLevelCacheManager;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.ClusterRelayListener;
+import com.anonymouschat.anonymouschatserver.presentation.socket.support.MessageBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * 클러스터 모드에서 현재 노드 전용 Redis 채널과 차단 관계 무효화, 토큰 블랙리스트 전파, 캐시 무효화 채널을 구독합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "chat.cluster", name = "enabled", havingValue = "true")
+public class ClusterConfig {
+
+	@Bean
+	public RedisMessageListenerContainer clusterListenerContainer(@Qualifier(RedisConfig.PUB_SUB_CONNECTION_FACTORY) RedisConnectionFactory connectionFactory,
+	                                                              MessageBroadcaster broadcaster,
+	                                                              ObjectMapper objectMapper,
+	                                                              BlockGraphCache blockGraphCache,
+	                                                              TokenBlacklistNearCache blacklistNearCache,
+	                                                              ObjectProvider<TwoLevelCacheManager> cacheManager,
+	                                                              ClusterProperties properties) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.addMessageListener(new ClusterRelayListener(broadcaster, objectMapper),
+				new ChannelTopic(properties.channelOf(properties.getNodeName())));
+		container.addMessageListener(new BlockGraphInvalidationListener(blockGraphCache, properties.getNodeName()),
+				new ChannelTopic(properties.getBlockInvalidationChannel()));
+		container.addMessageListener(new TokenBlacklistListener(blacklistNearCache),
+				new ChannelTopic(properties.getBlacklistChannel()));
+		blacklistNearCache.bindPropagation(container::isListening);
+		cacheManager.ifAvailable(manager ->
+				container.addMessageListener(new CacheInvalidationListener(manager, properties.getNodeName()),
+						new ChannelTopic(properties.getCacheInvalidationChannel())));
+		return container;
+	}
+}
@@ -0,0 +1,30 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 다중 노드 WebSocket 브로드캐스트(Redis pub/sub) 설정입니다.
+ * 비활성화 상태에서는 기존처럼 현재 노드에 연결된 사용자에게만 전송합니다.
+ */
+@ConfigurationProperties(prefix = "chat.cluster")
+@Getter
+@Setter
+public class ClusterProperties {
+	private boolean enabled = false;                // 클러스터 모드 사용 여부
+	private String nodeName = "local";              // 노드 식별자 (인스턴스마다 고유해야 함)
+	private String channelPrefix = "ws:node:";      // 노드별 수신 채널 접두사
+	private String presenceKeyPrefix = "ws:presence:"; // userId -> nodeName 키 접두사
+	private String roomKeyPrefix = "ws:room:";      // 채팅방 참여자 Set 키 접두사
+	private long presenceTtlSeconds = 90;           // presence 키 TTL (노드 장애 시 자동 만료)
+	private long heartbeatIntervalMs = 30_000;      // presence TTL 갱신 주기
+	private String blockInvalidationChannel = "block:invalidate"; // 차단 관계 캐시 무효화 채널 (전 노드 공통)
+	private String blacklistChannel = "token:blacklist";  // 토큰 블랙리스트 추가 전파 채널 (전 노드 공통)
+	private long blacklistResyncIntervalMs = 60_000; // 블랙리스트 near-cache 재동기화 주기 (놓친 전파 메시지의 최대 반영 지연)
+	private String cacheInvalidationChannel = "cache:invalidate"; // 2단계 캐시 로컬(L1) 무효화 채널 (전 노드 공통)
+
+	public String channelOf(String node) {
+		return channelPrefix + node;
+	}
+}
@@ -0,0 +1,22 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import com.anonymouschat.anonymouschatserver.common.id.SnowflakeIdGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 노드별 ID 생성기를 구성합니다.
+ * 여러 서버를 띄울 경우 서버마다 서로 다른 node-id(0~31)를 지정해야 합니다.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+	@Value("${chat.id.node-id:0}")
+	private int nodeId;
+
+	@Bean
+	public SnowflakeIdGenerator snowflakeIdGenerator() {
+		return SnowflakeIdGenerator.configure(nodeId);
+	}
+}
@@ -0,0 +1,20 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 채팅 메시지 write-behind 저장 파이프라인 설정입니다.
+ */
+@ConfigurationProperties(prefix = "chat.message.write-behind")
+@Getter
+@Setter
+public class MessageWriteBehindProperties {
+	private int workers = 4;                 // 저장 워커 수 (채팅방 ID 기준으로 샤딩)
+	private int queueCapacity = 10_000;      // 전체 대기 큐 용량 (워커별로 균등 분할)
+	private int batchSize = 500;             // 한 번에 꺼내서 저장할 최대 메시지 수
+	private long pollTimeoutMs = 50;         // 큐가 비었을 때 대기 시간
+	private long enqueueTimeoutMs = 50;      // 큐가 가득 찼을 때 호출 스레드가 기다리는 최대 시간
+	private long shutdownTimeoutMs = 30_000; // 종료 시 남은 메시지를 비우기 위한 최대 대기 시간
+}
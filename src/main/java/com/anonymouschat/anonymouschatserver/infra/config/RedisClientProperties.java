@@ -0,0 +1,21 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 용도별 Redis 연결 설정입니다.
+ * 요청 경로(인증/캐시/레이트 리밋), pub/sub 구독, 배치 작업(SCAN 등)은 서로 다른 연결을 사용하므로
+ * 한 작업의 지연이 다른 작업의 명령 대기열에 쌓이지 않습니다.
+ * 호스트/포트/비밀번호와 요청 경로 명령 타임아웃은 spring.data.redis.* 설정을 따릅니다.
+ */
+@ConfigurationProperties(prefix = "chat.redis")
+@Getter
+@Setter
+public class RedisClientProperties {
+	private long pubSubCommandTimeoutMs = 5_000;  // 구독/해지 명령 타임아웃
+	private long bulkCommandTimeoutMs = 10_000;   // SCAN 기반 재동기화 등 배치 작업 명령 타임아웃
+	private long shutdownTimeoutMs = 100;         // 종료 시 진행 중 명령을 기다리는 시간
+	private boolean rejectWhenDisconnected = true; // 연결이 끊긴 동안 명령을 쌓아두지 않고 즉시 실패 처리
+}
@@ -1,39 +1,89 @@
 package com.anonymouschat.anonymouschatserver.infra.config;
 
+import com.anonymouschat.anonymouschatserver.infra.cache.CacheInvalidationPublisher;
+import com.anonymouschat.anonymouschatserver.infra.cache.TwoLevelCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.resource.ClientResources;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Redis 연결과 템플릿 설정입니다.
+ * <ul>
+ *     <li>기본(@Primary) 연결: 인증 확인, 토큰 저장, 캐시, 레이트 리밋 등 요청 경로 명령</li>
+ *     <li>pub/sub 연결: 클러스터 채널 구독 전용</li>
+ *     <li>bulk 연결: SCAN 기반 재동기화처럼 오래 걸리는 배치 작업 전용</li>
+ * </ul>
+ * 세 팩토리는 Spring Boot 가 만든 {@link ClientResources}(이벤트 루프, 명령별 지연 Micrometer 지표)를 공유합니다.
+ */
 @Configuration
 @EnableCaching
 @RequiredArgsConstructor
-@EnableConfigurationProperties(OAuthTokenProperties.class)
+@EnableConfigurationProperties({OAuthTokenProperties.class, RedisClientProperties.class, TwoLevelCacheProperties.class})
 public class RedisConfig {
+	public static final String PUB_SUB_CONNECTION_FACTORY = "pubSubRedisConnectionFactory";
+	public static final String BULK_CONNECTION_FACTORY = "bulkRedisConnectionFactory";
+	public static final String BULK_REDIS_TEMPLATE = "bulkRedisTemplate";
 
-	@Value("${spring.data.redis.host}")
-	private String redisHost;
+	private static final Duration DEFAULT_COMMAND_TIMEOUT = Duration.ofSeconds(1);
 
-	@Value("${spring.data.redis.port}")
-	private int redisPort;
+	private final RedisProperties redisProperties;
+	private final RedisClientProperties clientProperties;
 
 	@Bean
-	public RedisConnectionFactory redisConnectionFactory() {
-		return new LettuceConnectionFactory(redisHost, redisPort);
+	@Primary
+	public LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
+		Duration timeout = redisProperties.getTimeout() != null ? redisProperties.getTimeout() : DEFAULT_COMMAND_TIMEOUT;
+		return connectionFactory(clientResources, timeout);
+	}
+
+	@Bean(PUB_SUB_CONNECTION_FACTORY)
+	public LettuceConnectionFactory pubSubRedisConnectionFactory(ClientResources clientResources) {
+		return connectionFactory(clientResources, Duration.ofMillis(clientProperties.getPubSubCommandTimeoutMs()));
+	}
+
+	@Bean(BULK_CONNECTION_FACTORY)
+	public LettuceConnectionFactory bulkRedisConnectionFactory(ClientResources clientResources) {
+		return connectionFactory(clientResources, Duration.ofMillis(clientProperties.getBulkCommandTimeoutMs()));
+	}
+
+	@Bean
+	@Primary
+	public StringRedisTemplate stringRedisTemplate(RedisConnectionFactory connectionFactory) {
+		return new StringRedisTemplate(connectionFactory);
+	}
+
+	@Bean(BULK_REDIS_TEMPLATE)
+	public StringRedisTemplate bulkRedisTemplate(@Qualifier(BULK_CONNECTION_FACTORY) RedisConnectionFactory connectionFactory) {
+		return new StringRedisTemplate(connectionFactory);
 	}
 
 	@Bean
@@ -59,16 +109,65 @@ public class RedisConfig {
 		return template;
 	}
 
+	/**
+	 * {@code @Cacheable} 용 2단계 캐시 매니저입니다. spring.cache.type=none(테스트 등)이면 만들지 않아 Spring Boot 의 NoOp 매니저가 사용됩니다.
+	 */
 	@Bean
-	public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-		RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-				                                 .entryTtl(Duration.ofMinutes(5))
-				                                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-				                                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()))
-				                                 .disableCachingNullValues();
-
-		return RedisCacheManager.builder(connectionFactory)
-				       .cacheDefaults(config)
-				       .build();
+	@ConditionalOnProperty(prefix = "spring.cache", name = "type", havingValue = "redis", matchIfMissing = true)
+	public TwoLevelCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+	                                         TwoLevelCacheProperties cacheProperties,
+	                                         CacheInvalidationPublisher invalidationPublisher) {
+		Map<String, RedisCacheConfiguration> configs = new HashMap<>();
+		cacheProperties.getCaches().forEach((name, spec) -> configs.put(name, redisCacheConfiguration(spec)));
+
+		RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+				                           .cacheDefaults(redisCacheConfiguration(new TwoLevelCacheProperties.Spec()))
+				                           .withInitialCacheConfigurations(configs)
+				                           .build();
+		remote.initializeCaches();
+		return new TwoLevelCacheManager(remote, cacheProperties, invalidationPublisher);
+	}
+
+	private RedisCacheConfiguration redisCacheConfiguration(TwoLevelCacheProperties.Spec spec) {
+		RedisSerializer<?> valueSerializer = switch (spec.getSerializer()) {
+			case JSON -> new GenericJackson2JsonRedisSerializer().configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+			case JDK -> new JdkSerializationRedisSerializer();
+		};
+		return RedisCacheConfiguration.defaultCacheConfig()
+				       .entryTtl(Duration.ofMillis(spec.getRedisTtlMs()))
+				       .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+				       .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer))
+				       .disableCachingNullValues();
+	}
+
+	private LettuceConnectionFactory connectionFactory(ClientResources clientResources, Duration commandTimeout) {
+		RedisStandaloneConfiguration server = new RedisStandaloneConfiguration(redisProperties.getHost(), redisProperties.getPort());
+		server.setDatabase(redisProperties.getDatabase());
+		server.setUsername(redisProperties.getUsername());
+		server.setPassword(RedisPassword.of(redisProperties.getPassword()));
+
+		SocketOptions.Builder socketOptions = SocketOptions.builder().keepAlive(true);
+		if (redisProperties.getConnectTimeout() != null) {
+			socketOptions.connectTimeout(redisProperties.getConnectTimeout());
+		}
+
+		ClientOptions clientOptions = ClientOptions.builder()
+				                              .socketOptions(socketOptions.build())
+				                              .autoReconnect(true)
+				                              // 끊긴 동안 명령을 버퍼에 쌓으면 재연결 전까지 모든 요청이 타임아웃까지 대기하므로 즉시 실패시킴
+				                              .disconnectedBehavior(clientProperties.isRejectWhenDisconnected()
+						                                                    ? ClientOptions.DisconnectedBehavior.REJECT_COMMANDS
+						                                                    : ClientOptions.DisconnectedBehavior.DEFAULT)
+				                              .build();
+
+		LettuceClientConfiguration.LettuceClientConfigurationBuilder client = LettuceClientConfiguration.builder()
+				                                                                    .clientResources(clientResources)
+				                                                                    .clientOptions(clientOptions)
+				                                                                    .commandTimeout(commandTimeout)
+				                                                                    .shutdownTimeout(Duration.ofMillis(clientProperties.getShutdownTimeoutMs()));
+		if (redisProperties.getSsl().isEnabled()) {
+			client.useSsl();
+		}
+		return new LettuceConnectionFactory(server, client.build());
 	}
-}
\ No newline at end of file
+}
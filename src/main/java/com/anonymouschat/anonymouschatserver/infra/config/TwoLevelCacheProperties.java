@@ -0,0 +1,37 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * {@code @Cacheable} 용 2단계 캐시(로컬 Caffeine L1 + Redis L2) 설정입니다.
+ * caches 에 없는 캐시 이름은 기본값({@link Spec})으로 만들어집니다.
+ */
+@ConfigurationProperties(prefix = "chat.cache")
+@Getter
+@Setter
+public class TwoLevelCacheProperties {
+	private Map<String, Spec> caches = new HashMap<>(); // 캐시 이름별 설정
+
+	public Spec specOf(String cacheName) {
+		return caches.getOrDefault(cacheName, new Spec());
+	}
+
+	@Getter
+	@Setter
+	public static class Spec {
+		private long localMaxSize = 10_000;     // L1 최대 항목 수
+		private long localTtlMs = 30_000;       // L1 TTL. 다른 노드의 무효화 메시지를 놓쳐도 이 시간 안에 수렴
+		private long redisTtlMs = 300_000;      // L2 TTL
+		private Serializer serializer = Serializer.JSON;
+	}
+
+	public enum Serializer {
+		JSON, // 타입 정보를 포함한 JSON (redis-cli 로 확인 가능)
+		JDK   // Java 직렬화 (값 타입이 Serializable 이어야 함)
+	}
+}
@@ -0,0 +1,18 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebSocket 세션 heartbeat(Ping) 및 유휴 세션 정리 설정입니다.
+ */
+@ConfigurationProperties(prefix = "chat.websocket.heartbeat")
+@Getter
+@Setter
+public class WebSocketHeartbeatProperties {
+	private long pingIntervalMs = 30_000;  // 세션별 Ping 주기
+	private long idleTimeoutMs = 60_000;   // 마지막 활동 이후 이 시간이 지나면 연결 종료
+	private long tickMs = 100;             // 타이머 휠 한 칸의 시간 간격
+	private int wheelSize = 512;           // 타이머 휠 칸 수
+}
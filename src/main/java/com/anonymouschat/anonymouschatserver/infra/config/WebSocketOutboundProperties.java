@@ -0,0 +1,24 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebSocket 세션별 송신 큐 설정입니다.
+ */
+@ConfigurationProperties(prefix = "chat.websocket.outbound")
+@Getter
+@Setter
+public class WebSocketOutboundProperties {
+	private int senderThreads = 8;                 // 세션 큐를 비우는 송신 스레드 수
+	private int bufferSizeLimit = 512 * 1024;      // 세션당 대기 가능한 최대 바이트 수
+	private long sendTimeLimitMs = 10_000;         // 한 번의 전송이 이 시간을 넘기면 느린 클라이언트로 보고 연결 종료
+	private long watchdogIntervalMs = 1_000;       // 전송 시간 초과 세션을 검사하는 주기
+	private OverflowPolicy overflowPolicy = OverflowPolicy.DROP_OLDEST;
+
+	public enum OverflowPolicy {
+		DROP_OLDEST, // 오래된 메시지부터 버리고 최신 메시지를 유지
+		DISCONNECT   // 세션을 종료
+	}
+}
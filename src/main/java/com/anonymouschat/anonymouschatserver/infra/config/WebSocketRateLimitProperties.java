@@ -0,0 +1,52 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * WebSocket 메시지 타입별 레이트 리밋 정책 설정입니다.
+ */
+@ConfigurationProperties(prefix = "chat.websocket.rate-limit")
+@Getter
+@Setter
+public class WebSocketRateLimitProperties {
+	private Map<MessageType, Policy> policies = defaultPolicies();
+	private long reportIntervalMs = 60_000; // 거부 건수 집계 로그 주기
+	private Global global = new Global();
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Policy {
+		private int capacity;        // 최대 토큰 (순간 허용량)
+		private double refillPerSec; // 초당 리필 토큰 수
+	}
+
+	/**
+	 * 노드를 옮겨 재접속해도 유지되는 사용자 단위 전역 한도 (Redis, 1분 고정 윈도우)
+	 */
+	@Getter
+	@Setter
+	public static class Global {
+		private boolean enabled = false;
+		private int limitPerMinute = 1_200;
+		private String keyPrefix = "ws:rl:";
+	}
+
+	private static Map<MessageType, Policy> defaultPolicies() {
+		Map<MessageType, Policy> policies = new EnumMap<>(MessageType.class);
+		policies.put(MessageType.CHAT, new Policy(20, 20));  // 초당 20개 (≈ 20msg/s)
+		policies.put(MessageType.READ, new Policy(10, 10));  // 초당 10개
+		policies.put(MessageType.ENTER, new Policy(5, 2));   // 초당 2개
+		policies.put(MessageType.LEAVE, new Policy(5, 2));
+		return policies;
+	}
+}
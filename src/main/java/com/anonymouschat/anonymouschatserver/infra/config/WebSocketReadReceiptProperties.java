@@ -0,0 +1,16 @@
+package com.anonymouschat.anonymouschatserver.infra.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * READ 프레임 묶음 처리(debounce) 설정입니다.
+ */
+@ConfigurationProperties(prefix = "chat.websocket.read-receipt")
+@Getter
+@Setter
+public class WebSocketReadReceiptProperties {
+	private long windowMs = 200;   // 같은 (채팅방, 사용자)의 READ 를 모으는 시간
+	private int flushThreads = 2;  // 모은 READ 를 저장/브로드캐스트하는 스레드 수
+}
@@ -11,6 +11,7 @@ public final class LogTag {
     public static final String CHAT = "[CHAT] ";
     public static final String MESSAGE = "[MESSAGE] ";
     public static final String IMAGE = "[IMAGE] ";
+    public static final String CACHE = "[CACHE] ";
 
     // --- WebSocket Specific Tags ---
     public static final String WS_SYS = "[WS][SYS] ";
@@ -16,9 +16,14 @@ import java.util.List;
 public class JwtAuthenticationFactory {
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtVerificationCache verificationCache;
 
+	/**
+	 * 토큰에서 Principal 을 만듭니다. 직전 검증에서 캐시된 결과가 있으면 다시 파싱하지 않습니다.
+	 */
 	public CustomPrincipal createPrincipal(String token) {
-		CustomPrincipal principal = jwtTokenProvider.getPrincipalFromToken(token);
+		CustomPrincipal cached = verificationCache.get(token);
+		CustomPrincipal principal = cached != null ? cached : jwtTokenProvider.getPrincipalFromToken(token);
 		log.debug("{}Principal 생성 완료 - userId={}, provider={}, role={}, authenticated={}",
 				LogTag.SECURITY_JWT,
 				principal.userId(),
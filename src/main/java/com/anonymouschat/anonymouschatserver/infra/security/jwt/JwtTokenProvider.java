@@ -7,6 +7,7 @@ import com.anonymouschat.anonymouschatserver.domain.type.Role;
 import com.anonymouschat.anonymouschatserver.infra.security.CustomPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Consumer;
 
 @Component
@@ -34,9 +36,15 @@ public class JwtTokenProvider {
 	@Getter
 	private Key secretKey;
 
+	// 파서는 불변이고 스레드 안전하므로 한 번만 만들어 재사용합니다.
+	private JwtParser parser;
+
 	@PostConstruct
 	public void init() {
 		this.secretKey = Keys.hmacShaKeyFor(secretKeyPlain.getBytes());
+		this.parser = Jwts.parserBuilder()
+				              .setSigningKey(secretKey)
+				              .build();
 	}
 
 	public String createAccessTokenForOAuthLogin(OAuthProvider provider, String providerId) {
@@ -69,6 +77,7 @@ public class JwtTokenProvider {
 		Date expiry = new Date(now.getTime() + validitySeconds * 1000);
 
 		JwtBuilder builder = Jwts.builder()
+				                     .setId(UUID.randomUUID().toString()) // jti: 같은 초에 발급된 토큰도 서로 다른 서명을 갖도록 함
 				                     .setIssuer("anonymous-chat-server")
 				                     .setIssuedAt(now)
 				                     .setExpiration(expiry);
@@ -79,8 +88,10 @@ public class JwtTokenProvider {
 	}
 
 	public CustomPrincipal getPrincipalFromToken(String token) {
-		Claims claims = parse(token);
+		return principalOf(parse(token));
+	}
 
+	public CustomPrincipal principalOf(Claims claims) {
 		Long userId = claims.get("userId", Long.class);
 		String providerName = claims.get("provider", String.class);
 		String providerId = claims.get("providerId", String.class);
@@ -112,10 +123,6 @@ public class JwtTokenProvider {
 	}
 
 	public Claims parse(String token) {
-		return Jwts.parserBuilder()
-				       .setSigningKey(secretKey)
-				       .build()
-				       .parseClaimsJws(token)
-				       .getBody();
+		return parser.parseClaimsJws(token).getBody();
 	}
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.auth.UnsupportedAlgorithmAuthenticationException;
 import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -17,16 +18,32 @@ import org.springframework.stereotype.Component;
 public class JwtValidator {
 
 	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtVerificationCache verificationCache;
 
+	private JwtParser parser;
+
+	@PostConstruct
+	void init() {
+		this.parser = Jwts.parserBuilder()
+				              .setSigningKey(jwtTokenProvider.getSecretKey())
+				              .setAllowedClockSkewSeconds(60)
+				              .build();
+	}
+
+	/**
+	 * 토큰의 서명, 만료, 알고리즘을 검증합니다.
+	 * 이미 검증된 토큰이 만료 전이면 {@link JwtVerificationCache} 조회만으로 통과합니다.
+	 */
 	public void validate(String token) throws AuthenticationException {
+		if (token != null && verificationCache.get(token) != null) {
+			log.trace("{}JWT 검증 캐시 적중", LogTag.SECURITY_JWT);
+			return;
+		}
+
 		try {
 			log.debug("{}JWT 파싱 시작 - token={}", LogTag.SECURITY_JWT, token);
 
-			Jws<Claims> parsedToken = Jwts.parserBuilder()
-					                          .setSigningKey(jwtTokenProvider.getSecretKey())
-					                          .setAllowedClockSkewSeconds(60)
-					                          .build()
-					                          .parseClaimsJws(token);
+			Jws<Claims> parsedToken = parser.parseClaimsJws(token);
 
 			JwsHeader<?> header = parsedToken.getHeader();
 			if (!SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
@@ -35,6 +52,7 @@ public class JwtValidator {
 			}
 
 			log.debug("{}JWT 유효성 검사 통과", LogTag.SECURITY_JWT);
+			cacheVerified(token, parsedToken.getBody());
 
 		} catch (ExpiredJwtException e) {
 			log.warn("{}만료된 토큰 사용 시도 - token={}", LogTag.SECURITY_JWT, token);
@@ -57,4 +75,13 @@ public class JwtValidator {
 			throw new BadCredentialsException(ErrorCode.INVALID_TOKEN.getMessage(), e);
 		}
 	}
+
+	// Principal 을 만들 수 없는 클레임은 캐시하지 않고, 기존처럼 Principal 생성 단계에서 거부되게 둡니다.
+	private void cacheVerified(String token, Claims claims) {
+		try {
+			verificationCache.put(token, jwtTokenProvider.principalOf(claims), claims.getExpiration().getTime());
+		} catch (RuntimeException e) {
+			log.debug("{}JWT 검증 결과 캐시 생략 - reason={}", LogTag.SECURITY_JWT, e.getMessage());
+		}
+	}
 }
@@ -0,0 +1,80 @@
+package com.anonymouschat.anonymouschatserver.infra.security.jwt;
+
+import com.anonymouschat.anonymouschatserver.infra.security.CustomPrincipal;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 통과한 토큰의 Principal 을 토큰 만료 시각까지 보관하는 캐시입니다.
+ * 같은 토큰으로 반복되는 요청은 JWT 파싱과 HMAC 검증 없이 다이제스트 조회만으로 인증됩니다.
+ * 캐시 적중 시 서명 검증을 건너뛰므로 서명만이 아닌 토큰 전체의 다이제스트({@link TokenDigest#digest})를 키로 사용합니다.
+ * 블랙리스트 확인은 캐시와 별개로 매번 수행합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JwtVerificationCache {
+	static final int MAX_ENTRIES = 100_000;
+
+	private final Clock clock;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private record Entry(CustomPrincipal principal, long expiresAtMillis) {}
+
+	/**
+	 * 만료되지 않은 검증 결과가 있으면 Principal 을, 없으면 null 을 반환합니다.
+	 */
+	public CustomPrincipal get(String token) {
+		String digest = TokenDigest.digest(token);
+		Entry entry = entries.get(digest);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAtMillis() <= clock.millis()) {
+			entries.remove(digest, entry);
+			return null;
+		}
+		return entry.principal();
+	}
+
+	public void put(String token, CustomPrincipal principal, long expiresAtMillis) {
+		if (expiresAtMillis <= clock.millis()) {
+			return;
+		}
+		if (entries.size() >= MAX_ENTRIES) {
+			purgeExpired();
+			if (entries.size() >= MAX_ENTRIES) {
+				trim();
+			}
+		}
+		entries.put(TokenDigest.digest(token), new Entry(principal, expiresAtMillis));
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 다시 사용되지 않은 채 만료된 토큰을 주기적으로 정리합니다.
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void purgeExpired() {
+		long now = clock.millis();
+		entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+	}
+
+	// 만료 정리 후에도 상한이면 일부(1/8)를 비웁니다. 비워진 토큰은 다음 요청 때 한 번만 다시 검증됩니다.
+	private void trim() {
+		int toRemove = Math.max(1, MAX_ENTRIES / 8);
+		Iterator<String> it = entries.keySet().iterator();
+		while (it.hasNext() && toRemove-- > 0) {
+			it.next();
+			it.remove();
+		}
+	}
+}
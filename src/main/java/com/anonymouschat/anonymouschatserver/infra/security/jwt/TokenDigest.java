@@ -0,0 +1,48 @@
+package com.anonymouschat.anonymouschatserver.infra.security.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 보관/비교에 사용할 다이제스트를 계산합니다.
+ * <ul>
+ *     <li>{@link #digest}: 토큰 전체의 SHA-256. 서명 검증을 건너뛰는 검증 캐시 키처럼 토큰 내용 전체를 식별해야 할 때 사용합니다.</li>
+ *     <li>{@link #fingerprint}: 서명 세그먼트의 SHA-256. 검증을 통과한 토큰끼리만 비교하는 블랙리스트 키에 사용합니다.
+ *     서명은 헤더와 클레임(jti 포함)에 대한 HMAC 이므로 유효한 토큰마다 고유합니다.</li>
+ * </ul>
+ * 두 값 모두 패딩 없는 Base64url(43자)로, Redis 키와 로컬 캐시 키에 그대로 쓸 수 있습니다.
+ */
+public final class TokenDigest {
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	});
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private TokenDigest() {}
+
+	/**
+	 * 토큰 전체의 SHA-256 을 반환합니다. 헤더나 클레임만 바꾼 토큰은 다른 값이 됩니다.
+	 */
+	public static String digest(String token) {
+		return encode(token);
+	}
+
+	/**
+	 * 서명 세그먼트의 SHA-256 지문을 반환합니다.
+	 * 헤더/클레임을 바꾸고 서명만 재사용한 토큰도 같은 값이 되므로, 서명 검증을 통과한 토큰에만 사용해야 합니다.
+	 */
+	public static String fingerprint(String token) {
+		return encode(token.substring(token.lastIndexOf('.') + 1));
+	}
+
+	private static String encode(String value) {
+		return ENCODER.encodeToString(SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8)));
+	}
+}
@@ -346,4 +346,57 @@ public class UserController {
 		Slice<UserUseCaseDto.SearchResponse> slice = userUseCase.getUserList(searchCondition, pageable);
 		return ResponseEntity.ok(CommonResponse.success(slice.map(UserDto.SearchResponse::from)));
 	}
+
+	@GetMapping("/scroll")
+	@PreAuthorize("hasAnyRole('USER','ADMIN')")
+	@Operation(
+			summary = "유저 목록 커서 검색",
+			description = "검색 조건에 맞는 유저 목록을 (마지막 활동 시각, ID) 커서로 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다. (User, Admin 허용)",
+			responses = {
+					@ApiResponse(
+							responseCode = "200",
+							description = "검색 성공",
+							content = @Content(
+									mediaType = "application/json",
+									schema = @Schema(implementation = CommonResponse.class),
+									examples = @ExampleObject(
+											name = "유저 목록 커서 검색 성공 예시",
+											value = """
+                        {
+                          "success": true,
+                          "data": {
+                            "content": [
+                              {
+                                "userId": 201,
+                                "nickname": "김철수",
+                                "gender": "MALE",
+                                "age": 29,
+                                "region": "BUSAN",
+                                "profileImageUrl": "https://example.com/images/201.png",
+                                "lastActiveAt": "2025-08-18T22:00:00"
+                              }
+                            ],
+                            "nextCursor": "MjAyNS0wOC0xOFQyMjowMHwyMDE",
+                            "hasNext": true
+                          },
+                          "error": null
+                        }
+                        """
+									)
+							)
+					),
+					@ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+					@ApiResponse(responseCode = "401", description = "인증 실패")
+			}
+	)
+	public ResponseEntity<CommonResponse<UserDto.SearchScrollResponse>> getUserListByCursor(
+			@AuthenticationPrincipal CustomPrincipal principal,
+			@Valid UserDto.SearchConditionRequest request,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size
+	) {
+		var searchCondition = UserUseCaseDto.SearchConditionRequest.from(request, principal.userId());
+		UserUseCaseDto.SearchScrollResponse response = userUseCase.getUserListByCursor(searchCondition, cursor, size);
+		return ResponseEntity.ok(CommonResponse.success(UserDto.SearchScrollResponse.from(response)));
+	}
 }
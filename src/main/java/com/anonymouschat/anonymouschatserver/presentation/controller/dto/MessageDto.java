@@ -68,7 +68,8 @@ public class MessageDto {
 		public static MessageUseCaseDto.MarkMessagesAsReadRequest from(MarkMessagesAsReadRequest request, Long userId) {
 			return new MessageUseCaseDto.MarkMessagesAsReadRequest(
 					request.roomId(),
-					userId
+					userId,
+					null
 			);
 		}
 	}
@@ -201,4 +201,24 @@ public class UserDto {
 			);
 		}
 	}
+
+	@Schema(description = "유저 커서 검색 응답 DTO")
+	public record SearchScrollResponse(
+			@Schema(description = "유저 목록")
+			List<SearchResponse> content,
+
+			@Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "MjAyNS0wOC0xOFQyMjowMHwyMDE")
+			String nextCursor,
+
+			@Schema(description = "다음 페이지 존재 여부", example = "true")
+			boolean hasNext
+	) {
+		public static SearchScrollResponse from(UserUseCaseDto.SearchScrollResponse response) {
+			return new SearchScrollResponse(
+					response.content().stream().map(SearchResponse::from).toList(),
+					response.nextCursor(),
+					response.hasNext()
+			);
+		}
+	}
 }
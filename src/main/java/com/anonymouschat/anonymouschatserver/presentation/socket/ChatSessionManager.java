@@ -1,6 +1,9 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket;
 
+import com.anonymouschat.anonymouschatserver.common.util.ConcurrentLongSet;
 import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.PresenceRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
@@ -10,7 +13,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static com.anonymouschat.anonymouschatserver.presentation.socket.support.WebSocketUtil.*;
 
@@ -18,13 +21,22 @@ import static com.anonymouschat.anonymouschatserver.presentation.socket.support.
  * WebSocket 세션 및 채팅방 참여자 상태를 관리하는 컴포넌트입니다.
  * 사용자 세션 등록/교체, 강제 연결 해제, 채팅방 참여/이탈, 세션 활동 시간 관리 등
  * 실시간 통신에 필요한 핵심적인 세션 및 상태 관리 기능을 제공합니다.
+ * 클러스터 모드에서는 접속/참여 상태 변화를 {@link PresenceRegistry}에도 반영합니다.
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class ChatSessionManager {
+	private final PresenceRegistry presenceRegistry;
+
 	private final Map<Long, WebSocketSession> userSessions = new ConcurrentHashMap<>();
-	private final Map<Long, Set<Long>> roomParticipants = new ConcurrentHashMap<>();
-	private final Map<Long, Instant> lastActiveAtMap = new ConcurrentHashMap<>();
+	private final Map<Long, ConcurrentLongSet> roomParticipants = new ConcurrentHashMap<>();
+	// 메시지/퐁마다 갱신되므로 Instant 를 새로 만들지 않고 epoch millis 를 제자리에서 갱신
+	private final Map<Long, AtomicLong> lastActiveAtMap = new ConcurrentHashMap<>();
+
+	// 역색인: 연결 해제 시 전체 맵을 훑지 않고 해당 사용자 몫만 정리하기 위함
+	private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+	private final Map<Long, ConcurrentLongSet> userRooms = new ConcurrentHashMap<>();
 
 	/**
 	 * 사용자 ID와 새로운 WebSocket 세션을 등록하거나, 기존 세션이 있다면 종료 후 교체합니다.
@@ -34,6 +46,10 @@ public class ChatSessionManager {
 	 * @param newSession 새로 등록할 WebSocket 세션
 	 */	public void registerOrReplaceSession(Long userId, WebSocketSession newSession) {
 		WebSocketSession old = userSessions.put(userId, newSession);
+		sessionUsers.put(newSession.getId(), userId);
+		if (old != null) {
+			sessionUsers.remove(old.getId(), userId);
+		}
 		if (old != null && old.isOpen()) {
 			try {
 				old.close(CloseStatus.NORMAL);
@@ -43,31 +59,27 @@ public class ChatSessionManager {
 			}
 		}
 		updateLastActiveAt(userId); // 최초 핑/퐁 이전에도 유휴 판정 안 나게 초기화
+		presenceRegistry.online(userId);
 	}
 
 	/**
 	 * 특정 사용자 ID에 해당하는 WebSocket 세션을 강제로 연결 해제합니다.
 	 * 해당 사용자의 세션 정보, 마지막 활동 시간, 참여 중인 모든 채팅방에서 제거합니다.
+	 * 종료하는 사이 새 세션으로 교체되었다면 새 세션의 상태는 정리하지 않습니다.
 	 *
 	 * @param userId 연결 해제할 사용자 ID
 	 * @param status 연결 해제 상태 코드
 	 */	public void forceDisconnect(Long userId, CloseStatus status) {
 		WebSocketSession session = userSessions.get(userId);
-		if (session != null && session.isOpen()) {
-			try {
-				session.close(status);
-				log.info("{}force disconnect: userId={} status={}", LogTag.WS_SYS, userId, status);
-			} catch (IOException e) {
-				log.warn("{}close failed: userId={} reason={}", LogTag.WS_ERR, userId, e.getMessage(), e);
-			}
-		}
-		unregisterSession(userId);
+		closeQuietly(userId, session, status);
+		unregisterSession(userId, session == null ? null : safeId(session));
 	}
 
 	/**
 	 * 특정 WebSocket 세션을 강제로 연결 해제합니다.
 	 * 세션에서 사용자 ID를 추출할 수 없는 경우(예: 인증 정보 없음) 세션만 종료하고 매핑은 정리하지 않습니다.
-	 * 사용자 ID를 추출할 수 있다면 {@link #forceDisconnect(Long, CloseStatus)}를 호출하여 통합 처리합니다.
+	 * 사용자 ID를 찾으면 이 세션만 종료하고, 이 세션이 아직 현재 세션일 때만 사용자 상태를 정리합니다.
+	 * 이미 교체된 이전 세션이면 새 세션은 그대로 둡니다.
 	 *
 	 * @param session 연결 해제할 WebSocket 세션
 	 * @param status 연결 해제 상태 코드
@@ -82,19 +94,15 @@ public class ChatSessionManager {
 			log.warn("{}failed to extract userId from sessionId={} reason={}", LogTag.WS_ERR, safeId(session), e.getMessage(), e);
 		}
 
-		// 폴백: 역참조로 userId 찾기
+		// 폴백: sessionId 역색인으로 userId 찾기
 		if (userId == null) {
-			for (Map.Entry<Long, WebSocketSession> e : userSessions.entrySet()) {
-				if (e.getValue() == session) {
-					userId = e.getKey();
-					break;
-				}
-			}
+			userId = sessionUsers.get(safeId(session));
 		}
 
-		// userId를 찾았으면 통합 경로로 정리
+		// userId를 찾았으면 이 세션만 종료하고 현재 세션일 때만 정리
 		if (userId != null) {
-			forceDisconnect(userId, status);
+			closeQuietly(userId, session, status);
+			unregisterSession(userId, safeId(session));
 			return;
 		}
 
@@ -109,6 +117,19 @@ public class ChatSessionManager {
 	}
 
 
+	/**
+	 * 종료된 세션의 매핑을 정리합니다. 세션이 닫힌 뒤(afterConnectionClosed) 호출합니다.
+	 * 이전 세션의 종료가 교체 등록보다 늦게 도착한 경우, 이미 새 세션이 매핑되어 있으므로 아무것도 정리하지 않습니다.
+	 *
+	 * @param session 종료된 WebSocket 세션
+	 * @return 이 세션이 현재 세션이어서 정리했는지 여부
+	 */
+	public boolean unregisterSession(WebSocketSession session) {
+		String sessionId = safeId(session);
+		Long userId = sessionUsers.get(sessionId);
+		return userId != null && unregisterSession(userId, sessionId);
+	}
+
 	/**
 	 * 사용자를 특정 채팅방에 참여시킵니다.
 	 * 채팅방이 존재하지 않으면 새로 생성하고, 사용자를 해당 방의 참여자 목록에 추가합니다.
@@ -116,7 +137,18 @@ public class ChatSessionManager {
 	 * @param roomId 참여할 채팅방 ID
 	 * @param userId 참여할 사용자 ID
 	 */	public void joinRoom(Long roomId, Long userId) {
-		roomParticipants.computeIfAbsent(roomId, id -> new CopyOnWriteArraySet<>()).add(userId);
+		roomParticipants.compute(roomId, (id, participants) -> {
+			ConcurrentLongSet set = participants != null ? participants : new ConcurrentLongSet();
+			set.add(userId);
+			return set;
+		});
+		// 추가를 compute 안에서 해야 leaveRoom/unregisterSession 이 방금 떼어낸 Set 에 추가되어 역색인이 누락되지 않음
+		userRooms.compute(userId, (id, rooms) -> {
+			ConcurrentLongSet set = rooms != null ? rooms : new ConcurrentLongSet();
+			set.add(roomId.longValue());
+			return set;
+		});
+		presenceRegistry.joinRoom(roomId, userId);
 	}
 
 	/**
@@ -127,11 +159,25 @@ public class ChatSessionManager {
 	 * @param userId 이탈할 사용자 ID
 	 * @return 사용자가 성공적으로 제거되었는지 여부
 	 */	public boolean leaveRoom(Long roomId, Long userId) {
-		Set<Long> set = roomParticipants.get(roomId);
-		if (set == null) return false;
-		boolean removed = set.remove(userId);
-		if (set.isEmpty()) roomParticipants.remove(roomId);
-		return removed;
+		presenceRegistry.leaveRoom(roomId, userId);
+		userRooms.computeIfPresent(userId, (id, rooms) -> {
+			rooms.remove(roomId.longValue());
+			return rooms.isEmpty() ? null : rooms;
+		});
+		return removeParticipant(roomId, userId);
+	}
+
+	/**
+	 * 채팅방 참여자 목록에서 사용자를 제거하고, 비었으면 채팅방 항목을 정리합니다.
+	 * 제거와 정리를 한 번의 compute 로 처리하여 동시에 들어온 참여와 경합하지 않습니다.
+	 */
+	private boolean removeParticipant(Long roomId, Long userId) {
+		boolean[] removed = {false};
+		roomParticipants.computeIfPresent(roomId, (id, participants) -> {
+			removed[0] = participants.remove(userId.longValue());
+			return participants.isEmpty() ? null : participants;
+		});
+		return removed[0];
 	}
 
 	/**
@@ -141,7 +187,8 @@ public class ChatSessionManager {
 	 * @param roomId 참여자 목록을 조회할 채팅방 ID
 	 * @return 해당 채팅방의 참여자 ID Set (참여자가 없으면 빈 Set 반환)
 	 */	public Set<Long> getParticipants(Long roomId) {
-		return Collections.unmodifiableSet(roomParticipants.getOrDefault(roomId, Set.of()));
+		ConcurrentLongSet participants = roomParticipants.get(roomId);
+		return participants == null ? Set.of() : Collections.unmodifiableSet(participants);
 	}
 
 	/**
@@ -167,7 +214,7 @@ public class ChatSessionManager {
 	 *
 	 * @param userId 활동 시간을 갱신할 사용자 ID
 	 */	public void updateLastActiveAt(Long userId) {
-		lastActiveAtMap.put(userId, Instant.now());
+		lastActiveAtMap.computeIfAbsent(userId, id -> new AtomicLong()).set(System.currentTimeMillis());
 	}
 
 	/**
@@ -177,19 +224,63 @@ public class ChatSessionManager {
 	 * @param userId 조회할 사용자 ID
 	 * @return 마지막 활동 시간 (Instant 객체)
 	 */	public Instant getLastActiveAt(Long userId) {
-		return lastActiveAtMap.getOrDefault(userId, Instant.EPOCH);
+		AtomicLong lastActiveAt = lastActiveAtMap.get(userId);
+		return lastActiveAt == null ? Instant.EPOCH : Instant.ofEpochMilli(lastActiveAt.get());
 	}
 
 	/**
 	 * 내부 전용: 특정 사용자 ID에 해당하는 세션, 마지막 활동 시간, 모든 채팅방 참여 정보를 정리합니다.
-	 * 주로 세션 강제 종료 시 호출됩니다.
+	 * 현재 매핑된 세션의 ID가 sessionId 와 같을 때만(둘 다 null 이면 세션 없이 남은 상태만) 정리합니다.
+	 * 확인과 메모리 상태 정리를 userId 키의 compute 안에서 처리하므로 동시에 들어온 교체 등록의 상태를 지우지 않습니다.
+	 * 역색인을 사용하므로 비용은 해당 사용자가 참여한 채팅방 수에 비례합니다.
 	 *
 	 * @param userId 정리할 사용자 ID
-	 */	private void unregisterSession(Long userId) {
-		userSessions.remove(userId);
-		lastActiveAtMap.remove(userId);
-		roomParticipants.values().forEach(ps -> ps.remove(userId));
+	 * @param sessionId 정리 대상 세션 ID (세션 없이 남은 상태를 정리할 때는 null)
+	 * @return 정리했는지 여부
+	 */	private boolean unregisterSession(Long userId, String sessionId) {
+		ConcurrentLongSet[] removedRooms = {null};
+		boolean[] matched = {false};
+		userSessions.compute(userId, (id, current) -> {
+			if (!Objects.equals(current == null ? null : safeId(current), sessionId)) {
+				return current;
+			}
+			matched[0] = true;
+			if (sessionId != null) {
+				sessionUsers.remove(sessionId, userId);
+			}
+			lastActiveAtMap.remove(userId);
+			removedRooms[0] = userRooms.remove(userId);
+			if (removedRooms[0] != null) {
+				removedRooms[0].forEachLong(roomId -> removeParticipant(roomId, userId));
+			}
+			return null;
+		});
+		if (!matched[0]) {
+			log.debug("{}skip clear(replaced): userId={} sessionId={}", LogTag.WS_SYS, userId, sessionId);
+			return false;
+		}
+
+		// 정리 직후 새 세션이 등록되었다면 presence 는 새 세션이 다시 기록했으므로 건드리지 않음
+		if (!userSessions.containsKey(userId)) {
+			if (removedRooms[0] != null) {
+				removedRooms[0].forEachLong(roomId -> presenceRegistry.leaveRoom(roomId, userId));
+			}
+			presenceRegistry.offline(userId);
+		}
 		log.debug("{}session/state cleared: userId={}", LogTag.WS_SYS ,userId);
+		return true;
+	}
+
+	private void closeQuietly(Long userId, WebSocketSession session, CloseStatus status) {
+		if (session == null || !session.isOpen()) {
+			return;
+		}
+		try {
+			session.close(status);
+			log.info("{}force disconnect: userId={} status={}", LogTag.WS_SYS, userId, status);
+		} catch (IOException e) {
+			log.warn("{}close failed: userId={} reason={}", LogTag.WS_ERR, userId, e.getMessage(), e);
+		}
 	}
 
 	/**
@@ -208,6 +299,7 @@ public class ChatSessionManager {
 	 * @param userId 확인할 사용자 ID
 	 * @return 참여자 여부
 	 */	public boolean isParticipant(Long roomId, Long userId) {
-		return getParticipants(roomId).contains(userId);
+		ConcurrentLongSet participants = roomParticipants.get(roomId);
+		return participants != null && participants.contains(userId.longValue());
 	}
 }
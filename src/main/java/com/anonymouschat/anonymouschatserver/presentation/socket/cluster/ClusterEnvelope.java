@@ -0,0 +1,21 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.cluster;
+
+import java.util.List;
+
+/**
+ * 다른 노드로 전달되는 브로드캐스트 묶음입니다.
+ * 한 번의 브로드캐스트에서 같은 노드에 연결된 수신자들을 모아 한 번에 발행합니다.
+ *
+ * @param origin 발행한 노드 이름
+ * @param recipients 대상 노드에 연결된 수신자 ID 목록
+ * @param payload 이미 직렬화된 {@code ChatOutboundMessage} JSON
+ * @param roomId 메시지가 속한 채팅방 ID
+ * @param messageId CHAT 메시지 ID. 수신 노드가 전송 기록을 남기는 데 사용하며 다른 타입이면 null 입니다.
+ */
+public record ClusterEnvelope(
+		String origin,
+		List<Long> recipients,
+		String payload,
+		Long roomId,
+		Long messageId // nullable: CHAT 타입일 때만 사용.
+) {}
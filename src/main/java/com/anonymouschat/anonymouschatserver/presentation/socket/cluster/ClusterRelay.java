@@ -0,0 +1,61 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.cluster;
+
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다른 노드에 연결된 수신자에게 전달할 메시지를 노드별 Redis 채널로 발행합니다.
+ * 한 번의 브로드캐스트당 대상 노드마다 {@link ClusterEnvelope} 하나만 발행하고,
+ * 여러 노드로 보낼 때는 파이프라인으로 묶어 왕복 횟수를 줄입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterRelay {
+	private final StringRedisTemplate redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final ClusterProperties properties;
+
+	/**
+	 * @param targets 노드 이름 → 수신자 ID 목록
+	 * @param payload 직렬화된 메시지
+	 * @param roomId 메시지가 속한 채팅방 ID
+	 * @param messageId CHAT 메시지 ID (nullable)
+	 * @return 발행 대상 수신자 수
+	 */
+	public int publish(Map<String, List<Long>> targets, String payload, Long roomId, Long messageId) {
+		if (targets.isEmpty()) return 0;
+
+		Map<byte[], byte[]> messages = new LinkedHashMap<>();
+		int recipients = 0;
+		try {
+			for (Map.Entry<String, List<Long>> target : targets.entrySet()) {
+				ClusterEnvelope envelope = new ClusterEnvelope(properties.getNodeName(), target.getValue(), payload, roomId, messageId);
+				messages.put(properties.channelOf(target.getKey()).getBytes(StandardCharsets.UTF_8),
+						objectMapper.writeValueAsBytes(envelope));
+				recipients += target.getValue().size();
+			}
+
+			redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+				messages.forEach((channel, body) -> connection.publish(channel, body));
+				return null;
+			});
+			log.debug("{}relayed nodes={} recipients={}", LogTag.WS_BROADCAST, targets.size(), recipients);
+			return recipients;
+		} catch (Exception e) {
+			log.warn("{}relay failed nodes={} reason={}", LogTag.WS_BROADCAST, targets.keySet(), e.getMessage());
+			return 0;
+		}
+	}
+}
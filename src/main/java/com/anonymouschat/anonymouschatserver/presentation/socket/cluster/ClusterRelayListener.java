@@ -0,0 +1,33 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.cluster;
+
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import com.anonymouschat.anonymouschatserver.presentation.socket.support.MessageBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.NonNull;
+
+/**
+ * 현재 노드 채널로 들어온 {@link ClusterEnvelope}를 로컬 세션에 전달합니다.
+ * 클러스터 모드에서만 {@code ClusterConfig}가 리스너 컨테이너에 등록합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ClusterRelayListener implements MessageListener {
+	private final MessageBroadcaster broadcaster;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void onMessage(@NonNull Message message, byte[] pattern) {
+		try {
+			ClusterEnvelope envelope = objectMapper.readValue(message.getBody(), ClusterEnvelope.class);
+			int delivered = broadcaster.deliverLocal(envelope);
+			log.debug("{}relay received origin={} recipients={} delivered={}",
+					LogTag.WS_BROADCAST, envelope.origin(), envelope.recipients().size(), delivered);
+		} catch (Exception e) {
+			log.warn("{}relay receive failed reason={}", LogTag.WS_BROADCAST, e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,171 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.cluster;
+
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클러스터 전체의 접속 상태를 Redis에 기록하는 레지스트리입니다.
+ * <ul>
+ *     <li>{@code ws:presence:{userId}} → 사용자가 연결된 노드 이름 (TTL, heartbeat로 갱신)</li>
+ *     <li>{@code ws:room:{roomId}} → 채팅방에 입장한 사용자 ID Set</li>
+ * </ul>
+ * 클러스터 모드가 꺼져 있으면 모든 메서드는 아무 동작도 하지 않습니다.
+ * Redis 오류는 로컬 전송에 영향을 주지 않도록 로그만 남기고 흡수합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PresenceRegistry {
+	// 다른 노드로 재접속한 경우 그 노드의 presence 를 지우지 않도록 소유 노드일 때만 삭제
+	private static final RedisScript<Long> DELETE_IF_OWNER = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0",
+			Long.class);
+	// 다른 노드로 재접속한 사용자의 presence 를 되돌리지 않도록 비어 있거나 현재 노드가 소유한 키만 TTL 과 함께 갱신
+	static final RedisScript<Long> REFRESH_IF_OWNER = new DefaultRedisScript<>(
+			"local n = 0 " +
+			"for _, key in ipairs(KEYS) do " +
+			"local owner = redis.call('get', key) " +
+			"if not owner or owner == ARGV[1] then redis.call('set', key, ARGV[1], 'EX', ARGV[2]) n = n + 1 end " +
+			"end return n",
+			Long.class);
+	static final int HEARTBEAT_BATCH = 500;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ClusterProperties properties;
+
+	private final Set<Long> localUsers = ConcurrentHashMap.newKeySet();
+
+	public boolean isEnabled() {
+		return properties.isEnabled();
+	}
+
+	public String nodeName() {
+		return properties.getNodeName();
+	}
+
+	/**
+	 * 현재 노드에 사용자가 연결되었음을 기록합니다.
+	 */
+	public void online(Long userId) {
+		if (!isEnabled()) return;
+		localUsers.add(userId);
+		try {
+			redisTemplate.opsForValue().set(presenceKey(userId), nodeName(), ttl());
+		} catch (Exception e) {
+			log.warn("{}presence online failed userId={} reason={}", LogTag.WS_SYS, userId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 현재 노드에서 사용자의 연결이 끊겼음을 기록합니다.
+	 */
+	public void offline(Long userId) {
+		if (!isEnabled()) return;
+		localUsers.remove(userId);
+		try {
+			redisTemplate.execute(DELETE_IF_OWNER, List.of(presenceKey(userId)), nodeName());
+		} catch (Exception e) {
+			log.warn("{}presence offline failed userId={} reason={}", LogTag.WS_SYS, userId, e.getMessage());
+		}
+	}
+
+	public void joinRoom(Long roomId, Long userId) {
+		if (!isEnabled()) return;
+		try {
+			redisTemplate.opsForSet().add(roomKey(roomId), userId.toString());
+		} catch (Exception e) {
+			log.warn("{}presence join failed roomId={} userId={} reason={}", LogTag.WS_SYS, roomId, userId, e.getMessage());
+		}
+	}
+
+	public void leaveRoom(Long roomId, Long userId) {
+		if (!isEnabled()) return;
+		try {
+			redisTemplate.opsForSet().remove(roomKey(roomId), userId.toString());
+		} catch (Exception e) {
+			log.warn("{}presence leave failed roomId={} userId={} reason={}", LogTag.WS_SYS, roomId, userId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 채팅방 참여자 중 다른 노드에 연결된 사용자를 노드별로 묶어 반환합니다.
+	 * presence 가 만료된(노드 장애 등) 사용자는 채팅방 Set 에서 함께 정리합니다.
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param excludeUserId 제외할 사용자 ID (null 가능)
+	 * @return 노드 이름 → 해당 노드에 연결된 수신자 ID 목록
+	 */
+	public Map<String, List<Long>> locateRemote(Long roomId, Long excludeUserId) {
+		if (!isEnabled()) return Map.of();
+
+		Set<String> members = redisTemplate.opsForSet().members(roomKey(roomId));
+		if (members == null || members.isEmpty()) return Map.of();
+
+		List<Long> userIds = new ArrayList<>(members.size());
+		for (String member : members) {
+			Long userId = Long.valueOf(member);
+			if (userId.equals(excludeUserId) || localUsers.contains(userId)) continue;
+			userIds.add(userId);
+		}
+		if (userIds.isEmpty()) return Map.of();
+
+		List<String> nodes = redisTemplate.opsForValue().multiGet(userIds.stream().map(this::presenceKey).toList());
+		Map<String, List<Long>> byNode = new HashMap<>();
+		List<String> stale = new ArrayList<>();
+		for (int i = 0; i < userIds.size(); i++) {
+			String node = nodes == null ? null : nodes.get(i);
+			if (node == null) {
+				stale.add(userIds.get(i).toString());
+			} else if (!node.equals(nodeName())) {
+				byNode.computeIfAbsent(node, n -> new ArrayList<>()).add(userIds.get(i));
+			}
+		}
+
+		if (!stale.isEmpty()) {
+			redisTemplate.opsForSet().remove(roomKey(roomId), stale.toArray());
+		}
+		return byNode;
+	}
+
+	/**
+	 * 현재 노드에 연결된 사용자들의 presence TTL 을 갱신합니다.
+	 * 이전 연결의 종료가 처리되기 전에 다른 노드로 재접속한 사용자는 그 노드가 소유하므로 덮어쓰지 않습니다.
+	 */
+	@Scheduled(fixedDelayString = "${chat.cluster.heartbeat-interval-ms:30000}")
+	public void heartbeat() {
+		if (!isEnabled() || localUsers.isEmpty()) return;
+		try {
+			String ttlSeconds = String.valueOf(properties.getPresenceTtlSeconds());
+			List<String> keys = localUsers.stream().map(this::presenceKey).toList();
+			for (int from = 0; from < keys.size(); from += HEARTBEAT_BATCH) {
+				List<String> batch = keys.subList(from, Math.min(from + HEARTBEAT_BATCH, keys.size()));
+				redisTemplate.execute(REFRESH_IF_OWNER, batch, nodeName(), ttlSeconds);
+			}
+		} catch (Exception e) {
+			log.warn("{}presence heartbeat failed count={} reason={}", LogTag.WS_SYS, localUsers.size(), e.getMessage());
+		}
+	}
+
+	private Duration ttl() {
+		return Duration.ofSeconds(properties.getPresenceTtlSeconds());
+	}
+
+	private String presenceKey(Long userId) {
+		return properties.getPresenceKeyPrefix() + userId;
+	}
+
+	private String roomKey(Long roomId) {
+		return properties.getRoomKeyPrefix() + roomId;
+	}
+}
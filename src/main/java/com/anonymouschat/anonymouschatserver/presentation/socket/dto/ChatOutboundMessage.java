@@ -10,6 +10,7 @@ import java.time.Instant;
  * 클라이언트에게 전송되는 WebSocket 메시지의 아웃바운드 페이로드 레코드입니다.
  * 다양한 메시지 타입에 따라 필요한 정보를 포함하며, 필수 필드에 대한 유효성 검사를 수행합니다.
  *
+ * @param messageId 메시지 ID (CHAT 타입에만 해당, 저장 전에 미리 발급된 값)
  * @param roomId 메시지가 속한 채팅방 ID
  * @param type 메시지 타입 (CHAT, READ, ENTER, LEAVE 등)
  * @param senderId 메시지를 보낸 사용자 ID
@@ -19,6 +20,7 @@ import java.time.Instant;
  */
 @Builder
 public record ChatOutboundMessage(
+		Long messageId, // nullable: CHAT 타입일 때만 사용.
 		Long roomId,
 		MessageType type,
 		Long senderId,
@@ -1,31 +1,19 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket.handler;
 
-import com.anonymouschat.anonymouschatserver.application.dto.MessageUseCaseDto.MarkMessagesAsReadRequest;
-import com.anonymouschat.anonymouschatserver.application.usecase.MessageUseCase;
-import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
-import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatInboundMessage;
-import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
-import com.anonymouschat.anonymouschatserver.presentation.socket.support.MessageBroadcaster;
+import com.anonymouschat.anonymouschatserver.presentation.socket.support.ReadReceiptAggregator;
 import com.anonymouschat.anonymouschatserver.presentation.socket.support.WebSocketAccessGuard;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 
-import java.time.Instant;
-
 import static com.anonymouschat.anonymouschatserver.presentation.socket.support.WebSocketUtil.*;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ReadMessageHandler implements MessageHandler{
-	private final ChatSessionManager sessionManager;
-	private final MessageUseCase messageUseCase;
-	private final MessageBroadcaster broadcaster;
+	private final ReadReceiptAggregator readReceiptAggregator;
 	private final WebSocketAccessGuard guard;
 
 	@Override
@@ -41,33 +29,7 @@ public class ReadMessageHandler implements MessageHandler{
 		if (!guard.ensureParticipant(session, roomId, userId))
 			return;
 
-		try {
-			// 메시지 읽음 처리
-			Long lastReadMessageId = messageUseCase.markMessagesAsRead(
-					MarkMessagesAsReadRequest.builder()
-							.userId(userId)
-							.roomId(roomId)
-							.build()
-			);
-			if (lastReadMessageId != null) {
-				ChatOutboundMessage outbound = ChatOutboundMessage.builder()
-						                               .roomId(roomId)
-						                               .type(MessageType.READ)
-						                               .senderId(userId)
-						                               .lastReadMessageId(lastReadMessageId)
-						                               .timestamp(Instant.now())
-						                               .build();
-
-				//로깅
-				log.info("메시지 읽음 처리 완료 {}roomId={} userId={} lastReadMessageId={}", LogTag.WS_READ, roomId, userId, lastReadMessageId);
-
-				// 브로드 캐스트
-				broadcaster.broadcastExcept(roomId, outbound, userId);
-			} else
-				log.info("읽을 메시지 없음 {}roomId={} userId={}", LogTag.WS_READ, roomId, userId);
-		} catch (Exception e) {
-			log.error("{}message read error: userId={}, roomId={}, error={}", LogTag.WS_ERR, userId, roomId, e.getMessage(), e);
-			sessionManager.forceDisconnect(session, CloseStatus.SERVER_ERROR);
-		}
+		// 읽음 처리와 브로드캐스트는 (채팅방, 사용자) 단위로 모아서 한 번에 수행
+		readReceiptAggregator.submit(session, roomId, userId);
 	}
 }
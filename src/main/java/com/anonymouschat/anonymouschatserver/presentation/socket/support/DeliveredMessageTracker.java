@@ -0,0 +1,44 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (채팅방, 사용자)별로 현재 노드가 세션에 전송한 가장 큰 CHAT 메시지 ID 를 기록합니다.
+ * 메시지는 write-behind 로 저장되므로 READ 처리 시점에 채팅방의 마지막 메시지가 아직 반영되지 않았을 수 있습니다.
+ * {@link ReadReceiptAggregator}는 이 값까지 읽음 워터마크를 올려, 이미 보여준 메시지가 나중에 안읽음으로 세지지 않게 합니다.
+ * 사용자가 연결한 노드에서만 전송되고 READ 도 그 노드에서 처리되므로 노드 로컬 상태로 충분합니다.
+ */
+@Component
+public class DeliveredMessageTracker {
+	// userId -> (roomId -> 전송한 최대 메시지 ID): 연결 종료 시 사용자 단위로 한 번에 정리한다.
+	private final Map<Long, Map<Long, Long>> delivered = new ConcurrentHashMap<>();
+
+	/**
+	 * 사용자에게 메시지를 전송했음을 기록합니다. 더 작은 ID 는 기존 값을 낮추지 않습니다.
+	 */
+	public void record(Long roomId, Long userId, Long messageId) {
+		if (roomId == null || userId == null || messageId == null) return;
+		delivered.computeIfAbsent(userId, id -> new ConcurrentHashMap<>())
+				.merge(roomId, messageId, Math::max);
+	}
+
+	/**
+	 * 채팅방에서 사용자에게 전송한 가장 큰 메시지 ID 를 꺼내고 기록을 지웁니다.
+	 *
+	 * @return 전송한 메시지가 없으면 null
+	 */
+	public Long take(Long roomId, Long userId) {
+		Map<Long, Long> rooms = delivered.get(userId);
+		return rooms == null ? null : rooms.remove(roomId);
+	}
+
+	/**
+	 * 연결이 종료된 사용자의 기록을 모두 지웁니다.
+	 */
+	public void clear(Long userId) {
+		delivered.remove(userId);
+	}
+}
@@ -0,0 +1,45 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketRateLimitProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Redis 고정 윈도우(1분) 카운터로 사용자 단위 전역 한도를 적용합니다.
+ * 로컬 버킷은 연결 종료 시 초기화되므로, 재접속이나 다른 노드로의 이동으로 한도를 우회하는 것을 막습니다.
+ * Redis 장애 시에는 로컬 레이트 리밋만으로 동작하도록 허용(fail-open)합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GlobalRateLimiter {
+	private static final Duration WINDOW = Duration.ofMinutes(1);
+
+	private final StringRedisTemplate redisTemplate;
+	private final WebSocketRateLimitProperties properties;
+
+	public boolean isEnabled() {
+		return properties.getGlobal().isEnabled();
+	}
+
+	public boolean tryAcquire(long userId) {
+		WebSocketRateLimitProperties.Global global = properties.getGlobal();
+		long window = System.currentTimeMillis() / WINDOW.toMillis();
+		String key = global.getKeyPrefix() + userId + ":" + window;
+		try {
+			Long count = redisTemplate.opsForValue().increment(key);
+			if (count != null && count == 1L) {
+				redisTemplate.expire(key, WINDOW.plusSeconds(5));
+			}
+			return count == null || count <= global.getLimitPerMinute();
+		} catch (Exception e) {
+			log.debug("{}global rate limit unavailable userId={} reason={}", LogTag.WS_POLICY, userId, e.getMessage());
+			return true;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketHeartbeatProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션마다 Ping 전송과 유휴 판정 시점을 개별로 예약하는 hashed timer wheel 입니다.
+ * 전체 세션을 주기적으로 훑지 않고, 매 tick 마다 해당 칸에 예약된 세션만 처리합니다.
+ * 첫 Ping 시점을 Ping 주기 안에서 무작위로 분산시키므로, 배포 직후 대량 재접속이 있어도
+ * Ping 이 한 순간에 몰리지 않고 주기 전체에 고르게 퍼집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeartbeatWheel {
+	private final ChatSessionManager sessionManager;
+	private final WebSocketHeartbeatProperties properties;
+
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+	private Queue<Entry>[] buckets;
+	private volatile long currentTick;
+	private volatile boolean running;
+	private Thread worker;
+
+	private static final class Entry {
+		private final Long userId;
+		private final WebSocketSession session;
+		private long deadlineTick;
+		private volatile boolean cancelled;
+
+		private Entry(Long userId, WebSocketSession session) {
+			this.userId = userId;
+			this.session = session;
+		}
+	}
+
+	@PostConstruct
+	@SuppressWarnings("unchecked")
+	void start() {
+		buckets = new Queue[Math.max(1, properties.getWheelSize())];
+		for (int i = 0; i < buckets.length; i++) {
+			buckets[i] = new ConcurrentLinkedQueue<>();
+		}
+		running = true;
+		worker = Thread.ofPlatform().daemon().name("ws-heartbeat").start(this::run);
+	}
+
+	@PreDestroy
+	void stop() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * 세션의 heartbeat 를 예약합니다. 같은 사용자의 이전 예약은 취소됩니다.
+	 */
+	public void register(Long userId, WebSocketSession session) {
+		Entry entry = new Entry(userId, session);
+		Entry old = entries.put(userId, entry);
+		if (old != null) old.cancelled = true;
+		schedule(entry, ThreadLocalRandom.current().nextLong(1, properties.getPingIntervalMs() + 1));
+	}
+
+	/**
+	 * 닫힌 세션의 heartbeat 예약을 취소합니다.
+	 * 세션이 교체된 뒤 이전 세션의 종료가 늦게 도착해도 새 세션의 예약은 건드리지 않도록 세션 ID 가 같을 때만 취소합니다.
+	 * 등록된 세션은 송신 큐로 감싼 세션이므로 인스턴스가 아닌 ID 로 비교합니다.
+	 */
+	public void cancel(Long userId, WebSocketSession session) {
+		Entry entry = entries.get(userId);
+		if (entry == null || !entry.session.getId().equals(session.getId())) return;
+		if (entries.remove(userId, entry)) entry.cancelled = true;
+	}
+
+	/**
+	 * 예약된 세션 수를 반환합니다.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	private void schedule(Entry entry, long delayMs) {
+		long ticks = Math.max(1, (delayMs + properties.getTickMs() - 1) / properties.getTickMs());
+		entry.deadlineTick = currentTick + ticks;
+		buckets[(int) (entry.deadlineTick % buckets.length)].add(entry);
+	}
+
+	private void run() {
+		long tickNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTickMs());
+		long startedAt = System.nanoTime();
+
+		while (running) {
+			long sleepNanos = startedAt + (currentTick + 1) * tickNanos - System.nanoTime();
+			if (sleepNanos > 0) {
+				try {
+					TimeUnit.NANOSECONDS.sleep(sleepNanos);
+				} catch (InterruptedException e) {
+					if (!running) return;
+					continue;
+				}
+			}
+			long tick = ++currentTick;
+			try {
+				processBucket(tick);
+			} catch (Exception e) {
+				log.error("{}heartbeat tick failed tick={} reason={}", LogTag.WS_SYS, tick, e.getMessage(), e);
+			}
+		}
+	}
+
+	/**
+	 * 현재 칸의 예약을 처리합니다. 이후 바퀴에 해당하는 예약은 다시 넣습니다.
+	 */
+	void processBucket(long tick) {
+		Queue<Entry> bucket = buckets[(int) (tick % buckets.length)];
+		List<Entry> due = new ArrayList<>();
+		Entry polled;
+		while ((polled = bucket.poll()) != null) {
+			due.add(polled);
+		}
+
+		for (Entry entry : due) {
+			if (entry.cancelled) continue;
+			if (entry.deadlineTick > tick) {
+				bucket.add(entry);
+				continue;
+			}
+			fire(entry);
+		}
+	}
+
+	private void fire(Entry entry) {
+		Long userId = entry.userId;
+		if (sessionManager.getSession(userId) != entry.session) {
+			// 이미 정리되었거나 새 세션으로 교체됨
+			entries.remove(userId, entry);
+			return;
+		}
+
+		if (!entry.session.isOpen()) {
+			log.debug("{}Session already closed. Clearing up. userId={}", LogTag.WS_SYS, userId);
+			disconnect(entry);
+			return;
+		}
+
+		// 유휴 시간 체크 (무응답 클라이언트 정리)
+		Instant lastActiveAt = sessionManager.getLastActiveAt(userId);
+		if (lastActiveAt.plusMillis(properties.getIdleTimeoutMs()).isBefore(Instant.now())) {
+			log.warn("{}Idle session detected. userId={} lastActiveAt={}", LogTag.WS_SYS, userId, lastActiveAt);
+			disconnect(entry);
+			return;
+		}
+
+		if (!sendPing(entry.session, userId)) {
+			disconnect(entry);
+			return;
+		}
+		schedule(entry, properties.getPingIntervalMs());
+	}
+
+	private void disconnect(Entry entry) {
+		entries.remove(entry.userId, entry);
+		sessionManager.forceDisconnect(entry.userId, CloseStatus.SESSION_NOT_RELIABLE);
+	}
+
+	/**
+	 * Ping 메시지를 전송하고 성공 여부를 반환합니다.
+	 * 세션은 송신 큐로 감싸져 있으므로 실제 전송을 기다리지 않습니다.
+	 */
+	private boolean sendPing(WebSocketSession session, Long userId) {
+		try {
+			byte[] payload = Long.toString(System.currentTimeMillis()).getBytes(StandardCharsets.UTF_8);
+			session.sendMessage(new PingMessage(ByteBuffer.wrap(payload)));
+			log.debug("{}Ping sent successfully. userId={}", LogTag.WS_SYS, userId);
+			return true;
+		} catch (Exception e) {
+			log.warn("{}Ping send failed. userId={} reason={}", LogTag.WS_ERR, userId, e.getMessage());
+			return false;
+		}
+	}
+}
@@ -2,8 +2,11 @@ package com.anonymouschat.anonymouschatserver.presentation.socket.support;
 
 import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
 import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.ClusterEnvelope;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.ClusterRelay;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.PresenceRegistry;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.socket.CloseStatus;
@@ -11,16 +14,42 @@ import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * WebSocket 메시지를 채팅방 참여자들에게 브로드캐스트하는 기능을 제공합니다.
- * 메시지 직렬화 및 전송 실패 시 세션 정리 로직을 포함합니다.
+ * 메시지는 브로드캐스트당 한 번만 {@link OutboundFrameEncoder}로 인코딩하여 모든 수신자가 같은 프레임을 공유합니다.
+ * 전송 실패 시 세션 정리 로직을 포함합니다.
+ * 클러스터 모드에서는 다른 노드에 연결된 참여자에게 {@link ClusterRelay}로 노드별 한 번씩 전달합니다.
+ * CHAT 메시지는 전송에 성공한 수신자별로 {@link DeliveredMessageTracker}에 기록하여 읽음 처리의 기준으로 사용합니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MessageBroadcaster {
 	private final ChatSessionManager sessionManager;
-	private final ObjectMapper objectMapper;
+	private final OutboundFrameEncoder encoder;
+	private final PresenceRegistry presenceRegistry;
+	private final ClusterRelay clusterRelay;
+	private final DeliveredMessageTracker deliveredTracker;
+
+	/**
+	 * 브로드캐스트 결과입니다.
+	 *
+	 * @param delivered 현재 노드에서 세션으로 전송에 성공한 수신자 수
+	 * @param relayed 다른 노드로 릴레이한 수신자 수. presence 기준이며 그 노드에서의 실제 전송 여부는 포함하지 않습니다.
+	 */
+	public record BroadcastResult(int delivered, int relayed) {
+		static final BroadcastResult NONE = new BroadcastResult(0, 0);
+
+		/**
+		 * 현재 노드에 전송했거나 presence 상 다른 노드에 접속 중인 수신자가 있는지 여부 (푸시 알림 생략 기준)
+		 */
+		public boolean hasOnlineReceivers() {
+			return delivered > 0 || relayed > 0;
+		}
+	}
 
 	/**
 	 * 특정 채팅방의 모든 참여자에게 메시지를 브로드캐스트합니다.
@@ -28,9 +57,9 @@ public class MessageBroadcaster {
 	 *
 	 * @param roomId 메시지를 보낼 채팅방 ID
 	 * @param message 브로드캐스트할 메시지 객체
-	 * @return 메시지 전송에 성공한 참여자 수
+	 * @return 브로드캐스트 결과
 	 */
-	public int broadcast(Long roomId, ChatOutboundMessage message) {
+	public BroadcastResult broadcast(Long roomId, ChatOutboundMessage message) {
 		return broadcastExcept(roomId, message, null);
 	}
 
@@ -41,36 +70,69 @@ public class MessageBroadcaster {
 	 * @param roomId 메시지를 보낼 채팅방 ID
 	 * @param message 브로드캐스트할 메시지 객체
 	 * @param excludeUserId 메시지 수신에서 제외할 사용자 ID (null인 경우 모든 참여자에게 전송)
-	 * @return 메시지 전송에 성공한 참여자 수
+	 * @return 현재 노드 전송 수와 다른 노드 릴레이 수를 구분한 브로드캐스트 결과
 	 */
-	public int broadcastExcept(Long roomId, ChatOutboundMessage message, Long excludeUserId) {
+	public BroadcastResult broadcastExcept(Long roomId, ChatOutboundMessage message, Long excludeUserId) {
 		int success = 0;
-		String payload;
+		TextMessage frame;
 		try {
-			payload = objectMapper.writeValueAsString(message);
+			frame = encoder.encode(message);
 		} catch (Exception e) {
 			log.error("{}serialize failed roomId={} reason={}", LogTag.WS_BROADCAST, roomId, e.getMessage(), e);
-			return 0;
+			return BroadcastResult.NONE;
 		}
 
+		Long chatMessageId = message.type() == MessageType.CHAT ? message.messageId() : null;
 		for (Long participantId : sessionManager.getParticipants(roomId)) {
 			if (excludeUserId != null && excludeUserId.equals(participantId)) continue;
-			if (sendToParticipant(participantId, payload)) {
+			if (sendToParticipant(participantId, frame)) {
+				deliveredTracker.record(roomId, participantId, chatMessageId);
+				success++;
+			}
+		}
+
+		int relayed = presenceRegistry.isEnabled() ? relayToRemoteNodes(roomId, chatMessageId, frame.getPayload(), excludeUserId) : 0;
+		return new BroadcastResult(success, relayed);
+	}
+
+	/**
+	 * 다른 노드에서 전달받은 메시지를 현재 노드에 연결된 수신자에게 전송합니다.
+	 *
+	 * @param envelope 수신자 ID 목록과 직렬화된 메시지를 담은 릴레이 묶음
+	 * @return 메시지 전송에 성공한 수신자 수
+	 */
+	public int deliverLocal(ClusterEnvelope envelope) {
+		TextMessage frame = encoder.frame(envelope.payload());
+		int success = 0;
+		for (Long recipientId : envelope.recipients()) {
+			if (sendToParticipant(recipientId, frame)) {
+				deliveredTracker.record(envelope.roomId(), recipientId, envelope.messageId());
 				success++;
 			}
 		}
 		return success;
 	}
 
+	private int relayToRemoteNodes(Long roomId, Long messageId, String payload, Long excludeUserId) {
+		try {
+			Map<String, List<Long>> targets = presenceRegistry.locateRemote(roomId, excludeUserId);
+			return clusterRelay.publish(targets, payload, roomId, messageId);
+		} catch (Exception e) {
+			log.warn("{}remote lookup failed roomId={} reason={}", LogTag.WS_BROADCAST, roomId, e.getMessage());
+			return 0;
+		}
+	}
+
 	/**
 	 * 단일 참여자에게 WebSocket 메시지를 전송합니다.
+	 * 등록된 세션은 {@link OutboundSessionQueue}로 감싸져 있으므로 실제 전송을 기다리지 않고 큐에 넣은 뒤 바로 반환합니다.
 	 * 세션이 없거나 닫혀있거나, 메시지 전송 중 예외가 발생하면 해당 세션을 정리합니다.
 	 *
 	 * @param participantId 메시지를 받을 참여자 ID
-	 * @param payload 전송할 메시지 페이로드 (JSON 문자열)
+	 * @param frame 모든 수신자가 공유하는 인코딩된 메시지 프레임
 	 * @return 메시지 전송 성공 여부
 	 */
-	private boolean sendToParticipant(Long participantId, String payload) {
+	private boolean sendToParticipant(Long participantId, TextMessage frame) {
 		WebSocketSession session = sessionManager.getSession(participantId);
 		if (session == null) {
 			log.debug("{}skip(no session) userId={}", LogTag.WS_BROADCAST, participantId);
@@ -84,7 +146,7 @@ public class MessageBroadcaster {
 		}
 
 		try {
-			session.sendMessage(new TextMessage(payload));
+			session.sendMessage(frame);
 			return true;
 		} catch (Exception e) {
 			log.warn("{}send failed userId={} sessionId={} reason={}", LogTag.WS_BROADCAST, participantId, safeSessionId(session), e.getMessage());
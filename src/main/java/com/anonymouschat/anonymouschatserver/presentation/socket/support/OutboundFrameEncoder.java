@@ -0,0 +1,39 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link ChatOutboundMessage}를 WebSocket 프레임으로 한 번만 인코딩합니다.
+ * 반환된 {@link TextMessage}는 UTF-8 바이트를 함께 보관하는 불변 객체이므로
+ * 브로드캐스트 대상 전원과 다른 노드 전달에 그대로 재사용합니다.
+ */
+@Component
+public class OutboundFrameEncoder {
+	// 타입을 고정한 writer 를 재사용하여 직렬화기 조회 비용을 없앰
+	private final ObjectWriter writer;
+
+	public OutboundFrameEncoder(ObjectMapper objectMapper) {
+		this.writer = objectMapper.writerFor(ChatOutboundMessage.class);
+	}
+
+	/**
+	 * 메시지를 UTF-8 JSON 으로 직렬화한 공유 프레임을 만듭니다.
+	 */
+	public TextMessage encode(ChatOutboundMessage message) throws JsonProcessingException {
+		return new TextMessage(writer.writeValueAsBytes(message));
+	}
+
+	/**
+	 * 이미 직렬화된 JSON(다른 노드에서 전달받은 페이로드)으로 공유 프레임을 만듭니다.
+	 */
+	public TextMessage frame(String payload) {
+		return new TextMessage(payload.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,274 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketOutboundProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketOutboundProperties.OverflowPolicy;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션마다 제한된 크기의 송신 큐를 붙여 비동기로 전송합니다.
+ * {@code ConcurrentWebSocketSessionDecorator}와 같은 방식으로 세션을 감싸지만,
+ * 실제 전송은 호출 스레드가 아닌 송신 스레드 풀에서 수행하므로
+ * 느린 클라이언트가 브로드캐스트 루프나 다른 수신자를 막지 않습니다.
+ * 한 세션의 메시지는 항상 한 스레드만 순서대로 전송하므로 동시 전송 예외도 발생하지 않습니다.
+ * 전송 중인 세션은 watchdog 이 주기적으로 검사해, 제한 시간을 넘기면 새 전송을 기다리지 않고 세션을 종료하고
+ * 막힌 송신 스레드를 인터럽트합니다. 멈춘 클라이언트 몇 개가 공용 송신 풀 전체를 붙잡지 못하게 하기 위함입니다.
+ */
+@Slf4j
+@Component
+public class OutboundSessionQueue {
+	private final WebSocketOutboundProperties properties;
+	private final ExecutorService sender;
+	private final ScheduledExecutorService watchdog;
+	private final Set<QueuedSession> inFlight = ConcurrentHashMap.newKeySet();
+
+	private final AtomicLong queuedMessages = new AtomicLong();
+	private final AtomicLong queuedBytes = new AtomicLong();
+	private final Counter droppedCounter;
+	private final Counter disconnectCounter;
+
+	public OutboundSessionQueue(WebSocketOutboundProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.sender = Executors.newFixedThreadPool(Math.max(1, properties.getSenderThreads()),
+				task -> Thread.ofPlatform().daemon().name("ws-sender-" + threadIndex.getAndIncrement()).unstarted(task));
+		this.watchdog = Executors.newSingleThreadScheduledExecutor(
+				task -> Thread.ofPlatform().daemon().name("ws-send-watchdog").unstarted(task));
+		long interval = Math.max(1, properties.getWatchdogIntervalMs());
+		watchdog.scheduleWithFixedDelay(this::checkSendTimeLimits, interval, interval, TimeUnit.MILLISECONDS);
+
+		Gauge.builder("chat.ws.outbound.queued.messages", queuedMessages, AtomicLong::get)
+				.description("세션 송신 큐에 대기 중인 메시지 수").register(meterRegistry);
+		Gauge.builder("chat.ws.outbound.queued.bytes", queuedBytes, AtomicLong::get)
+				.description("세션 송신 큐에 대기 중인 바이트 수").register(meterRegistry);
+		this.droppedCounter = Counter.builder("chat.ws.outbound.dropped")
+				                      .description("버퍼 초과로 버린 메시지 수").register(meterRegistry);
+		this.disconnectCounter = Counter.builder("chat.ws.outbound.disconnects")
+				                         .description("버퍼/전송 시간 초과로 종료한 세션 수").register(meterRegistry);
+	}
+
+	/**
+	 * 세션을 송신 큐가 붙은 세션으로 감쌉니다.
+	 */
+	public WebSocketSession wrap(WebSocketSession session) {
+		return new QueuedSession(session);
+	}
+
+	/**
+	 * 전체 세션 큐에 대기 중인 메시지 수를 반환합니다.
+	 */
+	public long depth() {
+		return queuedMessages.get();
+	}
+
+	/**
+	 * 전송 중인 세션 가운데 제한 시간을 넘긴 세션을 종료합니다.
+	 */
+	void checkSendTimeLimits() {
+		long now = System.currentTimeMillis();
+		for (QueuedSession session : inFlight) {
+			try {
+				session.abortIfStalled(now);
+			} catch (Exception e) {
+				log.warn("{}outbound watchdog failed sessionId={} reason={}", LogTag.WS_BROADCAST, session.getId(), e.getMessage());
+			}
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		watchdog.shutdownNow();
+		sender.shutdown();
+		try {
+			if (!sender.awaitTermination(5, TimeUnit.SECONDS)) {
+				sender.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			sender.shutdownNow();
+		}
+	}
+
+	private final class QueuedSession extends WebSocketSessionDecorator {
+		private final Deque<WebSocketMessage<?>> buffer = new ConcurrentLinkedDeque<>();
+		private final AtomicInteger bufferSize = new AtomicInteger();
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private volatile long sendStartedAt;
+		private volatile boolean terminated;
+		private Thread sendingThread; // this 로 보호. 전송 중일 때만 설정
+
+
+
+		private QueuedSession(WebSocketSession delegate) {
+			super(delegate);
+		}
+
+		/**
+		 * 메시지를 큐에 넣고 바로 반환합니다.
+		 * 진행 중인 전송이 제한 시간을 넘겼거나, DISCONNECT 정책에서 버퍼가 넘치면 세션을 종료하고 예외를 던집니다.
+		 */
+		@Override
+		public void sendMessage(@NonNull WebSocketMessage<?> message) throws IOException {
+			if (terminated) return;
+
+			long startedAt = sendStartedAt;
+			if (startedAt > 0 && System.currentTimeMillis() - startedAt > properties.getSendTimeLimitMs()) {
+				terminate("send time limit exceeded");
+				throw new SessionLimitExceededException("Send time limit exceeded", CloseStatus.SESSION_NOT_RELIABLE);
+			}
+
+			buffer.addLast(message);
+			bufferSize.addAndGet(message.getPayloadLength());
+			queuedMessages.incrementAndGet();
+			queuedBytes.addAndGet(message.getPayloadLength());
+
+			if (bufferSize.get() > properties.getBufferSizeLimit()) {
+				if (properties.getOverflowPolicy() == OverflowPolicy.DISCONNECT) {
+					terminate("buffer size limit exceeded");
+					throw new SessionLimitExceededException("Buffer size limit exceeded", CloseStatus.SESSION_NOT_RELIABLE);
+				}
+				dropOldest();
+			}
+
+			scheduleDrain();
+		}
+
+		@Override
+		public void close(@NonNull CloseStatus status) throws IOException {
+			terminated = true;
+			clearBuffer();
+			super.close(status);
+		}
+
+		private void dropOldest() {
+			int dropped = 0;
+			WebSocketMessage<?> oldest;
+			while (bufferSize.get() > properties.getBufferSizeLimit() && (oldest = buffer.pollFirst()) != null) {
+				release(oldest);
+				dropped++;
+			}
+			if (dropped > 0) {
+				droppedCounter.increment(dropped);
+				log.debug("{}outbound overflow dropped={} sessionId={}", LogTag.WS_BROADCAST, dropped, getId());
+			}
+		}
+
+		private void scheduleDrain() {
+			if (!draining.compareAndSet(false, true)) return;
+			try {
+				sender.execute(this::drain);
+			} catch (RejectedExecutionException e) {
+				draining.set(false);
+				log.warn("{}outbound sender rejected sessionId={}", LogTag.WS_BROADCAST, getId());
+			}
+		}
+
+		private void drain() {
+			try {
+				WebSocketMessage<?> message;
+				while (!terminated && (message = buffer.pollFirst()) != null) {
+					release(message);
+					beginSend();
+					try {
+						getDelegate().sendMessage(message);
+					} catch (Exception e) {
+						log.warn("{}outbound send failed sessionId={} reason={}", LogTag.WS_BROADCAST, getId(), e.getMessage());
+						terminate("send failed");
+						return;
+					} finally {
+						endSend();
+					}
+				}
+			} finally {
+				draining.set(false);
+			}
+			// 종료 직전에 들어온 메시지를 놓치지 않도록 재확인
+			if (!terminated && !buffer.isEmpty()) {
+				scheduleDrain();
+			}
+		}
+
+		private synchronized void beginSend() {
+			sendingThread = Thread.currentThread();
+			sendStartedAt = System.currentTimeMillis();
+			inFlight.add(this);
+		}
+
+		// watchdog 의 인터럽트가 다음 작업(다른 세션)으로 새지 않도록 같은 락 안에서 인터럽트 상태를 비움
+		private synchronized void endSend() {
+			inFlight.remove(this);
+			sendStartedAt = 0;
+			sendingThread = null;
+			Thread.interrupted();
+		}
+
+		/**
+		 * 전송이 제한 시간을 넘겼으면 세션을 닫고 막힌 송신 스레드를 인터럽트해 풀로 돌려보냅니다.
+		 */
+		private void abortIfStalled(long now) {
+			long startedAt = sendStartedAt;
+			if (startedAt == 0 || now - startedAt <= properties.getSendTimeLimitMs()) return;
+
+			synchronized (this) {
+				if (sendStartedAt != startedAt) return;
+				// 닫기가 진행 중인 쓰기에 막히지 않도록 송신 스레드를 먼저 깨움
+				sendingThread.interrupt();
+			}
+			terminate("send time limit exceeded");
+		}
+
+		private void terminate(String reason) {
+			// 송신 스레드와 watchdog 이 동시에 종료할 수 있으므로 한 번만 처리
+			synchronized (this) {
+				if (terminated) return;
+				terminated = true;
+			}
+			disconnectCounter.increment();
+			clearBuffer();
+			log.warn("{}outbound session terminated sessionId={} reason={}", LogTag.WS_BROADCAST, getId(), reason);
+			try {
+				getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+			} catch (Exception e) {
+				log.debug("{}outbound close failed sessionId={} reason={}", LogTag.WS_BROADCAST, getId(), e.getMessage());
+			}
+		}
+
+		private void clearBuffer() {
+			WebSocketMessage<?> message;
+			while ((message = buffer.pollFirst()) != null) {
+				release(message);
+			}
+		}
+
+		private void release(WebSocketMessage<?> message) {
+			bufferSize.addAndGet(-message.getPayloadLength());
+			queuedMessages.decrementAndGet();
+			queuedBytes.addAndGet(-message.getPayloadLength());
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.application.dto.MessageUseCaseDto.MarkMessagesAsReadRequest;
+import com.anonymouschat.anonymouschatserver.application.usecase.MessageUseCase;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketReadReceiptProperties;
+import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
+import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * READ 프레임을 (채팅방, 사용자) 단위로 짧은 시간 동안 모아 한 번만 처리합니다.
+ * 클라이언트는 메시지 수신과 스크롤마다 READ 를 보내므로, 창(window) 안에 들어온 READ 는
+ * 첫 READ 가 예약한 한 번의 읽음 처리와 한 번의 READ 브로드캐스트로 합쳐집니다.
+ * 읽음 워터마크는 처리 시점의 마지막 메시지와 이 사용자에게 전송한 가장 큰 메시지({@link DeliveredMessageTracker}) 중
+ * 큰 값까지 올라가므로 창 안의 모든 READ 가 반영되고, 아직 저장되지 않은 메시지도 읽음으로 남습니다.
+ */
+@Slf4j
+@Component
+public class ReadReceiptAggregator {
+	private final MessageUseCase messageUseCase;
+	private final MessageBroadcaster broadcaster;
+	private final ChatSessionManager sessionManager;
+	private final DeliveredMessageTracker deliveredTracker;
+	private final WebSocketReadReceiptProperties properties;
+	private final ScheduledExecutorService scheduler;
+
+	private final Map<Key, WebSocketSession> pending = new ConcurrentHashMap<>();
+
+	private record Key(Long roomId, Long userId) {}
+
+	public ReadReceiptAggregator(MessageUseCase messageUseCase,
+	                             MessageBroadcaster broadcaster,
+	                             ChatSessionManager sessionManager,
+	                             DeliveredMessageTracker deliveredTracker,
+	                             WebSocketReadReceiptProperties properties) {
+		this.messageUseCase = messageUseCase;
+		this.broadcaster = broadcaster;
+		this.sessionManager = sessionManager;
+		this.deliveredTracker = deliveredTracker;
+		this.properties = properties;
+		AtomicInteger threadIndex = new AtomicInteger();
+		this.scheduler = Executors.newScheduledThreadPool(Math.max(1, properties.getFlushThreads()),
+				task -> Thread.ofPlatform().daemon().name("ws-read-receipt-" + threadIndex.getAndIncrement()).unstarted(task));
+	}
+
+	/**
+	 * READ 를 접수합니다. 같은 (채팅방, 사용자)의 처리가 이미 예약되어 있으면 합쳐지고,
+	 * 오류 시 종료할 세션만 가장 최근 세션으로 바뀝니다.
+	 */
+	public void submit(WebSocketSession session, Long roomId, Long userId) {
+		Key key = new Key(roomId, userId);
+		if (pending.put(key, session) == null) {
+			scheduler.schedule(() -> flush(key), properties.getWindowMs(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * 처리를 기다리는 (채팅방, 사용자) 수를 반환합니다.
+	 */
+	public int pendingCount() {
+		return pending.size();
+	}
+
+	void flush(Key key) {
+		WebSocketSession session = pending.remove(key);
+		if (session == null) return;
+
+		Long roomId = key.roomId();
+		Long userId = key.userId();
+		try {
+			Long lastReadMessageId = messageUseCase.markMessagesAsRead(
+					MarkMessagesAsReadRequest.builder()
+							.userId(userId)
+							.roomId(roomId)
+							.readUpToMessageId(deliveredTracker.take(roomId, userId))
+							.build()
+			);
+			if (lastReadMessageId == null) {
+				log.debug("{}읽을 메시지 없음 roomId={} userId={}", LogTag.WS_READ, roomId, userId);
+				return;
+			}
+
+			ChatOutboundMessage outbound = ChatOutboundMessage.builder()
+					                               .roomId(roomId)
+					                               .type(MessageType.READ)
+					                               .senderId(userId)
+					                               .lastReadMessageId(lastReadMessageId)
+					                               .timestamp(Instant.now())
+					                               .build();
+			broadcaster.broadcastExcept(roomId, outbound, userId);
+			log.info("{}메시지 읽음 처리 완료 roomId={} userId={} lastReadMessageId={}", LogTag.WS_READ, roomId, userId, lastReadMessageId);
+		} catch (Exception e) {
+			log.error("{}message read error: userId={}, roomId={}, error={}", LogTag.WS_ERR, userId, roomId, e.getMessage(), e);
+			sessionManager.forceDisconnect(session, CloseStatus.SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * 종료 시 예약된 READ 를 모두 처리한 뒤 스케줄러를 정리합니다.
+	 */
+	@PreDestroy
+	void shutdown() {
+		scheduler.shutdown();
+		try {
+			if (!scheduler.awaitTermination(Math.max(1_000, properties.getWindowMs() * 5), TimeUnit.MILLISECONDS)) {
+				log.warn("{}read receipt aggregator stopped with pending receipts: remaining={}", LogTag.WS_READ, pending.size());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -58,4 +58,20 @@ public class WebSocketAccessGuard {
 		}
 		return true;
 	}
+
+	/**
+	 * 채팅방 상대방과 차단 관계가 아닌지 확인합니다.
+	 * 차단 관계라면 메시지를 전달하지 않을 뿐 세션은 유지합니다.
+	 *
+	 * @param roomId 메시지를 보내려는 채팅방 ID
+	 * @param userId 보내는 사용자 ID
+	 * @return 전송 허용 여부 (true: 허용, false: 차단 관계로 거부)
+	 */
+	public boolean ensureNotBlocked(Long roomId, Long userId) {
+		if (chatRoomService.isBlockedWithOpponent(roomId, userId)) {
+			log.info("{}CHAT dropped by block userId={} roomId={}", LogTag.WS_POLICY, userId, roomId);
+			return false;
+		}
+		return true;
+	}
 }
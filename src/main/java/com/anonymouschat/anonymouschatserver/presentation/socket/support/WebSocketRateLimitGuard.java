@@ -1,34 +1,69 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket.support;
 
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketRateLimitProperties;
 import com.anonymouschat.anonymouschatserver.infra.log.LogTag;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * WebSocket 메시지 전송에 대한 레이트 리밋(Rate Limit)을 관리하는 가드 클래스입니다.
  * 사용자별, 메시지 타입별 토큰 버킷(Token Bucket) 알고리즘을 사용하여 메시지 전송 속도를 제어합니다.
+ * <p>
+ * 버킷 상태는 {@code | 경과 시간(ms) | 토큰(1/1000 단위, 20bit) |} 로 하나의 long 에 담아
+ * 사용자당 {@link AtomicLongArray} 한 개에 타입별로 보관하고, CAS 로 갱신하므로 락과 추가 할당이 없습니다.
+ * 거부 건은 이벤트마다 로그를 남기지 않고 카운터로 집계하여 주기적으로 한 번만 기록합니다.
  */
 @Component
 @Slf4j
 public class WebSocketRateLimitGuard {
-
-	// 1유저당 타입별 버킷
-	private final Map<Long, EnumMap<MessageType, TokenBucket>> buckets = new ConcurrentHashMap<>();
-
-	// 정책: 필요 시 조정
-	private static final int CHAT_CAPACITY = 20;          // 최대 토큰
-	private static final double CHAT_REFILL_PER_SEC = 20; // 초당 20개 (≈ 20msg/s)
-
-	private static final int READ_CAPACITY = 10;
-	private static final double READ_REFILL_PER_SEC = 10; // 초당 10개
-
-	private static final int ENTER_LEAVE_CAPACITY = 5;
-	private static final double ENTER_LEAVE_REFILL_PER_SEC = 2; // 초당 2개
+	private static final int TOKEN_BITS = 20;
+	private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+	private static final long ONE_TOKEN = 1_000;
+	private static final int MAX_CAPACITY = (int) (TOKEN_MASK / ONE_TOKEN);
+	private static final MessageType[] TYPES = MessageType.values();
+
+	private final GlobalRateLimiter globalRateLimiter;
+
+	// 1유저당 타입별 버킷 (index = MessageType.ordinal())
+	private final Map<Long, AtomicLongArray> buckets = new ConcurrentHashMap<>();
+
+	private final long[] capacities = new long[TYPES.length];     // 1/1000 토큰 단위
+	private final double[] refillPerMs = new double[TYPES.length]; // 1/1000 토큰 단위 = 초당 토큰 수
+	private final long baseNanos = System.nanoTime();
+
+	private final LongAdder[] rejected = new LongAdder[TYPES.length];
+	private final Counter[] rejectedCounters = new Counter[TYPES.length];
+
+	public WebSocketRateLimitGuard(WebSocketRateLimitProperties properties,
+	                               GlobalRateLimiter globalRateLimiter,
+	                               MeterRegistry meterRegistry) {
+		this.globalRateLimiter = globalRateLimiter;
+		for (MessageType type : TYPES) {
+			WebSocketRateLimitProperties.Policy policy = properties.getPolicies().get(type);
+			if (policy == null) {
+				throw new IllegalArgumentException("레이트 리밋 정책이 없습니다: " + type);
+			}
+			if (policy.getCapacity() < 1 || policy.getCapacity() > MAX_CAPACITY) {
+				throw new IllegalArgumentException("capacity 는 1 ~ " + MAX_CAPACITY + " 범위여야 합니다: " + type);
+			}
+			int i = type.ordinal();
+			capacities[i] = policy.getCapacity() * ONE_TOKEN;
+			refillPerMs[i] = policy.getRefillPerSec();
+			rejected[i] = new LongAdder();
+			rejectedCounters[i] = Counter.builder("chat.ws.rate_limited")
+					                      .tag("type", type.name())
+					                      .register(meterRegistry);
+		}
+	}
 
 	/**
 	 * 특정 사용자가 특정 메시지 타입을 전송하는 것을 허용할지 여부를 확인합니다.
@@ -39,18 +74,14 @@ public class WebSocketRateLimitGuard {
 	 * @return 메시지 전송 허용 여부
 	 */
 	public boolean allow(long userId, MessageType type) {
-		EnumMap<MessageType, TokenBucket> userBuckets =
-				buckets.computeIfAbsent(userId, k -> new EnumMap<>(MessageType.class));
-
-		TokenBucket bucket = userBuckets.computeIfAbsent(type, t -> switch (t) {
-			case CHAT -> new TokenBucket(CHAT_CAPACITY, CHAT_REFILL_PER_SEC);
-			case READ -> new TokenBucket(READ_CAPACITY, READ_REFILL_PER_SEC);
-			case ENTER, LEAVE -> new TokenBucket(ENTER_LEAVE_CAPACITY, ENTER_LEAVE_REFILL_PER_SEC);
-		});
+		AtomicLongArray userBuckets = buckets.computeIfAbsent(userId, k -> new AtomicLongArray(TYPES.length));
 
-		boolean allowed = bucket.tryConsume();
+		int i = type.ordinal();
+		boolean allowed = tryConsume(userBuckets, i) &&
+				                  (!globalRateLimiter.isEnabled() || globalRateLimiter.tryAcquire(userId));
 		if (!allowed) {
-			log.warn("{}Rate limit exceeded. userId={}, type={}", LogTag.WS_POLICY, userId, type);
+			rejected[i].increment();
+			rejectedCounters[i].increment();
 		}
 		return allowed;
 	}
@@ -66,38 +97,52 @@ public class WebSocketRateLimitGuard {
 	}
 
 	/**
-	 * 토큰 버킷 알고리즘을 구현한 내부 클래스입니다.
-	 * 스레드 안전하게 토큰을 소비하고 리필합니다.
+	 * 직전 주기 동안 거부된 건수를 타입별로 한 번에 기록합니다.
 	 */
-	private static final class TokenBucket {
-		private final int capacity;
-		private final double refillPerSec;
-
-		private double tokens;
-		private long lastNanos;
-
-		private TokenBucket(int capacity, double refillPerSec) {
-			this.capacity = capacity;
-			this.refillPerSec = refillPerSec;
-			this.tokens = capacity;
-			this.lastNanos = System.nanoTime();
+	@Scheduled(fixedDelayString = "${chat.websocket.rate-limit.report-interval-ms:60000}")
+	public void reportRejections() {
+		StringBuilder summary = null;
+		for (MessageType type : TYPES) {
+			long count = rejected[type.ordinal()].sumThenReset();
+			if (count == 0) continue;
+			summary = (summary == null ? new StringBuilder() : summary.append(", "))
+					          .append(type).append('=').append(count);
 		}
+		if (summary != null) {
+			log.warn("{}Rate limit exceeded (last interval): {}", LogTag.WS_POLICY, summary);
+		}
+	}
 
-		synchronized boolean tryConsume() {
-			refill();
-			if (tokens >= 1.0) {
-				tokens -= 1.0;
+	/**
+	 * CAS 로 토큰 하나를 소비합니다. 상태가 0이면 아직 사용하지 않은 가득 찬 버킷으로 봅니다.
+	 */
+	private boolean tryConsume(AtomicLongArray userBuckets, int i) {
+		long capacity = capacities[i];
+		long now = nowMillis();
+
+		while (true) {
+			long prev = userBuckets.get(i);
+			long last = prev == 0 ? now : prev >>> TOKEN_BITS;
+			long tokens = prev == 0 ? capacity : prev & TOKEN_MASK;
+
+			long elapsed = now - last;
+			if (elapsed > 0) {
+				long refill = (long) (elapsed * refillPerMs[i]);
+				if (refill > 0) { // 리필량이 0이면 시각을 유지하여 경과 시간을 누적
+					tokens = Math.min(capacity, tokens + refill);
+					last = now;
+				}
+			}
+
+			if (tokens < ONE_TOKEN) return false;
+
+			if (userBuckets.compareAndSet(i, prev, (last << TOKEN_BITS) | (tokens - ONE_TOKEN))) {
 				return true;
 			}
-			return false;
 		}
+	}
 
-		private void refill() {
-			long now = System.nanoTime();
-			double elapsedSec = (now - lastNanos) / 1_000_000_000.0;
-			if (elapsedSec <= 0) return;
-			tokens = Math.min(capacity, tokens + elapsedSec * refillPerSec);
-			lastNanos = now;
-		}
+	private long nowMillis() {
+		return (System.nanoTime() - baseNanos) / 1_000_000 + 1; // 0은 미사용 상태로 예약
 	}
 }
@@ -0,0 +1,108 @@
+package com.anonymouschat.anonymouschatserver.application.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BlockGraphCache 테스트")
+class BlockGraphCacheTest {
+
+	private final BlockGraphCache cache = new BlockGraphCache();
+
+	private void load(long userId, long[] blocked, long[] blockedBy) {
+		cache.put(userId, blocked, blockedBy, cache.generation());
+	}
+
+	@Nested
+	@DisplayName("isBlocked")
+	class IsBlocked {
+
+		@Test
+		@DisplayName("적재되지 않은 사용자는 null 을 반환한다")
+		void returns_null_when_not_loaded() {
+			assertThat(cache.isBlocked(1L, 2L)).isNull();
+		}
+
+		@Test
+		@DisplayName("내가 차단한 사용자와 나를 차단한 사용자 모두 차단 관계로 판정한다")
+		void checks_both_directions() {
+			load(1L, new long[]{2L}, new long[]{3L});
+
+			assertThat(cache.isBlocked(1L, 2L)).isTrue();
+			assertThat(cache.isBlocked(1L, 3L)).isTrue();
+			assertThat(cache.isBlocked(1L, 4L)).isFalse();
+		}
+
+		@Test
+		@DisplayName("많은 차단 관계도 모두 판정한다")
+		void handles_many_ids() {
+			long[] blocked = LongStream.rangeClosed(1, 1_000).map(i -> i * 7).toArray();
+			load(1L, blocked, new long[0]);
+
+			assertThat(LongStream.of(blocked).allMatch(id -> cache.isBlocked(1L, id))).isTrue();
+			assertThat(cache.isBlocked(1L, 8L)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("apply / evict")
+	class Update {
+
+		@Test
+		@DisplayName("차단/해제를 적재된 양쪽 사용자 항목에 반영한다")
+		void applies_to_both_users() {
+			load(1L, new long[0], new long[0]);
+			load(2L, new long[0], new long[0]);
+
+			cache.apply(1L, 2L, true);
+			assertThat(cache.isBlocked(1L, 2L)).isTrue();
+			assertThat(cache.isBlocked(2L, 1L)).isTrue();
+
+			cache.apply(1L, 2L, false);
+			assertThat(cache.isBlocked(1L, 2L)).isFalse();
+			assertThat(cache.isBlocked(2L, 1L)).isFalse();
+		}
+
+		@Test
+		@DisplayName("적재 도중 차단 관계가 바뀌면 읽어 둔 결과를 적재하지 않는다")
+		void skips_stale_load() {
+			long generation = cache.generation();
+			cache.apply(1L, 2L, true);
+
+			cache.put(1L, new long[0], new long[0], generation);
+
+			assertThat(cache.isBlocked(1L, 2L)).isNull();
+		}
+
+		@Test
+		@DisplayName("무효화하면 양쪽 사용자 항목을 제거한다")
+		void evicts_both_users() {
+			load(1L, new long[]{2L}, new long[0]);
+			load(2L, new long[0], new long[]{1L});
+
+			cache.evict(1L, 2L);
+
+			assertThat(cache.size()).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("상한에 도달하면 가장 오래 조회되지 않은 사용자부터 제거한다")
+	void evicts_least_recently_used_users() {
+		for (long userId = 1; userId <= BlockGraphCache.MAX_USERS; userId++) {
+			load(userId, new long[0], new long[0]);
+		}
+		cache.isBlocked(1L, 2L); // 가장 먼저 적재된 사용자를 최근 조회로 갱신
+
+		load(BlockGraphCache.MAX_USERS + 1L, new long[0], new long[0]);
+
+		assertThat(cache.size()).isLessThan(BlockGraphCache.MAX_USERS);
+		assertThat(cache.isBlocked(1L, 2L)).isNotNull();
+		assertThat(cache.isBlocked(2L, 1L)).isNull();
+		assertThat(cache.isBlocked(BlockGraphCache.MAX_USERS + 1L, 1L)).isNotNull();
+	}
+}
@@ -36,8 +36,8 @@ class MessageStoreRetryListenerTest {
 	@DisplayName("첫 번째 재시도에서 성공하면 메시지가 저장된다")
 	void handleMessageStoreFailure_FirstRetrySuccess() throws InterruptedException {
 		// given
-		MessageStoreFailure event = new MessageStoreFailure(1L, 100L, "테스트 메시지");
 		Long expectedMessageId = 1000L;
+		MessageStoreFailure event = new MessageStoreFailure(expectedMessageId, 1L, 100L, "테스트 메시지");
 
 		when(messageUseCase.sendMessage(any(MessageUseCaseDto.SendMessageRequest.class)))
 				.thenReturn(expectedMessageId);
@@ -47,7 +47,8 @@ class MessageStoreRetryListenerTest {
 
 		// then
 		verify(messageUseCase).sendMessage(argThat(request ->
-				                                           request.roomId().equals(1L) &&
+				                                           request.messageId().equals(expectedMessageId) &&
+						                                           request.roomId().equals(1L) &&
 						                                           request.senderId().equals(100L) &&
 						                                           request.content().equals("테스트 메시지")
 		));
@@ -150,6 +151,7 @@ class MessageStoreRetryListenerTest {
 	void messageStoreFailure_WithRetry() {
 		// given
 		MessageStoreFailure originalEvent = MessageStoreFailure.builder()
+				                                    .messageId(1000L)
 				                                    .roomId(1L)
 				                                    .senderId(100L)
 				                                    .content("테스트 메시지")
@@ -163,6 +165,7 @@ class MessageStoreRetryListenerTest {
 		MessageStoreFailure retryEvent = originalEvent.withRetry(newErrorMessage);
 
 		// then
+		assertThat(retryEvent.messageId()).isEqualTo(originalEvent.messageId());
 		assertThat(retryEvent.roomId()).isEqualTo(originalEvent.roomId());
 		assertThat(retryEvent.senderId()).isEqualTo(originalEvent.senderId());
 		assertThat(retryEvent.content()).isEqualTo(originalEvent.content());
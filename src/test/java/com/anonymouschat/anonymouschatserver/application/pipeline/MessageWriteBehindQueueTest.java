@@ -0,0 +1,196 @@
+package com.anonymouschat.anonymouschatserver.application.pipeline;
+
+import com.anonymouschat.anonymouschatserver.application.dto.MessageUseCaseDto;
+import com.anonymouschat.anonymouschatserver.application.event.MessageStoreFailure;
+import com.anonymouschat.anonymouschatserver.application.event.PushNotificationRequired;
+import com.anonymouschat.anonymouschatserver.application.usecase.MessageUseCase;
+import com.anonymouschat.anonymouschatserver.infra.config.MessageWriteBehindProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MessageWriteBehindQueue 테스트")
+class MessageWriteBehindQueueTest {
+
+	@Mock private MessageUseCase messageUseCase;
+	@Mock private ApplicationEventPublisher publisher;
+
+	@Captor private ArgumentCaptor<MessageUseCaseDto.SendMessageBatchRequest> batchCaptor;
+	@Captor private ArgumentCaptor<PushNotificationRequired> pushNotificationCaptor;
+	@Captor private ArgumentCaptor<MessageStoreFailure> messageStoreFailureCaptor;
+
+	private MessageWriteBehindQueue queue;
+	private long nextMessageId = 1L;
+
+	@BeforeEach
+	void setUp() {
+		MessageWriteBehindProperties properties = new MessageWriteBehindProperties();
+		properties.setWorkers(2);
+		properties.setQueueCapacity(100);
+		properties.setBatchSize(50);
+		properties.setPollTimeoutMs(10);
+		properties.setShutdownTimeoutMs(1_000);
+		queue = new MessageWriteBehindQueue(messageUseCase, publisher, properties);
+	}
+
+	private MessageWriteBehindQueue.PendingMessage pending(long roomId, long senderId, String content, boolean noOnlineReceivers) {
+		return new MessageWriteBehindQueue.PendingMessage(nextMessageId++, roomId, senderId, content, Instant.now(), noOnlineReceivers);
+	}
+
+	@Nested
+	@DisplayName("flush")
+	class Flush {
+
+		@Test
+		@DisplayName("채팅방별로 묶어서 한 번씩 저장한다")
+		void groups_messages_per_room() {
+			when(messageUseCase.sendMessages(any())).thenAnswer(invocation -> {
+				MessageUseCaseDto.SendMessageBatchRequest request = invocation.getArgument(0);
+				return request.messages().stream().map(m -> 1L).toList();
+			});
+
+			queue.flush(List.of(
+					pending(100L, 1L, "a", false),
+					pending(200L, 3L, "b", false),
+					pending(100L, 2L, "c", false)
+			));
+
+			verify(messageUseCase, times(2)).sendMessages(batchCaptor.capture());
+			List<MessageUseCaseDto.SendMessageBatchRequest> requests = batchCaptor.getAllValues();
+			assertThat(requests.get(0).roomId()).isEqualTo(100L);
+			assertThat(requests.get(0).messages())
+					.extracting(MessageUseCaseDto.SendMessageRequest::content)
+					.containsExactly("a", "c");
+			assertThat(requests.get(1).roomId()).isEqualTo(200L);
+			assertThat(requests.get(1).messages()).hasSize(1);
+			assertThat(requests.get(0).messages().get(0).sentAt()).isNotNull();
+			assertThat(requests.get(0).messages())
+					.extracting(MessageUseCaseDto.SendMessageRequest::messageId)
+					.containsExactly(1L, 3L);
+		}
+
+		@Test
+		@DisplayName("온라인 수신자가 없던 메시지만 푸시 알림 이벤트를 발행한다")
+		void publishes_push_notification_only_for_offline_receivers() {
+			when(messageUseCase.sendMessages(any())).thenReturn(List.of(10L, 11L));
+
+			queue.flush(List.of(
+					pending(100L, 1L, "online", false),
+					pending(100L, 1L, "offline", true)
+			));
+
+			verify(publisher).publishEvent(pushNotificationCaptor.capture());
+			PushNotificationRequired event = pushNotificationCaptor.getValue();
+			assertThat(event.roomId()).isEqualTo(100L);
+			assertThat(event.messageId()).isEqualTo(11L);
+			assertThat(event.content()).isEqualTo("offline");
+		}
+
+		@Test
+		@DisplayName("저장 실패 시 묶음의 메시지마다 실패 이벤트를 발행한다")
+		void publishes_failure_event_per_message_when_save_fails() {
+			when(messageUseCase.sendMessages(any())).thenThrow(new RuntimeException("DB 오류"));
+
+			queue.flush(List.of(
+					pending(100L, 1L, "a", false),
+					pending(100L, 2L, "b", true)
+			));
+
+			verify(publisher, times(2)).publishEvent(messageStoreFailureCaptor.capture());
+			assertThat(messageStoreFailureCaptor.getAllValues())
+					.extracting(MessageStoreFailure::content)
+					.containsExactly("a", "b");
+			assertThat(messageStoreFailureCaptor.getAllValues())
+					.extracting(MessageStoreFailure::messageId)
+					.containsExactly(1L, 2L);
+			assertThat(messageStoreFailureCaptor.getAllValues())
+					.allSatisfy(failure -> assertThat(failure.retryCount()).isZero());
+			verify(publisher, never()).publishEvent(any(PushNotificationRequired.class));
+		}
+	}
+
+	@Nested
+	@DisplayName("enqueue")
+	class Enqueue {
+
+		@AfterEach
+		void tearDown() {
+			queue.stop();
+		}
+
+		@Test
+		@DisplayName("워커가 큐를 비우면서 메시지를 저장한다")
+		void workers_drain_and_save() {
+			when(messageUseCase.sendMessages(any())).thenAnswer(invocation -> {
+				MessageUseCaseDto.SendMessageBatchRequest request = invocation.getArgument(0);
+				return request.messages().stream().map(m -> 1L).toList();
+			});
+			queue.start();
+
+			for (int i = 0; i < 20; i++) {
+				queue.enqueue(pending(100L + (i % 2), 1L, "msg-" + i, false));
+			}
+
+			verify(messageUseCase, timeout(2_000).atLeastOnce()).sendMessages(any());
+			queue.stop();
+
+			verify(messageUseCase, atLeastOnce()).sendMessages(batchCaptor.capture());
+			int saved = batchCaptor.getAllValues().stream().mapToInt(r -> r.messages().size()).sum();
+			assertThat(saved).isEqualTo(20);
+			assertThat(queue.depth()).isZero();
+		}
+
+		@Test
+		@DisplayName("같은 채팅방의 메시지는 적재 순서대로 저장된다")
+		void preserves_order_within_room() {
+			when(messageUseCase.sendMessages(any())).thenAnswer(invocation -> {
+				MessageUseCaseDto.SendMessageBatchRequest request = invocation.getArgument(0);
+				return request.messages().stream().map(m -> 1L).toList();
+			});
+			queue.start();
+
+			for (int i = 0; i < 30; i++) {
+				queue.enqueue(pending(100L, 1L, String.valueOf(i), false));
+			}
+			queue.stop();
+
+			verify(messageUseCase, atLeastOnce()).sendMessages(batchCaptor.capture());
+			List<String> contents = batchCaptor.getAllValues().stream()
+					                        .flatMap(r -> r.messages().stream())
+					                        .map(MessageUseCaseDto.SendMessageRequest::content)
+					                        .toList();
+			assertThat(contents).hasSize(30);
+			for (int i = 0; i < 30; i++) {
+				assertThat(contents.get(i)).isEqualTo(String.valueOf(i));
+			}
+		}
+
+		@Test
+		@DisplayName("워커가 동작하지 않으면 호출 스레드에서 바로 저장한다")
+		void saves_on_caller_thread_when_not_running() {
+			when(messageUseCase.sendMessages(any())).thenReturn(List.of(1L));
+			queue.start();
+			queue.stop();
+
+			queue.enqueue(pending(100L, 1L, "late", false));
+
+			verify(messageUseCase).sendMessages(any());
+		}
+	}
+}
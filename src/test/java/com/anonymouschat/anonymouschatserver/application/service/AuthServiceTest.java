@@ -10,6 +10,7 @@ import com.anonymouschat.anonymouschatserver.domain.type.Role;
 import com.anonymouschat.anonymouschatserver.infra.security.CustomPrincipal;
 import com.anonymouschat.anonymouschatserver.infra.security.jwt.JwtTokenProvider;
 import com.anonymouschat.anonymouschatserver.infra.security.jwt.JwtValidator;
+import com.anonymouschat.anonymouschatserver.infra.security.jwt.TokenDigest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -17,7 +18,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Clock;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
@@ -40,6 +43,9 @@ class AuthServiceTest {
 	@Mock
 	private JwtValidator jwtValidator;
 
+	@Mock
+	private Clock clock;
+
 	@Nested
 	@DisplayName("createAccessToken(OAuthProvider, providerId)")
 	class CreateAccessTokenByOAuth {
@@ -163,7 +169,7 @@ class AuthServiceTest {
 		@DisplayName("유효한 토큰 검증 통과")
 		void validToken() {
 			String token = "valid-token";
-			String tokenHash = String.valueOf(token.hashCode());
+			String tokenHash = TokenDigest.fingerprint(token);
 
 			doNothing().when(jwtValidator).validate(token);
 			when(tokenStorage.isTokenBlacklisted(tokenHash)).thenReturn(false);
@@ -178,7 +184,7 @@ class AuthServiceTest {
 		@DisplayName("블랙리스트된 토큰이면 예외 발생")
 		void blacklistedToken() {
 			String token = "blacklisted-token";
-			String tokenHash = String.valueOf(token.hashCode());
+			String tokenHash = TokenDigest.fingerprint(token);
 
 			doNothing().when(jwtValidator).validate(token);
 			when(tokenStorage.isTokenBlacklisted(tokenHash)).thenReturn(true);
@@ -188,6 +194,32 @@ class AuthServiceTest {
 					.hasMessage(ErrorCode.INVALID_TOKEN.getMessage());
 		}
 
+		@Test
+		@DisplayName("전환 기간에는 이전 hashCode 키로 블랙리스트된 토큰도 거부한다")
+		void legacyBlacklistedToken() {
+			String token = "logged-out-before-deploy";
+			ReflectionTestUtils.setField(authService, "legacyBlacklistUntilMillis", 1_000L);
+			when(clock.millis()).thenReturn(999L);
+			when(tokenStorage.isTokenBlacklisted(TokenDigest.fingerprint(token))).thenReturn(false);
+			when(tokenStorage.isLegacyTokenBlacklisted(String.valueOf(token.hashCode()))).thenReturn(true);
+
+			assertThatThrownBy(() -> authService.validateToken(token))
+					.isInstanceOf(InvalidTokenException.class);
+		}
+
+		@Test
+		@DisplayName("전환 기간이 지나면 이전 키는 확인하지 않는다")
+		void legacyWindowClosed() {
+			String token = "valid-token";
+			ReflectionTestUtils.setField(authService, "legacyBlacklistUntilMillis", 1_000L);
+			when(clock.millis()).thenReturn(1_000L);
+			when(tokenStorage.isTokenBlacklisted(TokenDigest.fingerprint(token))).thenReturn(false);
+
+			authService.validateToken(token);
+
+			verify(tokenStorage, never()).isLegacyTokenBlacklisted(anyString());
+		}
+
 		@Test
 		@DisplayName("유효하지 않은 토큰이면 예외 발생")
 		void invalidToken() {
@@ -230,7 +262,7 @@ class AuthServiceTest {
 
 			authService.blacklistAccessToken(accessToken);
 
-			verify(tokenStorage).blacklistToken(String.valueOf(accessToken.hashCode()), 60);
+			verify(tokenStorage).blacklistToken(TokenDigest.fingerprint(accessToken), 60);
 		}
 
 		@Test
@@ -245,6 +277,35 @@ class AuthServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("revokeSession()")
+	class RevokeSession {
+
+		@Test
+		@DisplayName("refresh 삭제와 access 블랙리스트를 한 번에 요청")
+		void revokeWithBlacklist() {
+			String accessToken = "access-token";
+			when(jwtProvider.getExpirationMillis(accessToken)).thenReturn(60000L);
+
+			authService.revokeSession(1L, accessToken);
+
+			verify(tokenStorage).revokeSession(1L, TokenDigest.fingerprint(accessToken), 60);
+			verify(tokenStorage, never()).deleteRefreshToken(anyLong());
+		}
+
+		@Test
+		@DisplayName("access 토큰이 이미 만료되었으면 refresh 만 삭제")
+		void expiredAccessTokenOnlyDeletesRefresh() {
+			String accessToken = "expired-token";
+			when(jwtProvider.getExpirationMillis(accessToken)).thenReturn(0L);
+
+			authService.revokeSession(1L, accessToken);
+
+			verify(tokenStorage).deleteRefreshToken(1L);
+			verify(tokenStorage, never()).revokeSession(anyLong(), anyString(), anyInt());
+		}
+	}
+
 	@Nested
 	@DisplayName("revokeAllUserTokens()")
 	class RevokeAllUserTokens {
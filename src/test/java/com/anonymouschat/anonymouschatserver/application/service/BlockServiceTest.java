@@ -1,5 +1,7 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
+import com.anonymouschat.anonymouschatserver.application.cache.BlockGraphCache;
+import com.anonymouschat.anonymouschatserver.application.event.BlockRelationChanged;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
 import com.anonymouschat.anonymouschatserver.common.exception.user.CannotBlockSelfException;
@@ -13,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Collections;
 import java.util.List;
@@ -34,6 +38,12 @@ class BlockServiceTest {
     @Mock
     private BlockRepository blockRepository;
 
+    @Spy
+    private BlockGraphCache blockGraphCache = new BlockGraphCache();
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
     @Nested
     @DisplayName("block 메소드는")
     class Describe_block {
@@ -51,6 +61,7 @@ class BlockServiceTest {
 
             // then
             verify(blockRepository).save(any(Block.class));
+            verify(publisher).publishEvent(new BlockRelationChanged(1L, 2L, true));
         }
 
         @Test
@@ -123,6 +134,7 @@ class BlockServiceTest {
 
             // then
             verify(block).deactivate();
+            verify(publisher).publishEvent(new BlockRelationChanged(blockerId, blockedId, false));
         }
 
         @Test
@@ -158,35 +170,35 @@ class BlockServiceTest {
     }
 
     @Nested
-    @DisplayName("getBlockedUserIds 메소드는")
-    class Describe_getBlockedUserIds {
+    @DisplayName("isBlocked 메소드는")
+    class Describe_isBlocked {
         @Test
-        @DisplayName("차단한 사용자 ID 목록을 반환한다")
-        void getBlockedUserIds_success() {
+        @DisplayName("내가 차단했거나 나를 차단한 사용자면 true를 반환한다")
+        void isBlocked_both_directions() {
             // given
-            long blockerId = 1L;
-            List<Long> blockedIds = List.of(2L, 3L, 4L);
-            when(blockRepository.findAllBlockedUserIdsByBlockerId(blockerId)).thenReturn(blockedIds);
+            when(blockRepository.findAllBlockedUserIdsByBlockerId(1L)).thenReturn(List.of(2L));
+            when(blockRepository.findAllBlockerIdsByBlockedId(1L)).thenReturn(List.of(3L));
 
-            // when
-            List<Long> result = blockService.getBlockedUserIds(blockerId);
-
-            // then
-            assertThat(result).isEqualTo(blockedIds);
+            // when & then
+            assertThat(blockService.isBlocked(1L, 2L)).isTrue();
+            assertThat(blockService.isBlocked(1L, 3L)).isTrue();
+            assertThat(blockService.isBlocked(1L, 4L)).isFalse();
         }
 
         @Test
-        @DisplayName("차단한 사용자가 없으면 빈 목록을 반환한다")
-        void getBlockedUserIds_success_empty() {
+        @DisplayName("한 번 적재한 사용자는 다시 DB를 조회하지 않는다")
+        void isBlocked_uses_cache_after_first_lookup() {
             // given
-            long blockerId = 1L;
-            when(blockRepository.findAllBlockedUserIdsByBlockerId(blockerId)).thenReturn(Collections.emptyList());
+            when(blockRepository.findAllBlockedUserIdsByBlockerId(1L)).thenReturn(List.of(2L));
+            when(blockRepository.findAllBlockerIdsByBlockedId(1L)).thenReturn(Collections.emptyList());
 
             // when
-            List<Long> result = blockService.getBlockedUserIds(blockerId);
+            blockService.isBlocked(1L, 2L);
+            blockService.isBlocked(1L, 5L);
 
             // then
-            assertThat(result).isEmpty();
+            verify(blockRepository, times(1)).findAllBlockedUserIdsByBlockerId(1L);
+            verify(blockRepository, times(1)).findAllBlockerIdsByBlockedId(1L);
         }
     }
-}
\ No newline at end of file
+}
@@ -1,12 +1,15 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
+import com.anonymouschat.anonymouschatserver.application.cache.ChatRoomMembershipCache;
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.ConflictException;
+import com.anonymouschat.anonymouschatserver.common.exception.ForbiddenException;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
 import com.anonymouschat.anonymouschatserver.common.exception.chat.DuplicateChatParticipant;
 import com.anonymouschat.anonymouschatserver.common.exception.chat.NotChatRoomMemberException;
 import com.anonymouschat.anonymouschatserver.domain.entity.ChatRoom;
+import com.anonymouschat.anonymouschatserver.domain.entity.Message;
 import com.anonymouschat.anonymouschatserver.domain.entity.User;
 import com.anonymouschat.anonymouschatserver.domain.repository.ChatRoomRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
@@ -26,6 +30,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +43,12 @@ class ChatRoomServiceTest {
     @Mock
     private ChatRoomRepository chatRoomRepository;
 
+    @Spy
+    private ChatRoomMembershipCache membershipCache = new ChatRoomMembershipCache();
+
+    @Mock
+    private BlockService blockService;
+
     @Mock
     private User initiator;
 
@@ -125,6 +136,21 @@ class ChatRoomServiceTest {
 
 		    verify(chatRoomRepository, never()).save(any(ChatRoom.class));
 	    }
+
+        @Test
+        @DisplayName("차단 관계인 사용자와는 채팅방을 생성하거나 반환하지 않는다")
+        void it_throws_exception_when_blocked() {
+            // given
+            when(blockService.isBlocked(1L, 2L)).thenReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> chatRoomService.createOrFind(initiator, recipient))
+                    .isInstanceOf(ForbiddenException.class)
+                    .hasMessage(ErrorCode.BLOCKED_USER.getMessage());
+
+            verify(chatRoomRepository, never()).findLatestValidChatRoomByPair(anyLong(), anyLong());
+            verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+        }
     }
 
     @Nested
@@ -214,6 +240,22 @@ class ChatRoomServiceTest {
             // then
             verify(chatRoom).exitBy(1L);
         }
+
+        @Test
+        @DisplayName("채팅방이 완전히 종료되면 멤버십 캐시에서 제거한다")
+        void it_evicts_membership_when_archived() {
+            // given
+            when(chatRoom.getId()).thenReturn(10L);
+            membershipCache.put(new ChatRoomServiceDto.ParticipantPair(10L, 1L, 2L));
+            chatRoomService.exit(1L, chatRoom);
+            assertThat(membershipCache.get(10L)).isNotNull();
+
+            // when
+            chatRoomService.exit(2L, chatRoom);
+
+            // then
+            assertThat(membershipCache.get(10L)).isNull();
+        }
     }
 
     @Nested
@@ -253,6 +295,121 @@ class ChatRoomServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("recordMessages 메소드는")
+    class Describe_recordMessages {
+        private ChatRoom chatRoom;
+
+        @BeforeEach
+        void setUp() {
+            chatRoom = spy(new ChatRoom(initiator, recipient));
+            lenient().when(chatRoom.getId()).thenReturn(10L);
+        }
+
+        private Message message(long id, User sender, String content) {
+            return Message.builder()
+                           .id(id)
+                           .chatRoom(chatRoom)
+                           .sender(sender)
+                           .content(content)
+                           .sentAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id))
+                           .build();
+        }
+
+        @Test
+        @DisplayName("수신자별 안읽음 증가분과 가장 최근 메시지를 한 번에 반영한다")
+        void it_applies_unread_deltas_and_last_message() {
+            // given
+            List<Message> messages = List.of(
+                    message(101L, initiator, "a"),
+                    message(102L, recipient, "b"),
+                    message(103L, initiator, "c"));
+
+            // when
+            chatRoomService.recordMessages(chatRoom, messages);
+
+            // then
+            verify(chatRoomRepository).applyNewMessages(10L, 103L, "c",
+                    LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(103L), 1L, 2L);
+        }
+
+        @Test
+        @DisplayName("저장 전에 이미 읽음 처리된 메시지(워터마크 이하)는 안읽음 수에 더하지 않는다")
+        void it_skips_messages_already_read() {
+            // given
+            ChatRoomRepository.ReadWatermarks watermarks = mock(ChatRoomRepository.ReadWatermarks.class);
+            when(watermarks.getUser2LastReadMessageId()).thenReturn(102L);
+            when(chatRoomRepository.lockReadWatermarks(10L)).thenReturn(watermarks);
+            List<Message> messages = List.of(
+                    message(101L, initiator, "a"),
+                    message(102L, initiator, "b"),
+                    message(103L, initiator, "c"));
+
+            // when
+            chatRoomService.recordMessages(chatRoom, messages);
+
+            // then
+            verify(chatRoomRepository).applyNewMessages(10L, 103L, "c",
+                    LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(103L), 0L, 1L);
+        }
+
+        @Test
+        @DisplayName("미리보기는 정해진 길이로 자른다")
+        void it_truncates_preview() {
+            // given
+            String longContent = "가".repeat(ChatRoom.LAST_MESSAGE_PREVIEW_LENGTH + 10);
+
+            // when
+            chatRoomService.recordMessages(chatRoom, List.of(message(101L, initiator, longContent)));
+
+            // then
+            verify(chatRoomRepository).applyNewMessages(eq(10L), eq(101L),
+                    eq("가".repeat(ChatRoom.LAST_MESSAGE_PREVIEW_LENGTH)), any(), eq(0L), eq(1L));
+        }
+
+        @Test
+        @DisplayName("메시지가 없으면 아무것도 하지 않는다")
+        void it_does_nothing_when_empty() {
+            // when
+            chatRoomService.recordMessages(chatRoom, List.of());
+
+            // then
+            verifyNoInteractions(chatRoomRepository);
+        }
+    }
+
+    @Nested
+    @DisplayName("markAsRead 메소드는")
+    class Describe_markAsRead {
+        @Test
+        @DisplayName("읽음 워터마크를 올리고 새 워터마크를 반환한다")
+        void it_advances_watermark() {
+            // given
+            when(chatRoomRepository.advanceReadWatermark(10L, 1L, 0L)).thenReturn(1);
+            when(chatRoomRepository.findLastReadMessageId(10L, 1L)).thenReturn(103L);
+
+            // when
+            Long result = chatRoomService.markAsRead(10L, 1L, null);
+
+            // then
+            assertThat(result).isEqualTo(103L);
+        }
+
+        @Test
+        @DisplayName("새로 읽을 메시지가 없으면 null을 반환한다")
+        void it_returns_null_when_nothing_to_read() {
+            // given
+            when(chatRoomRepository.advanceReadWatermark(10L, 1L, 0L)).thenReturn(0);
+
+            // when
+            Long result = chatRoomService.markAsRead(10L, 1L, null);
+
+            // then
+            assertThat(result).isNull();
+            verify(chatRoomRepository, never()).findLastReadMessageId(any(), any());
+        }
+    }
+
     @Nested
     @DisplayName("isMember 메소드는")
     class Describe_isMember {
@@ -260,7 +417,8 @@ class ChatRoomServiceTest {
         @DisplayName("사용자가 멤버이면 true를 반환한다")
         void it_returns_true_if_user_is_member() {
             // given
-            when(chatRoomRepository.existsByIdAndParticipantId(10L, 1L)).thenReturn(true);
+            when(chatRoomRepository.findParticipantPair(10L))
+                    .thenReturn(Optional.of(new ChatRoomServiceDto.ParticipantPair(10L, 1L, 2L)));
 
             // when
             boolean result = chatRoomService.isMember(10L, 1L);
@@ -273,13 +431,79 @@ class ChatRoomServiceTest {
         @DisplayName("사용자가 멤버가 아니면 false를 반환한다")
         void it_returns_false_if_user_is_not_member() {
             // given
-            when(chatRoomRepository.existsByIdAndParticipantId(10L, 1L)).thenReturn(false);
+            when(chatRoomRepository.findParticipantPair(10L))
+                    .thenReturn(Optional.of(new ChatRoomServiceDto.ParticipantPair(10L, 2L, 3L)));
+
+            // when
+            boolean result = chatRoomService.isMember(10L, 1L);
+
+            // then
+            assertThat(result).isFalse();
+        }
+
+        @Test
+        @DisplayName("채팅방이 없으면 false를 반환하고 캐시하지 않는다")
+        void it_returns_false_if_room_not_found() {
+            // given
+            when(chatRoomRepository.findParticipantPair(10L)).thenReturn(Optional.empty());
 
             // when
             boolean result = chatRoomService.isMember(10L, 1L);
 
             // then
             assertThat(result).isFalse();
+            assertThat(membershipCache.get(10L)).isNull();
+        }
+
+        @Test
+        @DisplayName("한 번 조회한 채팅방은 다시 DB를 조회하지 않는다")
+        void it_uses_cache_after_first_lookup() {
+            // given
+            when(chatRoomRepository.findParticipantPair(10L))
+                    .thenReturn(Optional.of(new ChatRoomServiceDto.ParticipantPair(10L, 1L, 2L)));
+
+            // when
+            chatRoomService.isMember(10L, 1L);
+            chatRoomService.isMember(10L, 2L);
+            boolean stranger = chatRoomService.isMember(10L, 3L);
+
+            // then
+            assertThat(stranger).isFalse();
+            verify(chatRoomRepository, times(1)).findParticipantPair(10L);
+        }
+    }
+
+    @Nested
+    @DisplayName("isBlockedWithOpponent 메소드는")
+    class Describe_isBlockedWithOpponent {
+        @Test
+        @DisplayName("채팅방 상대방과의 차단 여부를 반환한다")
+        void it_checks_block_with_opponent() {
+            // given
+            when(chatRoomRepository.findParticipantPair(10L))
+                    .thenReturn(Optional.of(new ChatRoomServiceDto.ParticipantPair(10L, 1L, 2L)));
+            when(blockService.isBlocked(2L, 1L)).thenReturn(true);
+
+            // when
+            boolean result = chatRoomService.isBlockedWithOpponent(10L, 2L);
+
+            // then
+            assertThat(result).isTrue();
+        }
+
+        @Test
+        @DisplayName("참여자가 아니면 차단 여부를 조회하지 않는다")
+        void it_returns_false_if_not_member() {
+            // given
+            when(chatRoomRepository.findParticipantPair(10L))
+                    .thenReturn(Optional.of(new ChatRoomServiceDto.ParticipantPair(10L, 1L, 2L)));
+
+            // when
+            boolean result = chatRoomService.isBlockedWithOpponent(10L, 3L);
+
+            // then
+            assertThat(result).isFalse();
+            verify(blockService, never()).isBlocked(any(), any());
         }
     }
 
@@ -128,46 +128,4 @@ class MessageServiceTest {
 			assertThat(result).isEmpty();
 		}
 	}
-
-	@Nested
-	@DisplayName("markMessagesAsRead 메서드는")
-	class MarkMessagesAsReadTest {
-
-		@Test
-		@DisplayName("읽지 않은 메시지를 읽음 처리하고 처리 개수를 반환한다")
-		void markMessagesAsRead_success() {
-			// given
-			Long roomId = chatRoom.getId();
-			Long userId = user1.getId();
-			given(messageRepository.updateMessagesAsRead(roomId, userId)).willReturn(5L);
-
-			// when
-			Long updatedCount = messageService.markMessagesAsRead(roomId, userId);
-
-			// then
-			assertThat(updatedCount).isEqualTo(5L);
-			verify(messageRepository).updateMessagesAsRead(roomId, userId);
-		}
-	}
-
-	@Nested
-	@DisplayName("findLastReadMessageIdByReceiver 메서드는")
-	class FindLastReadMessageIdByReceiverTest {
-
-		@Test
-		@DisplayName("마지막 읽은 메시지 ID를 반환한다")
-		void findLastReadMessageIdByReceiver_success() {
-			// given
-			Long roomId = chatRoom.getId();
-			Long senderId = user1.getId();
-			given(messageRepository.findMaxReadMessageId(roomId, senderId)).willReturn(42L);
-
-			// when
-			Long result = messageService.findLastReadMessageIdByReceiver(roomId, senderId);
-
-			// then
-			assertThat(result).isEqualTo(42L);
-			verify(messageRepository).findMaxReadMessageId(roomId, senderId);
-		}
-	}
 }
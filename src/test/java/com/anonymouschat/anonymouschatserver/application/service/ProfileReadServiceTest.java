@@ -0,0 +1,86 @@
+package com.anonymouschat.anonymouschatserver.application.service;
+
+import com.anonymouschat.anonymouschatserver.application.dto.ProfileReadModel;
+import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
+import com.anonymouschat.anonymouschatserver.common.exception.user.UserNotFoundException;
+import com.anonymouschat.anonymouschatserver.domain.entity.User;
+import com.anonymouschat.anonymouschatserver.domain.entity.UserProfileImage;
+import com.anonymouschat.anonymouschatserver.domain.repository.UserProfileImageRepository;
+import com.anonymouschat.anonymouschatserver.domain.repository.UserRepository;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.Optional;
+
+import static com.anonymouschat.testsupport.util.TestUtils.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProfileReadService 테스트")
+class ProfileReadServiceTest {
+
+	@Mock private UserRepository userRepository;
+	@Mock private UserProfileImageRepository userProfileImageRepository;
+
+	private ProfileReadService profileReadService;
+
+	@BeforeEach
+	void setUp() {
+		profileReadService = new ProfileReadService(userRepository, userProfileImageRepository);
+	}
+
+	@Nested
+	@DisplayName("단건 조회")
+	class GetProfile {
+
+		@Test
+		@DisplayName("사용자와 삭제되지 않은 이미지로 조회 모델을 만든다")
+		void getProfile_success() throws Exception {
+			User user = createUser(1L);
+			user.addProfileImage(new UserProfileImage("url", true));
+
+			when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+			when(userProfileImageRepository.findAllByUserIdAndDeletedIsFalse(any(), any())).thenReturn(user.getProfileImages());
+
+			ProfileReadModel result = profileReadService.getProfile(1L);
+
+			assertThat(result.nickname()).isEqualTo(user.getNickname());
+			assertThat(result.profileImages()).hasSize(1);
+			assertThat(result.representativeImageUrl()).isEqualTo("url");
+		}
+
+		@Test
+		@DisplayName("존재하지 않는 유저로 조회 시 실패")
+		void getProfile_userNotFound() {
+			when(userRepository.findById(999L)).thenReturn(Optional.empty());
+
+			assertThatThrownBy(() -> profileReadService.getProfile(999L))
+					.isInstanceOf(UserNotFoundException.class)
+					.hasFieldOrPropertyWithValue("errorCode", ErrorCode.USER_NOT_FOUND);
+		}
+	}
+
+	@Test
+	@DisplayName("Redis 캐시 직렬화(JSON + 타입 정보) 후에도 같은 값으로 복원된다")
+	void survives_json_round_trip() throws Exception {
+		User user = createUser(1L);
+		user.addProfileImage(new UserProfileImage("url", true));
+		ProfileReadModel profile = ProfileReadModel.of(user, user.getProfileImages());
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer()
+				                                                .configure(mapper -> mapper.registerModule(new JavaTimeModule()));
+
+		Object restored = serializer.deserialize(serializer.serialize(profile));
+
+		assertThat(restored).isEqualTo(profile);
+	}
+}
@@ -1,6 +1,8 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
 import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
+import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
+import com.anonymouschat.anonymouschatserver.common.exception.BadRequestException;
 import com.anonymouschat.anonymouschatserver.domain.repository.UserRepository;
 import com.anonymouschat.anonymouschatserver.domain.type.Gender;
 import com.anonymouschat.anonymouschatserver.domain.type.Region;
@@ -18,7 +20,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +46,6 @@ class UserSearchServiceTest {
 				          .minAge(20)
 				          .maxAge(30)
 				          .region(Region.SEOUL)
-				          .blockedUserIds(List.of(99L))
 				          .build();
 
 		pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "lastActiveAt"));
@@ -101,4 +104,71 @@ class UserSearchServiceTest {
 			verify(userRepository).findUsersByCondition(command, pageable);
 		}
 	}
+
+	@Nested
+	@DisplayName("getUsersByCursor 메서드는")
+	class Describe_getUsersByCursor {
+
+		private UserServiceDto.SearchResult result(long id, LocalDateTime lastActiveAt) {
+			return new UserServiceDto.SearchResult(id, "nickname" + id, Gender.FEMALE, 25, Region.SEOUL, null, lastActiveAt);
+		}
+
+		@Test
+		@DisplayName("한 명을 더 조회해 다음 페이지가 있으면 마지막 유저로 커서를 만든다")
+		void it_returns_next_cursor_when_more_results_exist() {
+			// given
+			LocalDateTime base = LocalDateTime.of(2025, 8, 18, 22, 0);
+			when(userRepository.findUsersByConditionAfter(command, null, 3))
+					.thenReturn(List.of(result(5L, base), result(4L, base), result(3L, base.minusMinutes(1))));
+
+			// when
+			UserServiceDto.SearchScrollResult scroll = userSearchService.getUsersByCursor(command, null, 2);
+
+			// then
+			assertThat(scroll.results()).extracting(UserServiceDto.SearchResult::userId).containsExactly(5L, 4L);
+			assertThat(scroll.hasNext()).isTrue();
+			assertThat(UserServiceDto.SearchCursor.decode(scroll.nextCursor()))
+					.isEqualTo(new UserServiceDto.SearchCursor(base, 4L));
+		}
+
+		@Test
+		@DisplayName("마지막 페이지면 커서를 만들지 않는다")
+		void it_returns_no_cursor_on_last_page() {
+			// given
+			LocalDateTime base = LocalDateTime.of(2025, 8, 18, 22, 0);
+			UserServiceDto.SearchCursor cursor = new UserServiceDto.SearchCursor(base, 4L);
+			when(userRepository.findUsersByConditionAfter(command, cursor, 3))
+					.thenReturn(List.of(result(3L, base.minusMinutes(1))));
+
+			// when
+			UserServiceDto.SearchScrollResult scroll = userSearchService.getUsersByCursor(command, cursor.encode(), 2);
+
+			// then
+			assertThat(scroll.results()).hasSize(1);
+			assertThat(scroll.hasNext()).isFalse();
+			assertThat(scroll.nextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("조회 개수는 최대값으로 제한한다")
+		void it_clamps_size() {
+			// given
+			when(userRepository.findUsersByConditionAfter(any(), any(), anyInt())).thenReturn(List.of());
+
+			// when
+			userSearchService.getUsersByCursor(command, null, 10_000);
+
+			// then
+			verify(userRepository).findUsersByConditionAfter(command, null, UserSearchService.MAX_SCROLL_SIZE + 1);
+		}
+
+		@Test
+		@DisplayName("잘못된 커서 토큰이면 BadRequestException 을 던진다")
+		void it_rejects_invalid_cursor() {
+			assertThatThrownBy(() -> userSearchService.getUsersByCursor(command, "not-a-cursor", 10))
+					.isInstanceOf(BadRequestException.class)
+					.hasMessage(ErrorCode.INVALID_SEARCH_CURSOR.getMessage());
+			verifyNoInteractions(userRepository);
+		}
+	}
 }
@@ -1,6 +1,8 @@
 package com.anonymouschat.anonymouschatserver.application.service;
 
+import com.anonymouschat.anonymouschatserver.application.dto.ProfileReadModel;
 import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
+import com.anonymouschat.anonymouschatserver.application.event.ProfileChanged;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.BadRequestException;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -48,6 +51,8 @@ class UserServiceTest {
 	@Mock private UserProfileImageRepository userProfileImageRepository;
 	@Mock private FileStorage fileStorage;
 	@Mock private ImageValidator imageValidator;
+	@Mock private ProfileReadService profileReadService;
+	@Mock private ApplicationEventPublisher publisher;
 	@InjectMocks private UserService userService;
 
 	@Nested
@@ -83,6 +88,7 @@ class UserServiceTest {
 			assertThat(user.getId()).isEqualTo(1L);
 			assertThat(user.getNickname()).isEqualTo("nickname");
 			assertThat(user.getRole()).isEqualTo(Role.USER);
+			verify(publisher).publishEvent(new ProfileChanged(1L));
 		}
 
 		@Test
@@ -168,25 +174,25 @@ class UserServiceTest {
 	class GetProfile {
 
 		@Test
-		@DisplayName("정상적으로 프로필 조회")
+		@DisplayName("캐시된 프로필 조회 모델로 프로필 조회")
 		void getProfile_success() throws Exception {
 			User user = createUser(1L);
 			List<UserProfileImage> images = List.of(new UserProfileImage("url", true));
 			ReflectionTestUtils.setField(user, "id", 1L);
 
-			when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-			when(userProfileImageRepository.findAllByUserIdAndDeletedIsFalse(any(), any())).thenReturn(images);
+			when(profileReadService.getProfile(1L)).thenReturn(ProfileReadModel.of(user, images));
 
 			UserServiceDto.ProfileResult result = userService.getProfile(1L);
 
 			assertThat(result.nickname()).isEqualTo(user.getNickname());
 			assertThat(result.profileImages()).hasSize(1);
+			verifyNoInteractions(userRepository, userProfileImageRepository);
 		}
 
 		@Test
 		@DisplayName("존재하지 않는 유저로 조회 시 실패")
 		void getProfile_userNotFound() {
-			when(userRepository.findById(999L)).thenReturn(Optional.empty());
+			when(profileReadService.getProfile(999L)).thenThrow(new UserNotFoundException(ErrorCode.USER_NOT_FOUND));
 
 			assertThatThrownBy(() -> userService.getProfile(999L))
 					.isInstanceOf(UserNotFoundException.class)
@@ -217,6 +223,7 @@ class UserServiceTest {
 			verify(imageValidator).validate(image);
 			verify(fileStorage).upload(image);
 			assertThat(user.getNickname()).isEqualTo("newNick");
+			verify(publisher).publishEvent(new ProfileChanged(1L));
 		}
 
 		@Test
@@ -304,6 +311,8 @@ class UserServiceTest {
 
 			// DB 업데이트는 롤백되지 않아야 함
 			assertThat(user.getNickname()).isEqualTo("n");
+			// 커밋되는 변경이므로 캐시 무효화 이벤트도 발행
+			verify(publisher).publishEvent(new ProfileChanged(1L));
 		}
 	}
 
@@ -321,6 +330,7 @@ class UserServiceTest {
 			userService.withdraw(1L);
 
 			assertThat(user.isActive()).isFalse();
+			verify(publisher).publishEvent(new ProfileChanged(1L));
 		}
 
 		@Test
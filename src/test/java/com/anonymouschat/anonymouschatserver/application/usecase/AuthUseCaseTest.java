@@ -126,7 +126,7 @@ class AuthUseCaseTest {
 			assertThat(tokens.accessToken()).isEqualTo("new-access");
 
 			verify(authService).validateToken("stored-refresh-token");
-			verify(authService).invalidateRefreshToken(userId);
+			verify(authService, never()).invalidateRefreshToken(userId);
 			verify(authService).saveRefreshToken(userId, "new-refresh", userAgent, ipAddress);
 		}
 
@@ -201,7 +201,7 @@ class AuthUseCaseTest {
 					.hasMessage("User not found");
 
 			verify(authService).validateToken("valid-refresh-token");
-			verify(authService).invalidateRefreshToken(userId);
+			verify(authService, never()).invalidateRefreshToken(userId);
 			verify(authService, never()).saveRefreshToken(any(), any(), any(), any());
 		}
 	}
@@ -218,8 +218,7 @@ class AuthUseCaseTest {
 
 			authUseCase.logout(userId, accessToken);
 
-			verify(authService).invalidateRefreshToken(userId);
-			verify(authService).blacklistAccessToken(accessToken);
+			verify(authService).revokeSession(userId, accessToken);
 		}
 	}
 
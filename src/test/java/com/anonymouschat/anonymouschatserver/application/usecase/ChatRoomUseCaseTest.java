@@ -3,6 +3,7 @@ package com.anonymouschat.anonymouschatserver.application.usecase;
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomServiceDto;
 import com.anonymouschat.anonymouschatserver.application.dto.ChatRoomUseCaseDto;
 import com.anonymouschat.anonymouschatserver.application.service.ChatRoomService;
+import com.anonymouschat.anonymouschatserver.application.service.ProfileReadService;
 import com.anonymouschat.anonymouschatserver.application.service.UserService;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
@@ -32,6 +33,8 @@ class ChatRoomUseCaseTest {
 	private ChatRoomService chatRoomService;
 	@Mock
 	private UserService userService;
+	@Mock
+	private ProfileReadService profileReadService;
 
 	@InjectMocks
 	private ChatRoomUseCase chatRoomUseCase;
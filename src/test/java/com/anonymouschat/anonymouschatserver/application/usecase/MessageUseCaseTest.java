@@ -6,6 +6,7 @@ import com.anonymouschat.anonymouschatserver.application.service.MessageService;
 import com.anonymouschat.anonymouschatserver.application.service.UserService;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
 import com.anonymouschat.anonymouschatserver.common.exception.NotFoundException;
+import com.anonymouschat.anonymouschatserver.common.exception.chat.NotChatRoomMemberException;
 import com.anonymouschat.anonymouschatserver.common.exception.user.UserNotFoundException;
 import com.anonymouschat.anonymouschatserver.domain.entity.ChatRoom;
 import com.anonymouschat.anonymouschatserver.domain.entity.Message;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 
@@ -68,11 +70,12 @@ class MessageUseCaseTest {
 			given(chatRoomService.getVerifiedChatRoomOrThrow(sender.getId(), chatRoom.getId()))
 					.willReturn(chatRoom);
 			given(userService.findUser(sender.getId())).willReturn(sender);
-			given(messageService.saveMessage(chatRoom, sender, "안녕하세요")).willReturn(message);
+			given(messageService.saveMessage(chatRoom, sender, "안녕하세요", null)).willReturn(message);
 
 			Long messageId = messageUseCase.sendMessage(request);
 
 			assertThat(messageId).isEqualTo(1L);
+			then(chatRoomService).should().recordMessages(chatRoom, List.of(message));
 		}
 
 		@Test
@@ -112,6 +115,72 @@ class MessageUseCaseTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("메시지 일괄 전송(sendMessages)")
+	class SendMessages {
+
+		private MessageUseCaseDto.SendMessageRequest request(Long senderId, String content) {
+			return MessageUseCaseDto.SendMessageRequest.builder()
+					       .roomId(chatRoom.getId())
+					       .senderId(senderId)
+					       .content(content)
+					       .build();
+		}
+
+		@Test
+		@DisplayName("채팅방과 발신자를 한 번씩만 조회하고 메시지를 한 번에 저장한다")
+		void success() {
+			MessageUseCaseDto.SendMessageBatchRequest request = MessageUseCaseDto.SendMessageBatchRequest.builder()
+					                                                    .roomId(chatRoom.getId())
+					                                                    .messages(List.of(
+							                                                    request(sender.getId(), "a"),
+							                                                    request(opponent.getId(), "b"),
+							                                                    request(sender.getId(), "c")))
+					                                                    .build();
+
+			given(chatRoomService.getVerifiedChatRoomOrThrow(sender.getId(), chatRoom.getId())).willReturn(chatRoom);
+			given(userService.findUser(sender.getId())).willReturn(sender);
+			given(userService.findUser(opponent.getId())).willReturn(opponent);
+			given(messageService.saveMessages(eq(chatRoom), anyList())).willAnswer(invocation -> {
+				List<Message> messages = invocation.getArgument(1);
+				long id = 10L;
+				for (Message m : messages) {
+					TestUtils.setId(m, id++);
+				}
+				return messages;
+			});
+
+			List<Long> messageIds = messageUseCase.sendMessages(request);
+
+			assertThat(messageIds).containsExactly(10L, 11L, 12L);
+			then(chatRoomService).should(times(1)).recordMessages(eq(chatRoom), anyList());
+			then(chatRoomService).should(times(1)).getVerifiedChatRoomOrThrow(anyLong(), anyLong());
+			then(chatRoomService).should(times(1)).markActiveIfInactive(chatRoom);
+			then(chatRoomService).should().returnBy(chatRoom, sender.getId());
+			then(chatRoomService).should().returnBy(chatRoom, opponent.getId());
+			then(userService).should(times(1)).findUser(sender.getId());
+			then(userService).should(times(1)).findUser(opponent.getId());
+		}
+
+		@Test
+		@DisplayName("참여자가 아닌 발신자가 섞여 있으면 예외 발생")
+		void notParticipant() {
+			MessageUseCaseDto.SendMessageBatchRequest request = MessageUseCaseDto.SendMessageBatchRequest.builder()
+					                                                    .roomId(chatRoom.getId())
+					                                                    .messages(List.of(
+							                                                    request(sender.getId(), "a"),
+							                                                    request(999L, "b")))
+					                                                    .build();
+
+			given(chatRoomService.getVerifiedChatRoomOrThrow(sender.getId(), chatRoom.getId())).willReturn(chatRoom);
+			given(userService.findUser(sender.getId())).willReturn(sender);
+
+			assertThatThrownBy(() -> messageUseCase.sendMessages(request))
+					.isInstanceOf(NotChatRoomMemberException.class);
+			then(messageService).should(never()).saveMessages(any(), anyList());
+		}
+	}
+
 	@Nested
 	@DisplayName("메시지 목록 조회(getMessages)")
 	class GetMessages {
@@ -171,11 +240,11 @@ class MessageUseCaseTest {
 
 			given(chatRoomService.getVerifiedChatRoomOrThrow(sender.getId(), chatRoom.getId()))
 					.willReturn(chatRoom);
-			given(messageService.markMessagesAsRead(chatRoom.getId(), sender.getId())).willReturn(5L);
+			given(chatRoomService.markAsRead(chatRoom.getId(), sender.getId(), null)).willReturn(5L);
 
-			Long count = messageUseCase.markMessagesAsRead(request);
+			Long lastReadMessageId = messageUseCase.markMessagesAsRead(request);
 
-			assertThat(count).isEqualTo(5L);
+			assertThat(lastReadMessageId).isEqualTo(5L);
 		}
 
 		@Test
@@ -209,7 +278,7 @@ class MessageUseCaseTest {
 
 			given(chatRoomService.getVerifiedChatRoomOrThrow(sender.getId(), chatRoom.getId()))
 					.willReturn(chatRoom);
-			given(messageService.findLastReadMessageIdByReceiver(chatRoom.getId(), sender.getId())).willReturn(1L);
+			ReflectionTestUtils.setField(chatRoom, "user2LastReadMessageId", 1L);
 
 			Long lastReadId = messageUseCase.getLastReadMessageIdByOpponent(request);
 
@@ -2,7 +2,6 @@ package com.anonymouschat.anonymouschatserver.application.usecase;
 
 import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
 import com.anonymouschat.anonymouschatserver.application.dto.UserUseCaseDto;
-import com.anonymouschat.anonymouschatserver.application.service.BlockService;
 import com.anonymouschat.anonymouschatserver.application.service.UserSearchService;
 import com.anonymouschat.anonymouschatserver.application.service.UserService;
 import com.anonymouschat.anonymouschatserver.common.code.ErrorCode;
@@ -40,8 +39,6 @@ class UserUseCaseTest {
 	private UserService userService;
 	@Mock
 	private UserSearchService userSearchService;
-	@Mock
-	private BlockService blockService;
 
 	@InjectMocks
 	private UserUseCase userUseCase;
@@ -248,7 +245,6 @@ class UserUseCaseTest {
 					                                                  .region(null)
 					                                                  .build();
 
-			given(blockService.getBlockedUserIds(1L)).willReturn(Collections.emptyList());
 			given(userSearchService.getUsersByCondition(any(), any())).willReturn(new SliceImpl<>(Collections.emptyList()));
 
 			var result = userUseCase.getUserList(condition, PageRequest.of(0, 10));
@@ -256,4 +252,27 @@ class UserUseCaseTest {
 			assertThat(result).isNotNull();
 		}
 	}
+
+	@Nested
+	@DisplayName("유저 목록 커서 조회(getUserListByCursor)")
+	class GetUserListByCursor {
+		@Test
+		@DisplayName("요청자 ID 를 검색 조건으로 넘겨 커서 다음 유저 목록을 조회한다")
+		void success() {
+			UserUseCaseDto.SearchConditionRequest condition = UserUseCaseDto.SearchConditionRequest.builder()
+					                                                  .id(1L)
+					                                                  .minAge(20).maxAge(30)
+					                                                  .build();
+
+			given(userSearchService.getUsersByCursor(any(), eq("cursor"), eq(20)))
+					.willReturn(new UserServiceDto.SearchScrollResult(Collections.emptyList(), null));
+
+			var result = userUseCase.getUserListByCursor(condition, "cursor", 20);
+
+			assertThat(result.content()).isEmpty();
+			assertThat(result.hasNext()).isFalse();
+			then(userSearchService).should().getUsersByCursor(
+					argThat(command -> command.id().equals(1L)), eq("cursor"), eq(20));
+		}
+	}
 }
@@ -0,0 +1,125 @@
+package com.anonymouschat.anonymouschatserver.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SnowflakeIdGenerator 테스트")
+class SnowflakeIdGeneratorTest {
+
+	/** 테스트에서 시간을 직접 조작하기 위한 Clock */
+	private static final class MutableClock extends Clock {
+		private final AtomicLong millis;
+
+		MutableClock(Instant start) {
+			this.millis = new AtomicLong(start.toEpochMilli());
+		}
+
+		void set(Instant instant) { millis.set(instant.toEpochMilli()); }
+		@Override public long millis() { return millis.get(); }
+		@Override public Instant instant() { return Instant.ofEpochMilli(millis.get()); }
+		@Override public ZoneOffset getZone() { return ZoneOffset.UTC; }
+		@Override public Clock withZone(java.time.ZoneId zone) { return this; }
+	}
+
+	@Test
+	@DisplayName("발급한 ID는 단조 증가하고 시각/노드 정보를 담는다")
+	void ids_are_monotonic_and_encode_time_and_node() {
+		Instant now = Instant.parse("2026-01-01T00:00:00Z");
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, new MutableClock(now));
+
+		long previous = 0;
+		for (int i = 0; i < 1_000; i++) {
+			long id = generator.nextId();
+			assertThat(id).isGreaterThan(previous);
+			previous = id;
+		}
+
+		long id = generator.nextId();
+		assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(7);
+		assertThat(SnowflakeIdGenerator.timestampOf(id)).isAfterOrEqualTo(now);
+	}
+
+	@Test
+	@DisplayName("JavaScript 안전 정수 범위(2^53) 안의 값을 발급한다")
+	void ids_fit_in_javascript_safe_integer() {
+		Instant farFuture = Instant.parse("2090-01-01T00:00:00Z");
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID, new MutableClock(farFuture));
+
+		assertThat(generator.nextId()).isLessThan(1L << 53);
+	}
+
+	@Test
+	@DisplayName("시계가 뒤로 가도 ID는 감소하지 않는다")
+	void ids_do_not_go_backwards_when_clock_moves_back() {
+		MutableClock clock = new MutableClock(Instant.parse("2026-01-01T00:00:10Z"));
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, clock);
+
+		long before = generator.nextId();
+		clock.set(Instant.parse("2026-01-01T00:00:00Z"));
+		long after = generator.nextId();
+
+		assertThat(after).isGreaterThan(before);
+	}
+
+	@Test
+	@DisplayName("같은 밀리초에 시퀀스를 모두 쓰면 다음 밀리초로 넘어간다")
+	void sequence_overflow_moves_to_next_millisecond() {
+		Instant now = Instant.parse("2026-01-01T00:00:00Z");
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, new MutableClock(now));
+
+		long first = generator.nextId();
+		long last = first;
+		for (int i = 0; i < 200; i++) {
+			last = generator.nextId();
+		}
+
+		assertThat(SnowflakeIdGenerator.timestampOf(first)).isEqualTo(now);
+		assertThat(SnowflakeIdGenerator.timestampOf(last)).isAfter(now);
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 발급해도 중복이 없다")
+	void ids_are_unique_under_contention() throws Exception {
+		SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, Clock.systemUTC());
+		Set<Long> ids = ConcurrentHashMap.newKeySet();
+		int threads = 8, perThread = 10_000;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+
+		for (int t = 0; t < threads; t++) {
+			executor.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					ids.add(generator.nextId());
+				}
+				done.countDown();
+			});
+		}
+
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(ids).hasSize(threads * perThread);
+	}
+
+	@Test
+	@DisplayName("범위를 벗어난 nodeId는 거부한다")
+	void rejects_invalid_node_id() {
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1, Clock.systemUTC()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> new SnowflakeIdGenerator(-1, Clock.systemUTC()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,32 @@
+package com.anonymouschat.anonymouschatserver.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BloomFilter 테스트")
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 키는 항상 포함된 것으로 판정한다")
+	void no_false_negatives() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+		assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+	}
+
+	@Test
+	@DisplayName("추가하지 않은 키의 오탐률은 설정값 근처로 유지된다")
+	void false_positive_rate_is_bounded() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+		long falsePositives = IntStream.range(0, 100_000).filter(i -> filter.mightContain("other-" + i)).count();
+
+		assertThat(falsePositives).isLessThan(3_000); // 1% 설정, 여유를 둔 상한
+	}
+}
@@ -0,0 +1,77 @@
+package com.anonymouschat.anonymouschatserver.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConcurrentLongSet 테스트")
+class ConcurrentLongSetTest {
+
+	@Test
+	@DisplayName("중복 없이 정렬된 상태로 추가/삭제한다")
+	void add_and_remove() {
+		ConcurrentLongSet set = new ConcurrentLongSet();
+
+		assertThat(set.add(3L)).isTrue();
+		assertThat(set.add(1L)).isTrue();
+		assertThat(set.add(2L)).isTrue();
+		assertThat(set.add(2L)).isFalse();
+
+		assertThat(set.toLongArray()).containsExactly(1L, 2L, 3L);
+		assertThat(set.contains(2L)).isTrue();
+
+		assertThat(set.remove(2L)).isTrue();
+		assertThat(set.remove(2L)).isFalse();
+		assertThat(set).containsExactly(1L, 3L);
+		assertThat(set.contains((Object) "1")).isFalse();
+	}
+
+	@Test
+	@DisplayName("순회 중 변경이 있어도 순회 시작 시점의 스냅샷을 유지한다")
+	void iterator_is_snapshot() {
+		ConcurrentLongSet set = new ConcurrentLongSet();
+		set.add(1L);
+		set.add(2L);
+
+		Iterator<Long> iterator = set.iterator();
+		set.remove(1L);
+		set.add(5L);
+
+		List<Long> seen = new ArrayList<>();
+		iterator.forEachRemaining(seen::add);
+		assertThat(seen).containsExactly(1L, 2L);
+		assertThat(set).containsExactly(2L, 5L);
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 추가해도 유실이 없다")
+	void concurrent_add() throws Exception {
+		ConcurrentLongSet set = new ConcurrentLongSet();
+		int threads = 8, perThread = 500;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch done = new CountDownLatch(threads);
+
+		for (int t = 0; t < threads; t++) {
+			long base = (long) t * perThread;
+			executor.submit(() -> {
+				for (int i = 0; i < perThread; i++) {
+					set.add(base + i);
+				}
+				done.countDown();
+			});
+		}
+
+		assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+		executor.shutdown();
+		assertThat(set).hasSize(threads * perThread);
+	}
+}
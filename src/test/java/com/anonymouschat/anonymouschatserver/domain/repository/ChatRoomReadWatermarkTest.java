@@ -0,0 +1,138 @@
+package com.anonymouschat.anonymouschatserver.domain.repository;
+
+import com.anonymouschat.anonymouschatserver.application.cache.ChatRoomMembershipCache;
+import com.anonymouschat.anonymouschatserver.application.service.BlockService;
+import com.anonymouschat.anonymouschatserver.application.service.ChatRoomService;
+import com.anonymouschat.anonymouschatserver.domain.entity.ChatRoom;
+import com.anonymouschat.anonymouschatserver.domain.entity.Message;
+import com.anonymouschat.anonymouschatserver.domain.entity.User;
+import com.anonymouschat.anonymouschatserver.domain.type.Gender;
+import com.anonymouschat.anonymouschatserver.domain.type.OAuthProvider;
+import com.anonymouschat.anonymouschatserver.domain.type.Region;
+import com.anonymouschat.anonymouschatserver.domain.type.Role;
+import com.anonymouschat.anonymouschatserver.infra.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * write-behind 저장보다 읽음 처리가 먼저 도착하는 순서에서 읽음 워터마크와 안읽음 수가 맞는지 확인합니다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+@DisplayName("채팅방 읽음 워터마크 테스트")
+class ChatRoomReadWatermarkTest {
+
+	@Autowired
+	private ChatRoomRepository chatRoomRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private ChatRoomService chatRoomService;
+	private User sender;
+	private User reader;
+	private Long roomId;
+
+	@BeforeEach
+	void setUp() {
+		chatRoomService = new ChatRoomService(chatRoomRepository, mock(ChatRoomMembershipCache.class), mock(BlockService.class));
+		sender = persistUser("sender");
+		reader = persistUser("reader");
+		ChatRoom chatRoom = new ChatRoom(sender, reader);
+		entityManager.persist(chatRoom);
+		roomId = chatRoom.getId();
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private User persistUser(String nickname) {
+		User user = User.builder()
+				            .provider(OAuthProvider.GOOGLE)
+				            .providerId("provider-" + nickname)
+				            .role(Role.USER)
+				            .nickname(nickname)
+				            .gender(Gender.MALE)
+				            .age(25)
+				            .region(Region.SEOUL)
+				            .bio("bio")
+				            .build();
+		entityManager.persist(user);
+		return user;
+	}
+
+	private Message message(ChatRoom chatRoom, long id) {
+		return Message.builder()
+				       .id(id)
+				       .chatRoom(chatRoom)
+				       .sender(sender)
+				       .content("m" + id)
+				       .sentAt(LocalDateTime.of(2025, 1, 1, 0, 0).plusSeconds(id))
+				       .build();
+	}
+
+	private void persistAndRecord(long... ids) {
+		ChatRoom chatRoom = chatRoomRepository.findById(roomId).orElseThrow();
+		List<Message> messages = Arrays.stream(ids).mapToObj(id -> message(chatRoom, id)).toList();
+		messages.forEach(entityManager::persist);
+		chatRoomService.recordMessages(chatRoom, messages);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private ChatRoom reload() {
+		entityManager.clear();
+		return chatRoomRepository.findById(roomId).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("저장 전에 도착한 읽음 처리는 전송된 메시지까지 워터마크를 올리고, 이후 저장된 메시지는 안읽음으로 세지 않는다")
+	void read_before_persist_does_not_leave_unread() {
+		// 101, 102 는 수신자에게 전송되었지만 아직 write-behind 큐에 있다.
+		Long watermark = chatRoomService.markAsRead(roomId, reader.getId(), 102L);
+		assertThat(watermark).isEqualTo(102L);
+
+		// 큐가 비워지며 101, 102 와 그 뒤에 보낸 103 이 함께 저장된다.
+		persistAndRecord(101L, 102L, 103L);
+
+		ChatRoom chatRoom = reload();
+		assertThat(chatRoom.getUser2UnreadCount()).isEqualTo(1L);
+		assertThat(chatRoom.getLastMessageId()).isEqualTo(103L);
+		assertThat(chatRoomRepository.findLastReadMessageId(roomId, reader.getId())).isEqualTo(102L);
+	}
+
+	@Test
+	@DisplayName("저장된 마지막 메시지가 더 크면 그 메시지까지 읽음 처리한다")
+	void read_after_persist_uses_last_message() {
+		persistAndRecord(101L, 102L);
+
+		Long watermark = chatRoomService.markAsRead(roomId, reader.getId(), null);
+
+		assertThat(watermark).isEqualTo(102L);
+		assertThat(reload().getUser2UnreadCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("워터마크는 더 작은 readUpTo 로 뒤로 가지 않는다")
+	void watermark_never_moves_backwards() {
+		chatRoomService.markAsRead(roomId, reader.getId(), 105L);
+
+		Long watermark = chatRoomService.markAsRead(roomId, reader.getId(), 103L);
+
+		assertThat(watermark).isNull();
+		assertThat(chatRoomRepository.findLastReadMessageId(roomId, reader.getId())).isEqualTo(105L);
+	}
+}
@@ -0,0 +1,80 @@
+package com.anonymouschat.anonymouschatserver.domain.repository;
+
+import com.anonymouschat.anonymouschatserver.infra.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * message 테이블의 주요 조회가 인덱스를 타는지 H2 실행 계획으로 확인합니다.
+ * 손으로 쓴 SQL 이 아니라 Hibernate 가 실제로 생성한 SQL 을 캡처하여 EXPLAIN 합니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+		                          + "com.anonymouschat.anonymouschatserver.domain.repository.MessageIndexExplainTest$SqlCapture")
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+@DisplayName("message 인덱스 실행 계획 테스트")
+class MessageIndexExplainTest {
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private MessageRepository messageRepository;
+
+	public static class SqlCapture implements StatementInspector {
+		static final List<String> statements = new CopyOnWriteArrayList<>();
+
+		@Override
+		public String inspect(String sql) {
+			statements.add(sql);
+			return sql;
+		}
+	}
+
+	private String explain(String sql, Object... params) {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+				for (int i = 0; i < params.length; i++) {
+					statement.setObject(i + 1, params[i]);
+				}
+				try (ResultSet rs = statement.executeQuery()) {
+					rs.next();
+					return rs.getString(1).toUpperCase();
+				}
+			}
+		});
+	}
+
+	@Test
+	@DisplayName("커서 기반 메시지 조회는 chat_room_id 인덱스로 범위를 좁히고 전체 스캔하지 않는다")
+	void cursor_query_uses_room_id_index() {
+		LocalDateTime lastExitedAt = LocalDateTime.of(2025, 1, 1, 0, 0);
+		SqlCapture.statements.clear();
+
+		messageRepository.findMessagesAfterExitTimeWithCursor(1L, lastExitedAt, 1000L, 50);
+
+		String sql = SqlCapture.statements.stream()
+				             .filter(statement -> statement.contains("from message"))
+				             .reduce((first, second) -> second)
+				             .orElseThrow();
+		// 바인딩 순서: chat_room_id, sent_at, id 커서, limit
+		String plan = explain(sql, 1L, lastExitedAt, 1000L, 50);
+
+		assertThat(plan).contains("CHAT_ROOM_ID =").doesNotContain("TABLESCAN");
+	}
+}
@@ -0,0 +1,110 @@
+package com.anonymouschat.anonymouschatserver.domain.repository;
+
+import com.anonymouschat.anonymouschatserver.application.dto.UserServiceDto;
+import com.anonymouschat.anonymouschatserver.domain.entity.Block;
+import com.anonymouschat.anonymouschatserver.domain.entity.User;
+import com.anonymouschat.anonymouschatserver.domain.type.Gender;
+import com.anonymouschat.anonymouschatserver.domain.type.OAuthProvider;
+import com.anonymouschat.anonymouschatserver.domain.type.Region;
+import com.anonymouschat.anonymouschatserver.domain.type.Role;
+import com.anonymouschat.anonymouschatserver.infra.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+@DisplayName("UserRepository 유저 검색 차단 필터 테스트")
+class UserRepositorySearchTest {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private User me;
+	private User blockedByMe;
+	private User blockingMe;
+	private User unblocked;
+	private User stranger;
+
+	@BeforeEach
+	void setUp() {
+		me = persistUser("me");
+		blockedByMe = persistUser("blockedByMe");
+		blockingMe = persistUser("blockingMe");
+		unblocked = persistUser("unblocked");
+		stranger = persistUser("stranger");
+
+		entityManager.persist(Block.builder().blocker(me).blocked(blockedByMe).build());
+		entityManager.persist(Block.builder().blocker(blockingMe).blocked(me).build());
+		Block released = Block.builder().blocker(me).blocked(unblocked).build();
+		released.deactivate();
+		entityManager.persist(released);
+
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	private User persistUser(String nickname) {
+		User user = User.builder()
+				            .provider(OAuthProvider.GOOGLE)
+				            .providerId("provider-" + nickname)
+				            .role(Role.USER)
+				            .nickname(nickname)
+				            .gender(Gender.MALE)
+				            .age(25)
+				            .region(Region.SEOUL)
+				            .bio("bio")
+				            .build();
+		entityManager.persist(user);
+		return user;
+	}
+
+	private UserServiceDto.SearchCommand commandOf(Long userId) {
+		return UserServiceDto.SearchCommand.builder().id(userId).build();
+	}
+
+	private List<Long> idsOf(List<UserServiceDto.SearchResult> results) {
+		return results.stream().map(UserServiceDto.SearchResult::userId).toList();
+	}
+
+	@Test
+	@DisplayName("내가 차단한 유저와 나를 차단한 유저를 모두 제외한다")
+	void excludes_blocks_in_both_directions() {
+		var slice = userRepository.findUsersByCondition(commandOf(me.getId()), PageRequest.of(0, 10));
+
+		assertThat(idsOf(slice.getContent()))
+				.containsExactlyInAnyOrder(unblocked.getId(), stranger.getId());
+	}
+
+	@Test
+	@DisplayName("커서 조회에도 같은 차단 필터를 적용한다")
+	void cursor_query_applies_same_filter() {
+		var results = userRepository.findUsersByConditionAfter(commandOf(me.getId()), null, 10);
+
+		assertThat(idsOf(results))
+				.containsExactlyInAnyOrder(unblocked.getId(), stranger.getId());
+	}
+
+	@Test
+	@DisplayName("차단 당사자가 아닌 유저의 검색 결과에는 영향을 주지 않는다")
+	void does_not_affect_third_party() {
+		var slice = userRepository.findUsersByCondition(commandOf(stranger.getId()), PageRequest.of(0, 10));
+
+		assertThat(idsOf(slice.getContent()))
+				.containsExactlyInAnyOrder(me.getId(), blockedByMe.getId(), blockingMe.getId(), unblocked.getId());
+	}
+}
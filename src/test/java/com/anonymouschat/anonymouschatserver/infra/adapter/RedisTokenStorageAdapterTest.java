@@ -8,6 +8,7 @@ import com.anonymouschat.anonymouschatserver.common.exception.storage.TokenStora
 import com.anonymouschat.anonymouschatserver.infra.adapter.dto.TokenStorageDto;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,14 +19,16 @@ import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
 
 import java.security.SecureRandom;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,7 +42,7 @@ class RedisTokenStorageAdapterTest {
 	private RedisTokenStorageAdapter redisTokenStorageAdapter;
 
 	@Mock
-	private RedisTemplate<String, Object> redisTemplate;
+	private StringRedisTemplate redisTemplate;
 
 	@Mock
 	private ObjectMapper objectMapper;
@@ -48,7 +51,10 @@ class RedisTokenStorageAdapterTest {
 	private SecureRandom secureRandom;
 
 	@Mock
-	private ValueOperations<String, Object> valueOperations;
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private TokenBlacklistNearCache blacklistNearCache;
 
 	@Nested
 	@DisplayName("storeOAuthTempData()")
@@ -119,7 +125,7 @@ class RedisTokenStorageAdapterTest {
 					                                            .build();
 
 			when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-			when(valueOperations.get(key)).thenReturn(jsonData);
+			when(valueOperations.getAndDelete(key)).thenReturn(jsonData);
 			when(objectMapper.readValue(jsonData, TokenStorageDto.AuthTempData.class)).thenReturn(storageData);
 
 			// when
@@ -128,7 +134,33 @@ class RedisTokenStorageAdapterTest {
 			// then
 			assertThat(result).isPresent();
 			assertThat(result.get().accessToken()).isEqualTo("access-token");
-			verify(redisTemplate).delete(key);
+			verify(valueOperations, never()).get(anyString());
+			verify(redisTemplate, never()).delete(anyString());
+		}
+
+		@Test
+		@DisplayName("이전 포맷(이중 인코딩된 JSON)도 읽는다")
+		void consumeLegacyDoubleEncodedData() throws JsonProcessingException {
+			// given
+			String tempCode = "test-code";
+			String key = "oauth_temp:" + tempCode;
+			String legacy = "\"{\\\"accessToken\\\":\\\"access-token\\\"}\"";
+			String jsonData = "{\"accessToken\":\"access-token\"}";
+
+			TokenStorageDto.AuthTempData storageData = TokenStorageDto.AuthTempData.builder()
+					                                            .accessToken("access-token")
+					                                            .build();
+
+			when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+			when(valueOperations.getAndDelete(key)).thenReturn(legacy);
+			when(objectMapper.readValue(legacy, String.class)).thenReturn(jsonData);
+			when(objectMapper.readValue(jsonData, TokenStorageDto.AuthTempData.class)).thenReturn(storageData);
+
+			// when
+			Optional<AuthServiceDto.OAuthTempInfo> result = redisTokenStorageAdapter.consumeOAuthTempData(tempCode);
+
+			// then
+			assertThat(result).map(AuthServiceDto.OAuthTempInfo::accessToken).hasValue("access-token");
 		}
 
 		@Test
@@ -139,14 +171,13 @@ class RedisTokenStorageAdapterTest {
 			String key = "oauth_temp:" + tempCode;
 
 			when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-			when(valueOperations.get(key)).thenReturn(null);
+			when(valueOperations.getAndDelete(key)).thenReturn(null);
 
 			// when
 			Optional<AuthServiceDto.OAuthTempInfo> result = redisTokenStorageAdapter.consumeOAuthTempData(tempCode);
 
 			// then
 			assertThat(result).isEmpty();
-			verify(redisTemplate, never()).delete(key);
 		}
 
 		@Test
@@ -158,7 +189,7 @@ class RedisTokenStorageAdapterTest {
 			String invalidJson = "invalid-json";
 
 			when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-			when(valueOperations.get(key)).thenReturn(invalidJson);
+			when(valueOperations.getAndDelete(key)).thenReturn(invalidJson);
 			when(objectMapper.readValue(invalidJson, TokenStorageDto.AuthTempData.class))
 					.thenThrow(new JsonProcessingException("deserialization error") {});
 
@@ -188,9 +219,7 @@ class RedisTokenStorageAdapterTest {
 					                                            .build();
 
 			String expectedJson = "{\"token\":\"refresh-token\"}";
-			String key = "refresh:" + userId;
 
-			when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 			when(objectMapper.writeValueAsString(any(TokenStorageDto.RefreshTokenData.class))).thenReturn(expectedJson);
 
 			// when
@@ -198,7 +227,25 @@ class RedisTokenStorageAdapterTest {
 
 			// then
 			verify(objectMapper).writeValueAsString(any(TokenStorageDto.RefreshTokenData.class));
-			verify(valueOperations).set(key, expectedJson, Duration.ofSeconds(604800));
+			// 토큰 저장과 사용자 인덱스 등록을 한 파이프라인으로 보낸다
+			verify(redisTemplate).executePipelined(ArgumentMatchers.<RedisCallback<Object>>any());
+			verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+		}
+
+		@Test
+		@DisplayName("Redis 오류 시 TokenStorageException 발생")
+		void storeRefreshTokenFailed() throws JsonProcessingException {
+			// given
+			AuthServiceDto.RefreshTokenInfo tokenInfo = AuthServiceDto.RefreshTokenInfo.create(1L, "refresh-token", "agent", "127.0.0.1");
+
+			when(objectMapper.writeValueAsString(any(TokenStorageDto.RefreshTokenData.class))).thenReturn("{}");
+			when(redisTemplate.executePipelined(ArgumentMatchers.<RedisCallback<Object>>any()))
+					.thenThrow(new RuntimeException("Redis error"));
+
+			// when & then
+			assertThatThrownBy(() -> redisTokenStorageAdapter.storeRefreshToken(1L, tokenInfo))
+					.isInstanceOf(TokenStorageException.class)
+					.hasMessage(ErrorCode.TOKEN_STORAGE_ERROR.getMessage());
 		}
 	}
 
@@ -307,6 +354,7 @@ class RedisTokenStorageAdapterTest {
 
 			// then
 			verify(valueOperations).set(key, "blacklisted", Duration.ofSeconds(ttlSeconds));
+			verify(blacklistNearCache).record(tokenHash, ttlSeconds);
 		}
 
 		@Test
@@ -327,10 +375,62 @@ class RedisTokenStorageAdapterTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("revokeSession()")
+	class RevokeSession {
+
+		@Test
+		@DisplayName("refresh 삭제와 블랙리스트 등록을 파이프라인으로 요청한다")
+		void revokeSessionPipelined() {
+			// when
+			redisTokenStorageAdapter.revokeSession(1L, "token-hash", 60);
+
+			// then
+			verify(redisTemplate).executePipelined(ArgumentMatchers.<RedisCallback<Object>>any());
+			verify(redisTemplate, never()).delete(anyString());
+			verify(blacklistNearCache).record("token-hash", 60);
+		}
+
+		@Test
+		@DisplayName("Redis 오류 시 TokenStorageException 발생")
+		void revokeSessionFailed() {
+			// given
+			when(redisTemplate.executePipelined(ArgumentMatchers.<RedisCallback<Object>>any()))
+					.thenThrow(new RuntimeException("Redis error"));
+
+			// when & then
+			assertThatThrownBy(() -> redisTokenStorageAdapter.revokeSession(1L, "token-hash", 60))
+					.isInstanceOf(TokenStorageException.class)
+					.hasMessage(ErrorCode.TOKEN_STORAGE_ERROR.getMessage());
+			verify(blacklistNearCache, never()).record(anyString(), anyInt());
+		}
+	}
+
 	@Nested
 	@DisplayName("isTokenBlacklisted()")
 	class IsTokenBlacklisted {
 
+		@BeforeEach
+		void setUp() {
+			// near-cache 가 판정하지 못해 Redis 로 확인하는 경우
+			lenient().when(blacklistNearCache.check(anyString())).thenReturn(null);
+		}
+
+		@Test
+		@DisplayName("near-cache 에서 판정되면 Redis 를 조회하지 않는다")
+		void isTokenBlacklistedLocal() {
+			// given
+			String tokenHash = "token-hash";
+			when(blacklistNearCache.check(tokenHash)).thenReturn(false);
+
+			// when
+			boolean result = redisTokenStorageAdapter.isTokenBlacklisted(tokenHash);
+
+			// then
+			assertThat(result).isFalse();
+			verify(redisTemplate, never()).hasKey(anyString());
+		}
+
 		@Test
 		@DisplayName("블랙리스트된 토큰 확인 성공")
 		void isTokenBlacklistedTrue() {
@@ -378,44 +478,40 @@ class RedisTokenStorageAdapterTest {
 			// then
 			assertThat(result).isTrue(); // 보안상 안전한 방향으로 true 반환
 		}
-	}
-
-	@Nested
-	@DisplayName("deleteAllUserTokens()")
-	class DeleteAllUserTokens {
-
 		@Test
-		@DisplayName("사용자 모든 토큰 삭제 성공")
-		void deleteAllUserTokensSuccess() {
+		@DisplayName("이전 버전 키는 near-cache 없이 Redis 로 확인한다")
+		void isLegacyTokenBlacklisted() {
 			// given
-			Long userId = 1L;
-			Set<String> keys = Set.of("refresh:1:device1", "refresh:1:device2");
-
-			when(redisTemplate.execute(ArgumentMatchers.<RedisCallback<Object>>any())).thenReturn(keys);
+			when(redisTemplate.hasKey("blacklist:12345")).thenReturn(true);
 
 			// when
-			redisTokenStorageAdapter.deleteAllUserTokens(userId);
+			boolean result = redisTokenStorageAdapter.isLegacyTokenBlacklisted("12345");
 
 			// then
-			verify(redisTemplate).execute(ArgumentMatchers.<RedisCallback<Object>>any());
-			verify(redisTemplate).delete(keys);
+			assertThat(result).isTrue();
+			verify(blacklistNearCache, never()).check(anyString());
 		}
+	}
+
+	@Nested
+	@DisplayName("deleteAllUserTokens()")
+	class DeleteAllUserTokens {
 
 		@Test
-		@DisplayName("삭제할 토큰이 없는 경우")
-		void deleteAllUserTokensEmpty() {
+		@DisplayName("사용자 인덱스 조회와 삭제를 한 번의 스크립트로 처리")
+		void deleteAllUserTokensSuccess() {
 			// given
 			Long userId = 1L;
-			Set<String> emptyKeys = Set.of();
-
-			when(redisTemplate.execute(ArgumentMatchers.<RedisCallback<Object>>any())).thenReturn(emptyKeys);
+			when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("user_tokens:1", "refresh:1"))))
+					.thenReturn(3L);
 
 			// when
 			redisTokenStorageAdapter.deleteAllUserTokens(userId);
 
 			// then
-			verify(redisTemplate).execute(ArgumentMatchers.<RedisCallback<Object>>any());
-			verify(redisTemplate, never()).delete(anySet());
+			verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of("user_tokens:1", "refresh:1")));
+			verify(redisTemplate, never()).opsForSet();
+			verify(redisTemplate, never()).unlink(ArgumentMatchers.<Collection<String>>any());
 		}
 
 		@Test
@@ -424,7 +520,8 @@ class RedisTokenStorageAdapterTest {
 			// given
 			Long userId = 1L;
 
-			when(redisTemplate.execute(ArgumentMatchers.<RedisCallback<Object>>any())).thenThrow(new RuntimeException("Redis error"));
+			when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList()))
+					.thenThrow(new RuntimeException("Redis error"));
 
 			// when & then
 			assertThatThrownBy(() -> redisTokenStorageAdapter.deleteAllUserTokens(userId))
@@ -0,0 +1,118 @@
+package com.anonymouschat.anonymouschatserver.infra.adapter;
+
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenBlacklistNearCache 테스트")
+class TokenBlacklistNearCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private StringRedisTemplate bulkRedisTemplate;
+
+	private final ClusterProperties properties = new ClusterProperties();
+	private final Clock clock = Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC);
+	private TokenBlacklistNearCache nearCache;
+	private boolean propagationLive = true;
+
+	@BeforeEach
+	void setUp() {
+		nearCache = new TokenBlacklistNearCache(redisTemplate, bulkRedisTemplate, properties, clock);
+		nearCache.bindPropagation(() -> propagationLive);
+	}
+
+
+	@SuppressWarnings("unchecked")
+	private void syncWith(List<String> blacklistedHashes) {
+		when(bulkRedisTemplate.execute(any(RedisCallback.class))).thenReturn(blacklistedHashes);
+		nearCache.resync();
+	}
+
+	@Test
+	@DisplayName("첫 동기화 전에는 Redis 확인이 필요하다고 판정한다")
+	void defers_to_redis_before_first_sync() {
+		assertThat(nearCache.check("hash")).isNull();
+	}
+
+	@Test
+	@DisplayName("동기화 후 블랙리스트에 없는 토큰은 Redis 없이 false 로 판정한다")
+	void answers_locally_after_sync() {
+		syncWith(List.of("revoked"));
+
+		assertThat(nearCache.check("fresh")).isFalse();
+		assertThat(nearCache.check("revoked")).isNull();
+	}
+
+	@Test
+	@DisplayName("전파 채널 구독이 없으면 동기화 후에도 없음 판정을 Redis 로 넘긴다")
+	void defers_to_redis_without_live_propagation() {
+		syncWith(List.of());
+		propagationLive = false;
+
+		assertThat(nearCache.check("fresh")).isNull();
+	}
+
+	@Test
+	@DisplayName("전파 채널이 연결되지 않은 기본 상태에서는 로컬에서 없음으로 판정하지 않는다")
+	@SuppressWarnings("unchecked")
+	void defers_to_redis_when_propagation_unbound() {
+		TokenBlacklistNearCache standalone = new TokenBlacklistNearCache(redisTemplate, bulkRedisTemplate, properties, clock);
+		when(bulkRedisTemplate.execute(any(RedisCallback.class))).thenReturn(List.of());
+		standalone.resync();
+
+		assertThat(standalone.check("fresh")).isNull();
+	}
+
+	@Test
+	@DisplayName("현재 노드에서 추가한 토큰은 만료 전까지 Redis 없이 true 로 판정한다")
+	void confirms_recorded_tokens_until_expiry() {
+		syncWith(List.of());
+
+		nearCache.record("revoked", 60);
+
+		assertThat(nearCache.check("revoked")).isTrue();
+		verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("클러스터 모드에서는 추가한 토큰을 다른 노드에 전파한다")
+	void publishes_in_cluster_mode() {
+		properties.setEnabled(true);
+
+		nearCache.record("revoked", 60);
+
+		verify(redisTemplate).convertAndSend(properties.getBlacklistChannel(), "revoked:60");
+	}
+
+	@Test
+	@DisplayName("동기화에 실패하면 이전 필터를 유지한다")
+	@SuppressWarnings("unchecked")
+	void keeps_previous_filter_on_sync_failure() {
+		syncWith(List.of());
+		when(bulkRedisTemplate.execute(any(RedisCallback.class))).thenThrow(new RuntimeException("Redis down"));
+
+		nearCache.resync();
+
+		assertThat(nearCache.check("fresh")).isFalse();
+	}
+}
@@ -0,0 +1,157 @@
+package com.anonymouschat.anonymouschatserver.infra.cache;
+
+import com.anonymouschat.anonymouschatserver.infra.config.TwoLevelCacheProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TwoLevelCache 테스트")
+class TwoLevelCacheTest {
+
+	@Mock
+	private CacheInvalidationPublisher publisher;
+
+	private ConcurrentMapCacheManager remoteManager;
+	private TwoLevelCacheManager cacheManager;
+	private Cache cache;
+	private Cache remote;
+
+	@BeforeEach
+	void setUp() {
+		remoteManager = new ConcurrentMapCacheManager();
+		remoteManager.setAllowNullValues(false);
+		cacheManager = new TwoLevelCacheManager(remoteManager, new TwoLevelCacheProperties(), publisher);
+		cache = cacheManager.getCache("profile");
+		remote = remoteManager.getCache("profile");
+	}
+
+	@Nested
+	@DisplayName("조회")
+	class Lookup {
+
+		@Test
+		@DisplayName("L1 에 없으면 L2 에서 읽고 L1 에 채운다")
+		void fills_local_from_remote() {
+			remote.put(1L, "value");
+
+			assertThat(cache.get(1L, String.class)).isEqualTo("value");
+
+			remote.evict(1L);
+			assertThat(cache.get(1L, String.class)).isEqualTo("value");
+		}
+
+		@Test
+		@DisplayName("둘 다 없으면 원본을 한 번만 읽어 L1/L2 에 채우고 무효화는 발행하지 않는다")
+		void loads_once_without_publishing() {
+			AtomicInteger loads = new AtomicInteger();
+
+			assertThat(cache.get(1L, () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+			assertThat(cache.get(1L, () -> "loaded-" + loads.incrementAndGet())).isEqualTo("loaded-1");
+
+			assertThat(loads).hasValue(1);
+			assertThat(remote.get(1L, String.class)).isEqualTo("loaded-1");
+			verifyNoInteractions(publisher);
+		}
+
+		@Test
+		@DisplayName("원본이 null 이면 캐시하지 않는다")
+		void does_not_cache_null() {
+			String loaded = cache.get(1L, () -> null);
+
+			assertThat(loaded).isNull();
+			assertThat(cache.get(1L)).isNull();
+			assertThat(remote.get(1L)).isNull();
+		}
+
+		@Test
+		@DisplayName("L2 장애 시 원본 조회로 진행한다")
+		void falls_back_when_remote_fails() {
+			Cache failing = mock(Cache.class);
+			when(failing.get(any())).thenThrow(new RuntimeException("Redis down"));
+			doThrow(new RuntimeException("Redis down")).when(failing).put(any(), any());
+			Cache twoLevel = new TwoLevelCache("profile", Caffeine.newBuilder().build(), failing, publisher);
+
+			assertThat(twoLevel.get(1L, () -> "loaded")).isEqualTo("loaded");
+			assertThat(twoLevel.get(1L, String.class)).isEqualTo("loaded");
+		}
+	}
+
+	@Nested
+	@DisplayName("변경")
+	class Mutation {
+
+		@Test
+		@DisplayName("evict 는 L1/L2 를 모두 지우고 다른 노드에 발행한다")
+		void evict_removes_both_and_publishes() {
+			cache.get(1L, () -> "value");
+
+			cache.evict(1L);
+
+			assertThat(cache.get(1L)).isNull();
+			assertThat(remote.get(1L)).isNull();
+			verify(publisher).publishEvict("profile", "1");
+		}
+
+		@Test
+		@DisplayName("put 은 L1/L2 를 갱신하고 다른 노드에 발행한다")
+		void put_updates_both_and_publishes() {
+			cache.put(1L, "value");
+
+			assertThat(remote.get(1L, String.class)).isEqualTo("value");
+			assertThat(cache.get(1L, String.class)).isEqualTo("value");
+			verify(publisher).publishEvict("profile", "1");
+		}
+
+		@Test
+		@DisplayName("clear 는 캐시 전체를 비우고 발행한다")
+		void clear_publishes() {
+			cache.put(1L, "value");
+
+			cache.clear();
+
+			assertThat(cache.get(1L)).isNull();
+			verify(publisher).publishClear("profile");
+		}
+	}
+
+	@Nested
+	@DisplayName("다른 노드의 무효화 수신")
+	class RemoteInvalidation {
+
+		@Test
+		@DisplayName("L1 만 지우고 L2 는 유지하며 다시 발행하지 않는다")
+		void evicts_local_only() {
+			cache.get(1L, () -> "stale");
+			remote.put(1L, "fresh");
+
+			cacheManager.evictLocal("profile", "1");
+
+			assertThat(cache.get(1L, String.class)).isEqualTo("fresh");
+			verify(publisher, never()).publishEvict(anyString(), anyString());
+		}
+
+		@Test
+		@DisplayName("사용하지 않은 캐시에 대한 무효화는 무시한다")
+		void ignores_unknown_cache() {
+			cacheManager.evictLocal("unknown", "1");
+			cacheManager.clearLocal("unknown");
+
+			assertThat(cacheManager.getCacheNames()).containsExactly("profile");
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.anonymouschat.anonymouschatserver.infra.security.jwt;
+
+import com.anonymouschat.anonymouschatserver.domain.type.Role;
+import com.anonymouschat.anonymouschatserver.infra.security.CustomPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JwtValidator 검증 캐시 테스트")
+class JwtValidatorTest {
+
+	private JwtTokenProvider tokenProvider;
+	private JwtVerificationCache verificationCache;
+	private JwtValidator validator;
+	private JwtAuthenticationFactory authFactory;
+
+	@BeforeEach
+	void setUp() {
+		tokenProvider = spy(new JwtTokenProvider());
+		ReflectionTestUtils.setField(tokenProvider, "secretKeyPlain", "test-secret-key-should-be-long-enough-123456");
+		ReflectionTestUtils.setField(tokenProvider, "accessTokenValidityInSeconds", 3600L);
+		tokenProvider.init();
+
+		verificationCache = new JwtVerificationCache(Clock.systemUTC());
+		validator = new JwtValidator(tokenProvider, verificationCache);
+		validator.init();
+		authFactory = new JwtAuthenticationFactory(tokenProvider, verificationCache);
+	}
+
+	@Nested
+	@DisplayName("validate")
+	class Validate {
+
+		@Test
+		@DisplayName("검증에 성공한 토큰은 Principal 을 캐시하고, 이후 Principal 생성 시 다시 파싱하지 않는다")
+		void caches_verified_principal() {
+			String token = tokenProvider.createAccessToken(1L, Role.USER);
+
+			validator.validate(token);
+			CustomPrincipal principal = authFactory.createPrincipal(token);
+
+			assertThat(principal.userId()).isEqualTo(1L);
+			assertThat(principal.role()).isEqualTo(Role.USER);
+			assertThat(verificationCache.size()).isEqualTo(1);
+			verify(tokenProvider, never()).getPrincipalFromToken(token);
+		}
+
+		@Test
+		@DisplayName("서명이 잘못된 토큰은 캐시하지 않고 거부한다")
+		void rejects_tampered_token() {
+			String token = tokenProvider.createAccessToken(1L, Role.USER);
+			String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+			assertThatThrownBy(() -> validator.validate(tampered))
+					.isInstanceOf(RuntimeException.class);
+			assertThat(verificationCache.size()).isZero();
+		}
+
+		@Test
+		@DisplayName("검증된 토큰의 서명을 재사용해 클레임을 바꾼 토큰은 캐시에 적중하지 않고 거부한다")
+		void rejects_forged_claims_with_cached_signature() {
+			String token = tokenProvider.createAccessToken(1L, Role.USER);
+			validator.validate(token);
+			String[] parts = token.split("\\.");
+			String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+					                       .encodeToString("{\"sub\":\"2\",\"role\":\"ADMIN\"}".getBytes(StandardCharsets.UTF_8));
+			String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+			assertThat(verificationCache.get(forged)).isNull();
+			assertThatThrownBy(() -> validator.validate(forged))
+					.isInstanceOf(RuntimeException.class);
+		}
+	}
+
+	@Nested
+	@DisplayName("JwtVerificationCache")
+	class Cache {
+
+		@Test
+		@DisplayName("토큰 만료 시각이 지나면 캐시된 Principal 을 반환하지 않는다")
+		void expires_at_token_expiry() {
+			Instant now = Instant.parse("2025-01-01T00:00:00Z");
+			JwtVerificationCache cache = new JwtVerificationCache(Clock.fixed(now, ZoneOffset.UTC));
+			CustomPrincipal principal = CustomPrincipal.builder().userId(1L).role(Role.USER).build();
+
+			cache.put("live", principal, now.plusSeconds(60).toEpochMilli());
+			cache.put("expired", principal, now.minusSeconds(1).toEpochMilli());
+
+			assertThat(cache.get("live")).isEqualTo(principal);
+			assertThat(cache.get("expired")).isNull();
+			assertThat(cache.size()).isEqualTo(1);
+		}
+
+		@Test
+		@DisplayName("검증 캐시 키는 토큰 전체 다이제스트이고, 블랙리스트 지문은 서명 세그먼트만 사용한다")
+		void digest_covers_whole_token() {
+			assertThat(TokenDigest.digest("header.payload.signature"))
+					.hasSize(43)
+					.isNotEqualTo(TokenDigest.digest("header.payloaf.signature"));
+			assertThat(TokenDigest.fingerprint("header.payload.signature"))
+					.hasSize(43)
+					.doesNotContain("signature")
+					.isEqualTo(TokenDigest.fingerprint("header.payload.signature"))
+					.isNotEqualTo(TokenDigest.fingerprint("header.payload.signaturf"));
+		}
+	}
+}
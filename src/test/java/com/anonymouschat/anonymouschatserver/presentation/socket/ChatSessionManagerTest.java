@@ -1,5 +1,7 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket;
 
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.PresenceRegistry;
+import com.anonymouschat.testsupport.security.PrincipalStub;
 import com.anonymouschat.testsupport.socket.WebSocketSessionStub;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -8,6 +10,11 @@ import org.junit.jupiter.api.Test;
 import org.springframework.web.socket.CloseStatus;
 
 import java.io.IOException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -21,10 +28,12 @@ import static org.mockito.Mockito.*;
 class ChatSessionManagerTest {
 
     private ChatSessionManager sessionManager;
+    private PresenceRegistry presenceRegistry;
 
     @BeforeEach
     void setUp() {
-        sessionManager = new ChatSessionManager();
+        presenceRegistry = mock(PresenceRegistry.class);
+        sessionManager = new ChatSessionManager(presenceRegistry);
     }
 
     /**
@@ -182,4 +191,221 @@ class ChatSessionManagerTest {
             assertThat(sessionManager.getSession(userId)).isNull();
         }
     }
+
+    /**
+     * 클러스터 presence 반영 관련 테스트
+     */
+    @Nested
+    @DisplayName("presence 반영")
+    class PresenceSync {
+
+        @Test
+        @DisplayName("세션 등록과 채팅방 참여를 presence 레지스트리에 기록한다")
+        void should_record_online_and_join() {
+            // when
+            sessionManager.registerOrReplaceSession(100L, WebSocketSessionStub.open());
+            sessionManager.joinRoom(200L, 100L);
+
+            // then
+            verify(presenceRegistry).online(100L);
+            verify(presenceRegistry).joinRoom(200L, 100L);
+        }
+
+        @Test
+        @DisplayName("연결 해제 시 참여 중이던 채팅방과 presence 를 함께 정리한다")
+        void should_clear_rooms_and_presence_on_disconnect() {
+            // given
+            sessionManager.registerOrReplaceSession(100L, WebSocketSessionStub.open());
+            sessionManager.joinRoom(200L, 100L);
+            sessionManager.joinRoom(300L, 100L);
+
+            // when
+            sessionManager.forceDisconnect(100L, CloseStatus.NORMAL);
+
+            // then
+            verify(presenceRegistry).leaveRoom(200L, 100L);
+            verify(presenceRegistry).leaveRoom(300L, 100L);
+            verify(presenceRegistry).offline(100L);
+        }
+    }
+
+    /**
+     * 역색인(sessionId → userId, userId → 채팅방) 관련 테스트
+     */
+    @Nested
+    @DisplayName("역색인")
+    class ReverseIndex {
+
+        @Test
+        @DisplayName("인증 정보가 없는 세션도 sessionId 로 사용자를 찾아 정리한다")
+        void should_find_user_by_session_id_without_principal() {
+            // given
+            long userId = 100L;
+            var session = WebSocketSessionStub.open(); // principal 없음 → extractUserId 실패
+            sessionManager.registerOrReplaceSession(userId, session);
+            sessionManager.joinRoom(200L, userId);
+
+            // when
+            sessionManager.forceDisconnect(session, CloseStatus.SERVER_ERROR);
+
+            // then
+            assertThat(session.isOpen()).isFalse();
+            assertThat(sessionManager.getSession(userId)).isNull();
+            assertThat(sessionManager.getParticipants(200L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("연결 해제 시 해당 사용자가 참여한 채팅방에서만 제거하고 다른 참여자는 유지한다")
+        void should_remove_only_rooms_of_disconnected_user() {
+            // given
+            sessionManager.registerOrReplaceSession(100L, WebSocketSessionStub.open());
+            sessionManager.registerOrReplaceSession(101L, WebSocketSessionStub.open());
+            sessionManager.joinRoom(200L, 100L);
+            sessionManager.joinRoom(200L, 101L);
+            sessionManager.joinRoom(300L, 100L);
+
+            // when
+            sessionManager.forceDisconnect(100L, CloseStatus.NORMAL);
+
+            // then
+            assertThat(sessionManager.getParticipants(200L)).containsExactly(101L);
+            assertThat(sessionManager.getParticipants(300L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("세션이 교체되면 이전 sessionId 로는 사용자를 찾지 않는다")
+        void should_not_resolve_replaced_session() {
+            // given
+            long userId = 100L;
+            var oldSession = WebSocketSessionStub.open();
+            var newSession = WebSocketSessionStub.open();
+            sessionManager.registerOrReplaceSession(userId, oldSession);
+            sessionManager.registerOrReplaceSession(userId, newSession);
+
+            // when
+            sessionManager.forceDisconnect(oldSession, CloseStatus.NORMAL);
+
+            // then
+            assertThat(sessionManager.getSession(userId)).isSameAs(newSession);
+        }
+
+        @Test
+        @DisplayName("교체된 이전 세션을 강제 종료해도 새 세션과 채팅방 참여는 유지한다")
+        void should_keep_replacement_state_when_stale_session_is_disconnected() {
+            // given
+            long userId = 100L;
+            var oldSession = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(userId));
+            var newSession = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(userId));
+            sessionManager.registerOrReplaceSession(userId, oldSession);
+            sessionManager.registerOrReplaceSession(userId, newSession);
+            sessionManager.joinRoom(200L, userId);
+
+            // when
+            sessionManager.forceDisconnect(oldSession, CloseStatus.SERVER_ERROR);
+
+            // then
+            assertThat(newSession.isOpen()).isTrue();
+            assertThat(sessionManager.getSession(userId)).isSameAs(newSession);
+            assertThat(sessionManager.isParticipant(200L, userId)).isTrue();
+            verify(presenceRegistry, never()).offline(userId);
+        }
+
+        @Test
+        @DisplayName("종료 중 새 세션으로 교체되면 새 세션의 채팅방 참여는 정리하지 않는다")
+        void should_not_clear_rooms_when_replaced_during_disconnect() throws IOException {
+            // given
+            long userId = 100L;
+            var oldSession = spy(WebSocketSessionStub.open());
+            var newSession = WebSocketSessionStub.open();
+            sessionManager.registerOrReplaceSession(userId, oldSession);
+            // 이전 세션을 닫는 사이 재접속이 먼저 등록된 상황
+            doAnswer(invocation -> {
+                sessionManager.registerOrReplaceSession(userId, newSession);
+                sessionManager.joinRoom(200L, userId);
+                return null;
+            }).doNothing().when(oldSession).close(any());
+
+            // when
+            sessionManager.forceDisconnect(userId, CloseStatus.NORMAL);
+
+            // then
+            assertThat(newSession.isOpen()).isTrue();
+            assertThat(sessionManager.getSession(userId)).isSameAs(newSession);
+            assertThat(sessionManager.isParticipant(200L, userId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("교체 후 이전 세션의 종료가 늦게 도착하면 새 세션의 매핑과 채팅방 참여를 유지한다")
+        void should_ignore_late_close_of_replaced_session() {
+            // given
+            long userId = 100L;
+            var oldSession = WebSocketSessionStub.open();
+            var newSession = WebSocketSessionStub.open();
+            sessionManager.registerOrReplaceSession(userId, oldSession);
+            sessionManager.joinRoom(200L, userId);
+            sessionManager.registerOrReplaceSession(userId, newSession);
+
+            // when
+            boolean cleared = sessionManager.unregisterSession(oldSession);
+
+            // then
+            assertThat(cleared).isFalse();
+            assertThat(newSession.isOpen()).isTrue();
+            assertThat(sessionManager.getSession(userId)).isSameAs(newSession);
+            assertThat(sessionManager.isParticipant(200L, userId)).isTrue();
+            verify(presenceRegistry, never()).offline(userId);
+        }
+
+        @Test
+        @DisplayName("현재 세션의 종료는 매핑과 채팅방 참여를 정리한다")
+        void should_clear_state_on_close_of_current_session() {
+            // given
+            long userId = 100L;
+            var session = WebSocketSessionStub.open();
+            sessionManager.registerOrReplaceSession(userId, session);
+            sessionManager.joinRoom(200L, userId);
+
+            // when
+            boolean cleared = sessionManager.unregisterSession(session);
+
+            // then
+            assertThat(cleared).isTrue();
+            assertThat(sessionManager.getSession(userId)).isNull();
+            assertThat(sessionManager.isParticipant(200L, userId)).isFalse();
+            verify(presenceRegistry).offline(userId);
+        }
+
+        @Test
+        @DisplayName("참여와 마지막 방 이탈이 동시에 일어나도 역색인이 누락되지 않아 연결 해제 시 모두 정리된다")
+        void should_keep_reverse_index_under_concurrent_join_and_leave() throws Exception {
+            long userId = 100L;
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                for (int i = 0; i < 2_000; i++) {
+                    sessionManager.registerOrReplaceSession(userId, WebSocketSessionStub.open());
+                    sessionManager.joinRoom(200L, userId);
+                    CyclicBarrier barrier = new CyclicBarrier(2);
+
+                    Future<?> join = executor.submit(() -> {
+                        barrier.await();
+                        sessionManager.joinRoom(300L, userId);
+                        return null;
+                    });
+                    Future<?> leave = executor.submit(() -> {
+                        barrier.await();
+                        sessionManager.leaveRoom(200L, userId);
+                        return null;
+                    });
+                    join.get(5, TimeUnit.SECONDS);
+                    leave.get(5, TimeUnit.SECONDS);
+
+                    sessionManager.forceDisconnect(userId, CloseStatus.NORMAL);
+
+                    assertThat(sessionManager.isParticipant(300L, userId)).as("iteration %d", i).isFalse();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
 }
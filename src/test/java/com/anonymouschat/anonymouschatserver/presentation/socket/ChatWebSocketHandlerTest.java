@@ -3,6 +3,9 @@ package com.anonymouschat.anonymouschatserver.presentation.socket;
 import com.anonymouschat.anonymouschatserver.infra.security.CustomPrincipal;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatInboundMessage;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
+import com.anonymouschat.anonymouschatserver.presentation.socket.support.DeliveredMessageTracker;
+import com.anonymouschat.anonymouschatserver.presentation.socket.support.HeartbeatWheel;
+import com.anonymouschat.anonymouschatserver.presentation.socket.support.OutboundSessionQueue;
 import com.anonymouschat.anonymouschatserver.presentation.socket.support.WebSocketRateLimitGuard;
 import com.anonymouschat.testsupport.security.PrincipalStub;
 import com.anonymouschat.testsupport.socket.WebSocketSessionStub;
@@ -36,12 +39,15 @@ class ChatWebSocketHandlerTest {
     @Mock private ChatMessageDispatcher dispatcher;
     @Mock private ChatSessionManager sessionManager;
     @Mock private ObjectMapper objectMapper;
+    @Mock private OutboundSessionQueue outboundQueue;
+    @Mock private HeartbeatWheel heartbeatWheel;
+    @Mock private DeliveredMessageTracker deliveredTracker;
 
     private ChatWebSocketHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new ChatWebSocketHandler(rateLimitGuard, dispatcher, sessionManager, objectMapper);
+        handler = new ChatWebSocketHandler(rateLimitGuard, dispatcher, sessionManager, objectMapper, outboundQueue, heartbeatWheel, deliveredTracker);
     }
 
     /**
@@ -58,12 +64,17 @@ class ChatWebSocketHandlerTest {
         void should_establish_connection_and_register_session() {
             // given
             WebSocketSession session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(100L));
+            WebSocketSession wrapped = WebSocketSessionStub.open();
+            when(outboundQueue.wrap(session)).thenReturn(wrapped);
 
             // when
             handler.afterConnectionEstablished(session);
 
             // then
-            verify(sessionManager).registerOrReplaceSession(eq(100L), any(WebSocketSession.class));
+            // 송신 큐로 감싼 세션이 등록되는지 검증.
+            verify(sessionManager).registerOrReplaceSession(100L, wrapped);
+            // 감싼 세션으로 heartbeat 가 예약되는지 검증.
+            verify(heartbeatWheel).register(100L, wrapped);
         }
 
         /**
@@ -94,12 +105,34 @@ class ChatWebSocketHandlerTest {
             // given
             WebSocketSession session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(100L));
 
+            when(sessionManager.unregisterSession(session)).thenReturn(true);
+
             // when
             handler.afterConnectionClosed(session, CloseStatus.NORMAL);
 
             // then
             verify(rateLimitGuard).clear(100L);
-            verify(sessionManager).forceDisconnect(100L, CloseStatus.NORMAL);
+            verify(deliveredTracker).clear(100L);
+            verify(heartbeatWheel).cancel(100L, session);
+            verify(sessionManager).unregisterSession(session);
+            verify(sessionManager, never()).forceDisconnect(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("afterConnectionClosed: 교체된 이전 세션의 종료는 새 세션의 상태를 건드리지 않는다")
+        void should_keep_replacement_state_on_stale_close() {
+            // given
+            WebSocketSession session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(100L));
+            when(sessionManager.unregisterSession(session)).thenReturn(false);
+
+            // when
+            handler.afterConnectionClosed(session, CloseStatus.NORMAL);
+
+            // then
+            verify(heartbeatWheel).cancel(100L, session);
+            verify(rateLimitGuard, never()).clear(anyLong());
+            verify(deliveredTracker, never()).clear(anyLong());
+            verify(sessionManager, never()).forceDisconnect(anyLong(), any());
         }
     }
 
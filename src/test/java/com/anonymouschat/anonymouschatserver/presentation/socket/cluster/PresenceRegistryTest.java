@@ -0,0 +1,114 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.cluster;
+
+import com.anonymouschat.anonymouschatserver.infra.config.ClusterProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PresenceRegistry 테스트")
+class PresenceRegistryTest {
+
+	@Mock private StringRedisTemplate redisTemplate;
+	@Mock private SetOperations<String, String> setOperations;
+	@Mock private ValueOperations<String, String> valueOperations;
+
+	private ClusterProperties properties;
+	private PresenceRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		properties = new ClusterProperties();
+		properties.setEnabled(true);
+		properties.setNodeName("node-a");
+		registry = new PresenceRegistry(redisTemplate, properties);
+	}
+
+	@Test
+	@DisplayName("다른 노드에 연결된 참여자를 노드별로 묶고, presence 가 없는 참여자는 정리한다")
+	void groups_remote_participants_by_node() {
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(setOperations.members("ws:room:100")).thenReturn(new LinkedHashSet<>(List.of("1", "2", "3", "4", "5")));
+		// 1: 제외 대상, 2: node-b, 3: node-a(자기 자신), 4: node-b, 5: presence 만료
+		when(valueOperations.multiGet(anyList())).thenReturn(Arrays.asList("node-b", "node-a", "node-b", null));
+
+		Map<String, List<Long>> targets = registry.locateRemote(100L, 1L);
+
+		assertThat(targets).containsOnlyKeys("node-b");
+		assertThat(targets.get("node-b")).containsExactly(2L, 4L);
+		verify(setOperations).remove("ws:room:100", (Object) "5");
+	}
+
+	@Test
+	@DisplayName("현재 노드에 연결된 사용자는 Redis 조회 없이 제외한다")
+	void skips_local_users() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		when(redisTemplate.opsForSet()).thenReturn(setOperations);
+		registry.online(1L);
+		when(setOperations.members("ws:room:100")).thenReturn(new LinkedHashSet<>(List.of("1")));
+
+		assertThat(registry.locateRemote(100L, null)).isEmpty();
+		verify(valueOperations).set("ws:presence:1", "node-a", Duration.ofSeconds(90));
+		verify(valueOperations, never()).multiGet(anyList());
+	}
+
+	@Test
+	@DisplayName("heartbeat 는 소유 노드 확인 스크립트로만 갱신하여 다른 노드로 옮긴 presence 를 덮어쓰지 않는다")
+	void heartbeat_refreshes_only_owned_presence() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		registry.online(1L);
+
+		registry.heartbeat();
+
+		verify(redisTemplate).execute(PresenceRegistry.REFRESH_IF_OWNER, List.of("ws:presence:1"), "node-a", "90");
+		verify(valueOperations, times(1)).set(anyString(), anyString(), any(Duration.class));
+		assertThat(PresenceRegistry.REFRESH_IF_OWNER.getScriptAsString())
+				.contains("owner == ARGV[1]");
+	}
+
+	@Test
+	@DisplayName("heartbeat 는 연결 수가 많으면 나누어 갱신한다")
+	void heartbeat_splits_large_batches() {
+		when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+		for (long userId = 1; userId <= PresenceRegistry.HEARTBEAT_BATCH + 1; userId++) {
+			registry.online(userId);
+		}
+
+		registry.heartbeat();
+
+		verify(redisTemplate, times(2)).execute(eq(PresenceRegistry.REFRESH_IF_OWNER), anyList(), eq("node-a"), eq("90"));
+	}
+
+	@Test
+	@DisplayName("클러스터 모드가 꺼져 있으면 Redis 를 사용하지 않는다")
+	void does_nothing_when_disabled() {
+		properties.setEnabled(false);
+
+		registry.online(1L);
+		registry.joinRoom(100L, 1L);
+		registry.heartbeat();
+
+		assertThat(registry.locateRemote(100L, null)).isEmpty();
+		verifyNoInteractions(redisTemplate);
+	}
+}
@@ -1,9 +1,7 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket.handler;
 
-import com.anonymouschat.anonymouschatserver.application.dto.MessageUseCaseDto;
-import com.anonymouschat.anonymouschatserver.application.event.MessageStoreFailure;
-import com.anonymouschat.anonymouschatserver.application.event.PushNotificationRequired;
-import com.anonymouschat.anonymouschatserver.application.usecase.MessageUseCase;
+import com.anonymouschat.anonymouschatserver.application.pipeline.MessageWriteBehindQueue;
+import com.anonymouschat.anonymouschatserver.common.id.SnowflakeIdGenerator;
 import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatInboundMessage;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
@@ -19,10 +17,12 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
 
+import java.time.Clock;
 import java.time.Instant;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -32,8 +32,7 @@ import static org.mockito.Mockito.*;
 /**
  * {@link ChatMessageHandler} 단위 테스트 (정리 버전).
  * - 브로드캐스트
- * - 메시지 저장/실패
- * - 푸시 알림 이벤트
+ * - write-behind 큐 적재
  * - 세션 종료 시나리오
  */
 @ExtendWith(MockitoExtension.class)
@@ -43,14 +42,12 @@ class ChatMessageHandlerTest {
 	@Mock private ChatSessionManager sessionManager;
 	@Mock private MessageBroadcaster broadcaster;
 	@Mock private WebSocketAccessGuard guard;
-	@Mock private MessageUseCase messageUseCase;
-	@Mock private ApplicationEventPublisher publisher;
+	@Mock private MessageWriteBehindQueue writeBehindQueue;
+	@Spy private SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(0, Clock.systemUTC());
 	@InjectMocks private ChatMessageHandler handler;
 
 	@Captor private ArgumentCaptor<ChatOutboundMessage> outboundMessageCaptor;
-	@Captor private ArgumentCaptor<MessageUseCaseDto.SendMessageRequest> sendMessageRequestCaptor;
-	@Captor private ArgumentCaptor<PushNotificationRequired> pushNotificationCaptor;
-	@Captor private ArgumentCaptor<MessageStoreFailure> messageStoreFailureCaptor;
+	@Captor private ArgumentCaptor<MessageWriteBehindQueue.PendingMessage> pendingMessageCaptor;
 
 	@Test
 	@DisplayName("핸들러가 CHAT 타입을 반환한다")
@@ -59,8 +56,8 @@ class ChatMessageHandlerTest {
 	}
 
 	@Test
-	@DisplayName("참여자가 보낸 메시지를 브로드캐스트하고 메시지를 저장한다")
-	void should_broadcast_and_save_message() {
+	@DisplayName("참여자가 보낸 메시지를 브로드캐스트하고 저장 큐에 적재한다")
+	void should_broadcast_and_enqueue_message() {
 		// given
 		long roomId = 100L, senderId = 1L;
 		String content = "안녕하세요";
@@ -68,8 +65,8 @@ class ChatMessageHandlerTest {
 		var inbound = new ChatInboundMessage(roomId, MessageType.CHAT, content);
 
 		when(guard.ensureParticipant(session, roomId, senderId)).thenReturn(true);
-		when(broadcaster.broadcastExcept(eq(roomId), any(ChatOutboundMessage.class), eq(senderId))).thenReturn(1);
-		when(messageUseCase.sendMessage(any())).thenReturn(1000L);
+		when(guard.ensureNotBlocked(roomId, senderId)).thenReturn(true);
+		when(broadcaster.broadcastExcept(eq(roomId), any(ChatOutboundMessage.class), eq(senderId))).thenReturn(new MessageBroadcaster.BroadcastResult(1, 0));
 
 		// when
 		handler.handle(session, inbound);
@@ -83,54 +80,51 @@ class ChatMessageHandlerTest {
 		assertThat(outbound.content()).isEqualTo(content);
 		assertThat(outbound.type()).isEqualTo(MessageType.CHAT);
 		assertThat(outbound.timestamp()).isNotNull();
-
-		// 저장 요청 검증
-		verify(messageUseCase).sendMessage(sendMessageRequestCaptor.capture());
-		MessageUseCaseDto.SendMessageRequest request = sendMessageRequestCaptor.getValue();
-		assertThat(request.roomId()).isEqualTo(roomId);
-		assertThat(request.senderId()).isEqualTo(senderId);
-		assertThat(request.content()).isEqualTo(content);
+		assertThat(outbound.messageId()).isNotNull();
+
+		// 저장 큐 적재 검증
+		verify(writeBehindQueue).enqueue(pendingMessageCaptor.capture());
+		MessageWriteBehindQueue.PendingMessage pending = pendingMessageCaptor.getValue();
+		assertThat(pending.messageId()).isEqualTo(outbound.messageId());
+		assertThat(pending.roomId()).isEqualTo(roomId);
+		assertThat(pending.senderId()).isEqualTo(senderId);
+		assertThat(pending.content()).isEqualTo(content);
+		assertThat(pending.sentAt()).isEqualTo(outbound.timestamp());
+		assertThat(pending.noOnlineReceivers()).isFalse();
 	}
 
 	@Test
-	@DisplayName("메시지 저장 성공 시, 온라인 수신자가 없을 때만 푸시 알림 이벤트 발행")
-	void should_publish_push_notification_only_when_no_online_receivers() {
+	@DisplayName("온라인 수신자가 없으면 푸시 알림 대상으로 적재한다")
+	void should_mark_pending_message_when_no_online_receivers() {
 		long roomId = 100L, senderId = 1L;
-		String content = "안녕하세요";
-		Long messageId = 1000L;
-		when(messageUseCase.sendMessage(any())).thenReturn(messageId);
-
-		// case1: 온라인 수신자 있음
-		handler.saveMessageAsync(roomId, senderId, content, false);
-		verify(publisher, never()).publishEvent(any(PushNotificationRequired.class));
-
-		// case2: 온라인 수신자 없음
-		reset(publisher);
-		handler.saveMessageAsync(roomId, senderId, content, true);
-		verify(publisher).publishEvent(pushNotificationCaptor.capture());
-		PushNotificationRequired event = pushNotificationCaptor.getValue();
-		assertThat(event.roomId()).isEqualTo(roomId);
-		assertThat(event.senderId()).isEqualTo(senderId);
-		assertThat(event.messageId()).isEqualTo(messageId);
-		assertThat(event.content()).isEqualTo(content);
+		var session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(senderId));
+		var inbound = new ChatInboundMessage(roomId, MessageType.CHAT, "안녕하세요");
+
+		when(guard.ensureParticipant(session, roomId, senderId)).thenReturn(true);
+		when(guard.ensureNotBlocked(roomId, senderId)).thenReturn(true);
+		when(broadcaster.broadcastExcept(eq(roomId), any(ChatOutboundMessage.class), eq(senderId))).thenReturn(new MessageBroadcaster.BroadcastResult(0, 0));
+
+		handler.handle(session, inbound);
+
+		verify(writeBehindQueue).enqueue(pendingMessageCaptor.capture());
+		assertThat(pendingMessageCaptor.getValue().noOnlineReceivers()).isTrue();
 	}
 
 	@Test
-	@DisplayName("메시지 저장 실패 시 실패 이벤트를 발행한다")
-	void should_publish_failure_event_when_message_save_fails() {
+	@DisplayName("다른 노드에 접속 중인 수신자에게 릴레이했으면 푸시 알림 대상으로 적재하지 않는다")
+	void should_not_mark_pending_message_when_relayed_to_remote_node() {
 		long roomId = 100L, senderId = 1L;
-		String content = "실패 케이스";
-		when(messageUseCase.sendMessage(any())).thenThrow(new RuntimeException("DB 오류"));
-
-		handler.saveMessageAsync(roomId, senderId, content, false);
-
-		verify(publisher).publishEvent(messageStoreFailureCaptor.capture());
-		MessageStoreFailure failure = messageStoreFailureCaptor.getValue();
-		assertThat(failure.roomId()).isEqualTo(roomId);
-		assertThat(failure.senderId()).isEqualTo(senderId);
-		assertThat(failure.content()).isEqualTo(content);
-		assertThat(failure.retryCount()).isZero();
-		assertThat(failure.failedAt()).isNotNull();
+		var session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(senderId));
+		var inbound = new ChatInboundMessage(roomId, MessageType.CHAT, "안녕하세요");
+
+		when(guard.ensureParticipant(session, roomId, senderId)).thenReturn(true);
+		when(guard.ensureNotBlocked(roomId, senderId)).thenReturn(true);
+		when(broadcaster.broadcastExcept(eq(roomId), any(ChatOutboundMessage.class), eq(senderId))).thenReturn(new MessageBroadcaster.BroadcastResult(0, 1));
+
+		handler.handle(session, inbound);
+
+		verify(writeBehindQueue).enqueue(pendingMessageCaptor.capture());
+		assertThat(pendingMessageCaptor.getValue().noOnlineReceivers()).isFalse();
 	}
 
 	@Test
@@ -145,8 +139,24 @@ class ChatMessageHandlerTest {
 		handler.handle(session, inbound);
 
 		verify(broadcaster, never()).broadcast(anyLong(), any());
-		verify(messageUseCase, never()).sendMessage(any());
-		verify(publisher, never()).publishEvent(any());
+		verify(writeBehindQueue, never()).enqueue(any());
+	}
+
+	@Test
+	@DisplayName("상대방과 차단 관계면 메시지를 전달하지 않고 세션은 유지한다")
+	void should_drop_message_if_blocked() {
+		long roomId = 100L, senderId = 1L;
+		var session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(senderId));
+		var inbound = new ChatInboundMessage(roomId, MessageType.CHAT, "안녕하세요");
+
+		when(guard.ensureParticipant(session, roomId, senderId)).thenReturn(true);
+		when(guard.ensureNotBlocked(roomId, senderId)).thenReturn(false);
+
+		handler.handle(session, inbound);
+
+		verify(broadcaster, never()).broadcastExcept(anyLong(), any(), anyLong());
+		verify(writeBehindQueue, never()).enqueue(any());
+		verify(sessionManager, never()).forceDisconnect(any(WebSocketSession.class), any());
 	}
 
 	@Test
@@ -157,6 +167,7 @@ class ChatMessageHandlerTest {
 		var inbound = new ChatInboundMessage(roomId, MessageType.CHAT, "안녕하세요");
 
 		when(guard.ensureParticipant(session, roomId, senderId)).thenReturn(true);
+		when(guard.ensureNotBlocked(roomId, senderId)).thenReturn(true);
 		doThrow(new RuntimeException("브로드캐스트 실패")).when(broadcaster).broadcastExcept(anyLong(), any(), eq(senderId));
 
 		handler.handle(session, inbound);
@@ -190,7 +201,8 @@ class ChatMessageHandlerTest {
 		Instant before = Instant.now();
 
 		when(guard.ensureParticipant(session, roomId, senderId)).thenReturn(true);
-		when(broadcaster.broadcastExcept(eq(roomId), any(ChatOutboundMessage.class), eq(senderId))).thenReturn(1);
+		when(guard.ensureNotBlocked(roomId, senderId)).thenReturn(true);
+		when(broadcaster.broadcastExcept(eq(roomId), any(ChatOutboundMessage.class), eq(senderId))).thenReturn(new MessageBroadcaster.BroadcastResult(1, 0));
 
 		handler.handle(session, inbound);
 
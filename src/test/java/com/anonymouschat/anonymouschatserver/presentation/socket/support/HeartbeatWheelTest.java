@@ -0,0 +1,117 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketHeartbeatProperties;
+import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
+import com.anonymouschat.testsupport.socket.WebSocketSessionStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HeartbeatWheel 테스트")
+class HeartbeatWheelTest {
+
+	@Mock private ChatSessionManager sessionManager;
+
+	private HeartbeatWheel wheel;
+
+	@BeforeEach
+	void setUp() {
+		WebSocketHeartbeatProperties properties = new WebSocketHeartbeatProperties();
+		properties.setPingIntervalMs(50);
+		properties.setIdleTimeoutMs(60_000);
+		properties.setTickMs(10);
+		properties.setWheelSize(8);
+		wheel = new HeartbeatWheel(sessionManager, properties);
+		wheel.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		wheel.stop();
+	}
+
+	@Test
+	@DisplayName("세션마다 Ping 을 주기적으로 보낸다")
+	void sends_ping_periodically() throws Exception {
+		WebSocketSession session = spy(WebSocketSessionStub.open());
+		when(sessionManager.getSession(1L)).thenReturn(session);
+		when(sessionManager.getLastActiveAt(1L)).thenReturn(Instant.now());
+
+		wheel.register(1L, session);
+
+		verify(session, timeout(2_000).atLeast(3)).sendMessage(any(PingMessage.class));
+		verify(sessionManager, never()).forceDisconnect(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("유휴 시간을 넘긴 세션은 연결을 종료하고 예약을 해제한다")
+	void disconnects_idle_session() {
+		WebSocketSession session = WebSocketSessionStub.open();
+		when(sessionManager.getSession(1L)).thenReturn(session);
+		when(sessionManager.getLastActiveAt(1L)).thenReturn(Instant.EPOCH);
+
+		wheel.register(1L, session);
+
+		verify(sessionManager, timeout(2_000)).forceDisconnect(1L, CloseStatus.SESSION_NOT_RELIABLE);
+		assertThat(wheel.size()).isZero();
+	}
+
+	@Test
+	@DisplayName("세션이 교체되었거나 정리되었으면 아무것도 하지 않고 예약을 해제한다")
+	void drops_replaced_session() throws Exception {
+		WebSocketSession session = spy(WebSocketSessionStub.open());
+		when(sessionManager.getSession(1L)).thenReturn(null);
+
+		wheel.register(1L, session);
+
+		verify(sessionManager, timeout(2_000)).getSession(1L);
+		Thread.sleep(50);
+		assertThat(wheel.size()).isZero();
+		verify(session, never()).sendMessage(any());
+		verify(sessionManager, never()).forceDisconnect(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("취소된 예약은 실행하지 않는다")
+	void cancelled_entry_is_skipped() throws Exception {
+		WebSocketSession session = spy(WebSocketSessionStub.open());
+
+		wheel.register(1L, session);
+		wheel.cancel(1L, session);
+		Thread.sleep(150);
+
+		verify(sessionManager, never()).getSession(anyLong());
+		verify(session, never()).sendMessage(any());
+	}
+
+	@Test
+	@DisplayName("교체된 이전 세션의 종료는 새 세션의 예약을 취소하지 않는다")
+	void stale_close_keeps_replacement_entry() {
+		WebSocketSession oldSession = new WebSocketSessionStub("old", null);
+		WebSocketSession newSession = new WebSocketSessionStub("new", null);
+		wheel.stop(); // 예약이 실행되어 정리되지 않도록 tick 을 멈춤
+
+		wheel.register(1L, oldSession);
+		wheel.register(1L, newSession);
+		wheel.cancel(1L, oldSession);
+
+		assertThat(wheel.size()).isEqualTo(1);
+
+		wheel.cancel(1L, newSession);
+		assertThat(wheel.size()).isZero();
+	}
+}
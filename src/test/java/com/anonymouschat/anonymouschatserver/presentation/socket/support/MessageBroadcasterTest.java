@@ -1,6 +1,9 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket.support;
 
 import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.ClusterEnvelope;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.ClusterRelay;
+import com.anonymouschat.anonymouschatserver.presentation.socket.cluster.PresenceRegistry;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
 import com.anonymouschat.testsupport.socket.WebSocketSessionStub;
@@ -11,12 +14,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -33,13 +40,48 @@ class MessageBroadcasterTest {
 	@Mock
 	private ChatSessionManager sessionManager;
 
+	@Mock
+	private PresenceRegistry presenceRegistry;
+
+	@Mock
+	private ClusterRelay clusterRelay;
+
 	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
+	private final DeliveredMessageTracker deliveredTracker = new DeliveredMessageTracker();
+
 	private MessageBroadcaster messageBroadcaster;
 
 	@BeforeEach
 	void setUp() {
-		messageBroadcaster = new MessageBroadcaster(sessionManager, objectMapper);
+		messageBroadcaster = new MessageBroadcaster(sessionManager, new OutboundFrameEncoder(objectMapper), presenceRegistry, clusterRelay, deliveredTracker);
+	}
+
+	@Test
+	@DisplayName("CHAT 메시지는 전송에 성공한 수신자에게만 전송 기록을 남긴다")
+	void should_track_delivered_chat_message_ids() {
+		// given
+		long roomId = 100L;
+		var s1 = WebSocketSessionStub.open();
+		var message = ChatOutboundMessage.builder()
+				              .messageId(500L)
+				              .type(MessageType.CHAT)
+				              .roomId(roomId)
+				              .senderId(9L)
+				              .content("안녕")
+				              .timestamp(Instant.now())
+				              .build();
+
+		when(sessionManager.getParticipants(roomId)).thenReturn(Set.of(1L, 2L));
+		when(sessionManager.getSession(1L)).thenReturn(s1);
+		when(sessionManager.getSession(2L)).thenReturn(null);
+
+		// when
+		messageBroadcaster.broadcast(roomId, message);
+
+		// then
+		assertThat(deliveredTracker.take(roomId, 1L)).isEqualTo(500L);
+		assertThat(deliveredTracker.take(roomId, 2L)).isNull();
 	}
 
 	@Test
@@ -56,7 +98,7 @@ class MessageBroadcasterTest {
 		when(sessionManager.getSession(2L)).thenReturn(s2);
 
 		// when
-		int deliveredCount = messageBroadcaster.broadcast(roomId, message);
+		int deliveredCount = messageBroadcaster.broadcast(roomId, message).delivered();
 
 		// then
 		assertThat(deliveredCount).isEqualTo(2);
@@ -64,6 +106,31 @@ class MessageBroadcasterTest {
 		assertThat(s2.getSentTextPayloads()).hasSize(1);
 	}
 
+	@Test
+	@DisplayName("모든 수신자에게 한 번 인코딩한 같은 프레임을 전송한다")
+	void should_share_single_encoded_frame_across_recipients() throws Exception {
+		// given
+		long roomId = 100L;
+		WebSocketSession s1 = mock(WebSocketSession.class);
+		WebSocketSession s2 = mock(WebSocketSession.class);
+		when(s1.isOpen()).thenReturn(true);
+		when(s2.isOpen()).thenReturn(true);
+		when(sessionManager.getParticipants(roomId)).thenReturn(Set.of(1L, 2L));
+		when(sessionManager.getSession(1L)).thenReturn(s1);
+		when(sessionManager.getSession(2L)).thenReturn(s2);
+
+		// when
+		messageBroadcaster.broadcast(roomId, createDummyOutboundMessage(roomId));
+
+		// then
+		ArgumentCaptor<TextMessage> c1 = ArgumentCaptor.forClass(TextMessage.class);
+		ArgumentCaptor<TextMessage> c2 = ArgumentCaptor.forClass(TextMessage.class);
+		verify(s1).sendMessage(c1.capture());
+		verify(s2).sendMessage(c2.capture());
+		assertThat(c1.getValue()).isSameAs(c2.getValue());
+		assertThat(c1.getValue().getPayload()).contains("테스트 메시지");
+	}
+
 	@Test
 	@DisplayName("특정 사용자를 제외하고 브로드캐스트한다")
 	void should_broadcast_to_all_except_excluded_user() {
@@ -77,7 +144,7 @@ class MessageBroadcasterTest {
 		when(sessionManager.getSession(1L)).thenReturn(s1);
 
 		// when
-		int deliveredCount = messageBroadcaster.broadcastExcept(roomId, message, excludedUserId);
+		int deliveredCount = messageBroadcaster.broadcastExcept(roomId, message, excludedUserId).delivered();
 
 		// then
 		assertThat(deliveredCount).isEqualTo(1);
@@ -103,7 +170,7 @@ class MessageBroadcasterTest {
 		when(sessionManager.getSession(3L)).thenReturn(null);
 
 		// when
-		int deliveredCount = messageBroadcaster.broadcast(roomId, message);
+		int deliveredCount = messageBroadcaster.broadcast(roomId, message).delivered();
 
 		// then
 		assertThat(deliveredCount).isEqualTo(1);
@@ -119,25 +186,25 @@ class MessageBroadcasterTest {
 		long roomId = 100L;
 		var message = createDummyOutboundMessage(roomId);
 
-		ObjectMapper failingMapper = mock(ObjectMapper.class);
-		// writeValueAsString 메소드가 JsonProcessingException 예외를 발생하므로 작성해야 하는 보일러플레이트
+		OutboundFrameEncoder failingEncoder = mock(OutboundFrameEncoder.class);
+		// encode 메소드가 JsonProcessingException 예외를 발생하므로 작성해야 하는 보일러플레이트
 		try {
-			when(failingMapper.writeValueAsString(same(message)))
+			when(failingEncoder.encode(same(message)))
 					.thenThrow(new JsonProcessingException("직렬화 실패") {});
 		} catch (JsonProcessingException e) {
 			throw new RuntimeException(e);
 		}
 
-		messageBroadcaster = new MessageBroadcaster(sessionManager, failingMapper);
+		messageBroadcaster = new MessageBroadcaster(sessionManager, failingEncoder, presenceRegistry, clusterRelay, deliveredTracker);
 
 		// when
-		int deliveredCount = messageBroadcaster.broadcast(roomId, message);
+		int deliveredCount = messageBroadcaster.broadcast(roomId, message).delivered();
 
 		// then
 		assertThat(deliveredCount).isEqualTo(0);
 		// 직렬화 시도는 해당 message로 한 번 실행됨
 		try {
-			verify(failingMapper).writeValueAsString(same(message));
+			verify(failingEncoder).encode(same(message));
 		} catch (JsonProcessingException ignored) {}
 		// 직렬화 단계에서 실패했으므로 세션 관련 상호작용 없음
 		verify(sessionManager, never()).getParticipants(anyLong());
@@ -161,13 +228,77 @@ class MessageBroadcasterTest {
 		doThrow(new IOException("Network error")).when(session).sendMessage(any());
 
 		// when
-		int deliveredCount = messageBroadcaster.broadcast(roomId, message);
+		int deliveredCount = messageBroadcaster.broadcast(roomId, message).delivered();
 
 		// then
 		assertThat(deliveredCount).isEqualTo(0);
 		verify(sessionManager).forceDisconnect(eq(userId), any());
 	}
 
+	@Test
+	@DisplayName("클러스터 모드에서는 다른 노드 참여자에게 노드별로 묶어 릴레이하고 로컬 전송 수와 구분해 센다")
+	void should_relay_to_remote_nodes_in_cluster_mode() {
+		// given
+		long roomId = 100L;
+		var local = WebSocketSessionStub.open();
+		var message = createDummyOutboundMessage(roomId);
+		Map<String, List<Long>> remote = Map.of("node-b", List.of(2L, 3L));
+
+		when(sessionManager.getParticipants(roomId)).thenReturn(Set.of(1L));
+		when(sessionManager.getSession(1L)).thenReturn(local);
+		when(presenceRegistry.isEnabled()).thenReturn(true);
+		when(presenceRegistry.locateRemote(roomId, 9L)).thenReturn(remote);
+		when(clusterRelay.publish(eq(remote), anyString(), eq(roomId), isNull())).thenReturn(2);
+
+		// when
+		MessageBroadcaster.BroadcastResult result = messageBroadcaster.broadcastExcept(roomId, message, 9L);
+
+		// then
+		assertThat(result.delivered()).isEqualTo(1);
+		assertThat(result.relayed()).isEqualTo(2);
+		verify(clusterRelay).publish(eq(remote), eq(local.getSentTextPayloads().get(0)), eq(roomId), isNull());
+	}
+
+	@Test
+	@DisplayName("다른 노드 조회에 실패해도 로컬 전송 결과는 유지한다")
+	void should_keep_local_delivery_when_remote_lookup_fails() {
+		// given
+		long roomId = 100L;
+		var local = WebSocketSessionStub.open();
+		var message = createDummyOutboundMessage(roomId);
+
+		when(sessionManager.getParticipants(roomId)).thenReturn(Set.of(1L));
+		when(sessionManager.getSession(1L)).thenReturn(local);
+		when(presenceRegistry.isEnabled()).thenReturn(true);
+		when(presenceRegistry.locateRemote(roomId, null)).thenThrow(new RuntimeException("redis down"));
+
+		// when
+		int deliveredCount = messageBroadcaster.broadcast(roomId, message).delivered();
+
+		// then
+		assertThat(deliveredCount).isEqualTo(1);
+		verify(clusterRelay, never()).publish(any(), anyString(), any(), any());
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 전달받은 메시지를 로컬 수신자에게 전송하고 전송 기록을 남긴다")
+	void should_deliver_relayed_message_to_local_recipients() {
+		// given
+		var s1 = WebSocketSessionStub.open();
+		when(sessionManager.getSession(1L)).thenReturn(s1);
+		when(sessionManager.getSession(2L)).thenReturn(null);
+
+		// when
+		int deliveredCount = messageBroadcaster.deliverLocal(new ClusterEnvelope("node-b", List.of(1L, 2L), "{}", 100L, 500L));
+
+		// then
+		assertThat(deliveredCount).isEqualTo(1);
+		assertThat(s1.getSentTextPayloads()).containsExactly("{}");
+		assertThat(deliveredTracker.take(100L, 1L)).isEqualTo(500L);
+		assertThat(deliveredTracker.take(100L, 2L)).isNull();
+		verify(sessionManager).forceDisconnect(eq(2L), any());
+	}
+
 	private ChatOutboundMessage createDummyOutboundMessage(Long roomId) {
 		return ChatOutboundMessage.builder()
 				       .type(MessageType.CHAT)
@@ -0,0 +1,178 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketOutboundProperties;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketOutboundProperties.OverflowPolicy;
+import com.anonymouschat.testsupport.socket.WebSocketSessionStub;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("OutboundSessionQueue 테스트")
+class OutboundSessionQueueTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private WebSocketOutboundProperties properties;
+	private OutboundSessionQueue outboundQueue;
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	/** 첫 전송에서 release 될 때까지 멈춰 있는 느린 클라이언트 */
+	private class SlowSession extends WebSocketSessionStub {
+		private final CountDownLatch started = new CountDownLatch(1);
+
+		SlowSession() {
+			super("slow", null);
+		}
+
+		@Override
+		public void sendMessage(WebSocketMessage<?> message) {
+			started.countDown();
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("send interrupted", e);
+			}
+			super.sendMessage(message);
+		}
+	}
+
+	@BeforeEach
+	void setUp() {
+		properties = new WebSocketOutboundProperties();
+		properties.setSenderThreads(2);
+		properties.setBufferSizeLimit(10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		outboundQueue.shutdown();
+	}
+
+	private OutboundSessionQueue create() {
+		outboundQueue = new OutboundSessionQueue(properties, meterRegistry);
+		return outboundQueue;
+	}
+
+	@Test
+	@DisplayName("메시지를 순서대로 비동기 전송한다")
+	void sends_in_order() throws Exception {
+		WebSocketSessionStub delegate = WebSocketSessionStub.open();
+		WebSocketSession session = create().wrap(delegate);
+
+		for (int i = 0; i < 5; i++) {
+			session.sendMessage(new TextMessage(String.valueOf(i)));
+		}
+
+		await().atMost(2, TimeUnit.SECONDS).until(() -> delegate.getSentTextPayloads().size() == 5);
+		assertThat(delegate.getSentTextPayloads()).containsExactly("0", "1", "2", "3", "4");
+		assertThat(outboundQueue.depth()).isZero();
+	}
+
+	@Test
+	@DisplayName("느린 클라이언트가 있어도 다른 세션 전송은 막히지 않는다")
+	void slow_session_does_not_block_others() throws Exception {
+		SlowSession slowDelegate = new SlowSession();
+		WebSocketSessionStub fastDelegate = WebSocketSessionStub.open();
+		WebSocketSession slow = create().wrap(slowDelegate);
+		WebSocketSession fast = outboundQueue.wrap(fastDelegate);
+
+		slow.sendMessage(new TextMessage("a"));
+		assertThat(slowDelegate.started.await(2, TimeUnit.SECONDS)).isTrue();
+		fast.sendMessage(new TextMessage("b"));
+
+		await().atMost(2, TimeUnit.SECONDS).until(() -> fastDelegate.getSentTextPayloads().size() == 1);
+		assertThat(slowDelegate.getSentTextPayloads()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("DROP_OLDEST 정책은 버퍼를 넘으면 오래된 메시지부터 버린다")
+	void drop_oldest_on_overflow() throws Exception {
+		SlowSession delegate = new SlowSession();
+		WebSocketSession session = create().wrap(delegate);
+
+		session.sendMessage(new TextMessage("first"));
+		assertThat(delegate.started.await(2, TimeUnit.SECONDS)).isTrue();
+		session.sendMessage(new TextMessage("aaaa"));
+		session.sendMessage(new TextMessage("bbbb"));
+		session.sendMessage(new TextMessage("cccc")); // 12 bytes > 10 → "aaaa" 버림
+
+		assertThat(outboundQueue.depth()).isEqualTo(2);
+		assertThat(meterRegistry.counter("chat.ws.outbound.dropped").count()).isEqualTo(1.0);
+
+		release.countDown();
+		await().atMost(2, TimeUnit.SECONDS).until(() -> delegate.getSentTextPayloads().size() == 3);
+		assertThat(delegate.getSentTextPayloads()).containsExactly("first", "bbbb", "cccc");
+	}
+
+	@Test
+	@DisplayName("DISCONNECT 정책은 버퍼를 넘으면 세션을 종료한다")
+	void disconnect_on_overflow() throws Exception {
+		properties.setOverflowPolicy(OverflowPolicy.DISCONNECT);
+		SlowSession delegate = new SlowSession();
+		WebSocketSession session = create().wrap(delegate);
+
+		session.sendMessage(new TextMessage("first"));
+		assertThat(delegate.started.await(2, TimeUnit.SECONDS)).isTrue();
+		session.sendMessage(new TextMessage("aaaaaa"));
+
+		assertThatThrownBy(() -> session.sendMessage(new TextMessage("bbbbbb")))
+				.isInstanceOf(SessionLimitExceededException.class);
+		assertThat(delegate.isOpen()).isFalse();
+		assertThat(delegate.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+		assertThat(outboundQueue.depth()).isZero();
+	}
+
+	@Test
+	@DisplayName("진행 중인 전송이 제한 시간을 넘기면 세션을 종료한다")
+	void disconnect_when_send_time_limit_exceeded() throws Exception {
+		properties.setSendTimeLimitMs(10);
+		properties.setBufferSizeLimit(1024);
+		SlowSession delegate = new SlowSession();
+		WebSocketSession session = create().wrap(delegate);
+
+		session.sendMessage(new TextMessage("first"));
+		assertThat(delegate.started.await(2, TimeUnit.SECONDS)).isTrue();
+		Thread.sleep(30);
+
+		assertThatThrownBy(() -> session.sendMessage(new TextMessage("second")))
+				.isInstanceOf(SessionLimitExceededException.class);
+		assertThat(meterRegistry.counter("chat.ws.outbound.disconnects").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("새 전송이 없어도 watchdog 이 멈춘 세션을 종료하고 송신 스레드를 다른 세션에 돌려준다")
+	void watchdog_frees_sender_thread_from_stalled_session() throws Exception {
+		properties.setSenderThreads(1);
+		properties.setBufferSizeLimit(1024);
+		properties.setSendTimeLimitMs(50);
+		properties.setWatchdogIntervalMs(10);
+		SlowSession slowDelegate = new SlowSession();
+		WebSocketSessionStub fastDelegate = WebSocketSessionStub.open();
+		WebSocketSession slow = create().wrap(slowDelegate);
+		WebSocketSession fast = outboundQueue.wrap(fastDelegate);
+
+		slow.sendMessage(new TextMessage("a"));
+		assertThat(slowDelegate.started.await(2, TimeUnit.SECONDS)).isTrue();
+		fast.sendMessage(new TextMessage("b"));
+
+		await().atMost(2, TimeUnit.SECONDS).until(() -> fastDelegate.getSentTextPayloads().size() == 1);
+		assertThat(slowDelegate.isOpen()).isFalse();
+		assertThat(slowDelegate.getCloseStatus()).isEqualTo(CloseStatus.SESSION_NOT_RELIABLE);
+		assertThat(meterRegistry.counter("chat.ws.outbound.disconnects").count()).isEqualTo(1.0);
+	}
+}
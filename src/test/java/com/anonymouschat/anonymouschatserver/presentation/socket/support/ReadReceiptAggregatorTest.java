@@ -0,0 +1,138 @@
+package com.anonymouschat.anonymouschatserver.presentation.socket.support;
+
+import com.anonymouschat.anonymouschatserver.application.dto.MessageUseCaseDto;
+import com.anonymouschat.anonymouschatserver.application.usecase.MessageUseCase;
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketReadReceiptProperties;
+import com.anonymouschat.anonymouschatserver.presentation.socket.ChatSessionManager;
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.ChatOutboundMessage;
+import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
+import com.anonymouschat.testsupport.security.PrincipalStub;
+import com.anonymouschat.testsupport.socket.WebSocketSessionStub;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadReceiptAggregator 테스트")
+class ReadReceiptAggregatorTest {
+
+	@Mock private MessageUseCase messageUseCase;
+	@Mock private MessageBroadcaster broadcaster;
+	@Mock private ChatSessionManager sessionManager;
+
+	@Captor private ArgumentCaptor<MessageUseCaseDto.MarkMessagesAsReadRequest> requestCaptor;
+	@Captor private ArgumentCaptor<ChatOutboundMessage> outboundCaptor;
+
+	private final DeliveredMessageTracker deliveredTracker = new DeliveredMessageTracker();
+
+	private ReadReceiptAggregator aggregator;
+	private WebSocketSession session;
+
+	@BeforeEach
+	void setUp() {
+		WebSocketReadReceiptProperties properties = new WebSocketReadReceiptProperties();
+		properties.setWindowMs(50);
+		properties.setFlushThreads(1);
+		aggregator = new ReadReceiptAggregator(messageUseCase, broadcaster, sessionManager, deliveredTracker, properties);
+		session = WebSocketSessionStub.withPrincipal(PrincipalStub.authenticated(1L));
+	}
+
+	@AfterEach
+	void tearDown() {
+		aggregator.shutdown();
+	}
+
+	@Test
+	@DisplayName("창 안에 들어온 READ 는 한 번의 읽음 처리와 한 번의 브로드캐스트로 합쳐진다")
+	void coalesces_reads_within_window() {
+		when(messageUseCase.markMessagesAsRead(any())).thenReturn(999L);
+
+		for (int i = 0; i < 10; i++) {
+			aggregator.submit(session, 100L, 1L);
+		}
+
+		verify(broadcaster, timeout(2_000)).broadcastExcept(eq(100L), outboundCaptor.capture(), eq(1L));
+		verify(messageUseCase, after(200).times(1)).markMessagesAsRead(requestCaptor.capture());
+		assertThat(requestCaptor.getValue().roomId()).isEqualTo(100L);
+		assertThat(requestCaptor.getValue().userId()).isEqualTo(1L);
+		assertThat(requestCaptor.getValue().readUpToMessageId()).isNull();
+		assertThat(outboundCaptor.getValue().type()).isEqualTo(MessageType.READ);
+		assertThat(outboundCaptor.getValue().lastReadMessageId()).isEqualTo(999L);
+		assertThat(aggregator.pendingCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("아직 저장되지 않았더라도 이 사용자에게 전송한 가장 큰 메시지까지 읽음 처리를 요청한다")
+	void reads_up_to_highest_delivered_message() {
+		when(messageUseCase.markMessagesAsRead(any())).thenReturn(502L);
+		deliveredTracker.record(100L, 1L, 502L);
+		deliveredTracker.record(100L, 1L, 501L);
+		deliveredTracker.record(200L, 1L, 900L);
+
+		aggregator.submit(session, 100L, 1L);
+
+		verify(messageUseCase, timeout(2_000)).markMessagesAsRead(requestCaptor.capture());
+		assertThat(requestCaptor.getValue().readUpToMessageId()).isEqualTo(502L);
+		assertThat(deliveredTracker.take(100L, 1L)).isNull();
+		assertThat(deliveredTracker.take(200L, 1L)).isEqualTo(900L);
+	}
+
+	@Test
+	@DisplayName("채팅방이 다르면 따로 처리한다")
+	void flushes_each_room_separately() {
+		when(messageUseCase.markMessagesAsRead(any())).thenReturn(999L);
+
+		aggregator.submit(session, 100L, 1L);
+		aggregator.submit(session, 200L, 1L);
+
+		verify(messageUseCase, timeout(2_000).times(2)).markMessagesAsRead(any());
+		verify(broadcaster, timeout(2_000)).broadcastExcept(eq(100L), any(), eq(1L));
+		verify(broadcaster, timeout(2_000)).broadcastExcept(eq(200L), any(), eq(1L));
+	}
+
+	@Test
+	@DisplayName("창이 지난 뒤 들어온 READ 는 다시 처리한다")
+	void processes_again_after_window() {
+		when(messageUseCase.markMessagesAsRead(any())).thenReturn(999L, 1000L);
+
+		aggregator.submit(session, 100L, 1L);
+		verify(messageUseCase, timeout(2_000).times(1)).markMessagesAsRead(any());
+
+		aggregator.submit(session, 100L, 1L);
+		verify(messageUseCase, timeout(2_000).times(2)).markMessagesAsRead(any());
+	}
+
+	@Test
+	@DisplayName("읽음 처리할 메시지가 없으면 브로드캐스트하지 않는다")
+	void does_not_broadcast_if_no_message_was_read() {
+		when(messageUseCase.markMessagesAsRead(any())).thenReturn(null);
+
+		aggregator.submit(session, 100L, 1L);
+
+		verify(messageUseCase, timeout(2_000)).markMessagesAsRead(any());
+		verify(broadcaster, after(100).never()).broadcastExcept(anyLong(), any(), anyLong());
+	}
+
+	@Test
+	@DisplayName("읽음 처리 중 예외가 발생하면 세션을 종료한다")
+	void closes_session_on_exception() {
+		when(messageUseCase.markMessagesAsRead(any())).thenThrow(new RuntimeException("DB error"));
+
+		aggregator.submit(session, 100L, 1L);
+
+		verify(sessionManager, timeout(2_000)).forceDisconnect(session, CloseStatus.SERVER_ERROR);
+		verify(broadcaster, never()).broadcastExcept(anyLong(), any(), anyLong());
+	}
+}
@@ -109,4 +109,22 @@ class WebSocketAccessGuardTest {
         assertThat(allowed).isFalse();
         verify(sessionManager).forceDisconnect(eq(session), any());
     }
+
+    /**
+     * 채팅방 상대방과 차단 관계일 때 `ensureNotBlocked` 메소드가 `false`를 반환하되 세션은 유지하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("CHAT 시 상대방과 차단 관계이면 전송을 거부하고 세션은 유지한다")
+    void should_deny_chat_when_blocked_with_opponent() {
+        // given
+        long roomId = 100L, userId = 1L;
+        when(chatRoomService.isBlockedWithOpponent(roomId, userId)).thenReturn(true);
+
+        // when
+        boolean allowed = accessGuard.ensureNotBlocked(roomId, userId);
+
+        // then
+        assertThat(allowed).isFalse();
+        verify(sessionManager, never()).forceDisconnect(any(WebSocketSession.class), any());
+    }
 }
@@ -1,13 +1,21 @@
 package com.anonymouschat.anonymouschatserver.presentation.socket.support;
 
+import com.anonymouschat.anonymouschatserver.infra.config.WebSocketRateLimitProperties;
 import com.anonymouschat.anonymouschatserver.presentation.socket.dto.MessageType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
 
 /**
  * {@link WebSocketRateLimitGuard}에 대한 단위 테스트 클래스입니다.
@@ -16,10 +24,16 @@ import static org.assertj.core.api.Assertions.assertThat;
 class WebSocketRateLimitGuardTest {
 
     private WebSocketRateLimitGuard rateLimitGuard;
+    private WebSocketRateLimitProperties properties;
+    private GlobalRateLimiter globalRateLimiter;
+    private SimpleMeterRegistry meterRegistry;
 
     @BeforeEach
     void setUp() {
-        rateLimitGuard = new WebSocketRateLimitGuard();
+        properties = new WebSocketRateLimitProperties();
+        globalRateLimiter = mock(GlobalRateLimiter.class);
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitGuard = new WebSocketRateLimitGuard(properties, globalRateLimiter, meterRegistry);
     }
 
     /**
@@ -103,4 +117,97 @@ class WebSocketRateLimitGuardTest {
         // clear 후에는 새 버킷이 생성되므로 다시 capacity 만큼 요청이 허용되어야 합니다.
         assertThat(rateLimitGuard.allow(userId, type)).as("클리어 후 첫 요청").isTrue();
     }
+
+    /**
+     * 설정 프로퍼티로 지정한 정책이 적용되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("설정된 정책의 용량을 사용한다")
+    void should_use_configured_policy() {
+        // given
+        properties.getPolicies().put(MessageType.CHAT, new WebSocketRateLimitProperties.Policy(3, 1));
+        rateLimitGuard = new WebSocketRateLimitGuard(properties, globalRateLimiter, meterRegistry);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimitGuard.allow(1L, MessageType.CHAT)).isTrue();
+        }
+        assertThat(rateLimitGuard.allow(1L, MessageType.CHAT)).isFalse();
+    }
+
+    @Test
+    @DisplayName("표현할 수 없는 용량의 정책은 거부한다")
+    void should_reject_invalid_policy() {
+        properties.getPolicies().put(MessageType.READ, new WebSocketRateLimitProperties.Policy(0, 1));
+
+        assertThatThrownBy(() -> new WebSocketRateLimitGuard(properties, globalRateLimiter, meterRegistry))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * 여러 스레드가 동시에 같은 버킷을 사용해도 용량만큼만 허용되는지 검증합니다.
+     */
+    @Test
+    @DisplayName("동시 요청에서도 용량을 초과해 허용하지 않는다")
+    void should_not_over_admit_under_contention() throws Exception {
+        // given
+        properties.getPolicies().put(MessageType.CHAT, new WebSocketRateLimitProperties.Policy(500, 0.001));
+        rateLimitGuard = new WebSocketRateLimitGuard(properties, globalRateLimiter, meterRegistry);
+        int threads = 8;
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when
+        for (int t = 0; t < threads; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 200; i++) {
+                    if (rateLimitGuard.allow(1L, MessageType.CHAT)) allowed.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(allowed.get()).isEqualTo(500);
+        assertThat(meterRegistry.counter("chat.ws.rate_limited", "type", "CHAT").count()).isEqualTo(1_100.0);
+    }
+
+    /**
+     * 전역 한도가 켜져 있으면 로컬 버킷을 통과해도 전역 한도 초과 시 거부하는지 검증합니다.
+     */
+    @Test
+    @DisplayName("전역 한도를 넘으면 거부한다")
+    void should_deny_when_global_limit_exceeded() {
+        // given
+        when(globalRateLimiter.isEnabled()).thenReturn(true);
+        when(globalRateLimiter.tryAcquire(1L)).thenReturn(true, false);
+
+        // when & then
+        assertThat(rateLimitGuard.allow(1L, MessageType.CHAT)).isTrue();
+        assertThat(rateLimitGuard.allow(1L, MessageType.CHAT)).isFalse();
+    }
+
+    /**
+     * 로컬 버킷에서 거부되면 전역 한도(Redis)를 조회하지 않는지 검증합니다.
+     */
+    @Test
+    @DisplayName("로컬에서 거부되면 전역 한도를 조회하지 않는다")
+    void should_not_consult_global_when_locally_denied() {
+        // given
+        when(globalRateLimiter.isEnabled()).thenReturn(true);
+        when(globalRateLimiter.tryAcquire(1L)).thenReturn(true);
+        for (int i = 0; i < 5; i++) {
+            rateLimitGuard.allow(1L, MessageType.ENTER);
+        }
+
+        // when
+        boolean allowed = rateLimitGuard.allow(1L, MessageType.ENTER);
+
+        // then
+        assertThat(allowed).isFalse();
+        verify(globalRateLimiter, times(5)).tryAcquire(1L);
+    }
 }